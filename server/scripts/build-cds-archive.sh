@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Builds the fast-startup (Spring AOT) jar, extracts it and records an AppCDS archive
+# from a training run.
+#
+# The training run refreshes the full application context (Hibernate, Flyway, Spring Data
+# repositories, MapStruct mappers) and exits before serving traffic, so it needs the same
+# database settings as a normal start (SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME, ...).
+# The archive is only valid for the JDK that produced it; rebuild it with the image.
+#
+# Usage: scripts/build-cds-archive.sh [--skip-build]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+OUT=target/fast-startup
+
+if [[ "${1:-}" != "--skip-build" ]]; then
+    sh ./mvnw -B -q -Pfast-startup -DskipTests package
+fi
+
+JAR=$(ls target/estate-hub-backend-*.jar | grep -v '\.original$' | head -n 1)
+APP_JAR="$OUT/$(basename "$JAR")"
+
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" \
+     -Dspring.aot.enabled=true \
+     -Dspring.context.exit=onRefresh \
+     -jar "$APP_JAR"
+
+echo
+echo "CDS archive written to $OUT/application.jsa"
+echo "Start with: java -XX:SharedArchiveFile=$OUT/application.jsa -Dspring.aot.enabled=true -jar $APP_JAR"
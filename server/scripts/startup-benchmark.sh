@@ -0,0 +1,124 @@
+#!/usr/bin/env bash
+# Startup benchmark for estate-hub-backend: time to first HTTP response and resident memory,
+# for the extracted jar in three modes:
+#   jar      plain JVM start
+#   aot      -Dspring.aot.enabled=true
+#   aot-cds  AOT plus the class-data-sharing archive (only if it exists)
+#
+# Prepare with scripts/build-cds-archive.sh. Needs the database settings of a normal start
+# (SPRING_DATASOURCE_URL, ...). Each run appends "mode,run,ttfr_ms,rss_mb,jvm_started_s" to
+# target/startup-benchmark.csv; the median per mode is printed at the end.
+#
+# Usage: scripts/startup-benchmark.sh [-n runs] [-p port] [--max-ttfr-ms N]
+#   --max-ttfr-ms  exit with status 1 if the median time to first request of the fastest
+#                  available mode exceeds N (for CI regression tracking)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=5
+PORT=18080
+MAX_TTFR_MS=""
+while [[ $# -gt 0 ]]; do
+    case "$1" in
+        -n) RUNS="$2"; shift 2 ;;
+        -p) PORT="$2"; shift 2 ;;
+        --max-ttfr-ms) MAX_TTFR_MS="$2"; shift 2 ;;
+        *) echo "Unknown argument: $1" >&2; exit 2 ;;
+    esac
+done
+
+OUT=target/fast-startup
+APP_JAR=$(ls "$OUT"/estate-hub-backend-*.jar 2>/dev/null | head -n 1 || true)
+if [[ -z "$APP_JAR" ]]; then
+    echo "No extracted jar in $OUT; run scripts/build-cds-archive.sh first" >&2
+    exit 2
+fi
+
+RESULTS=target/startup-benchmark.csv
+LOG=target/startup-benchmark.log
+TIMEOUT_S=120
+
+MODES=(jar aot)
+if [[ -f "$OUT/application.jsa" ]]; then
+    MODES+=(aot-cds)
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+jvm_flags() {
+    case "$1" in
+        jar) echo "" ;;
+        aot) echo "-Dspring.aot.enabled=true" ;;
+        aot-cds) echo "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$OUT/application.jsa -Xlog:cds=off" ;;
+    esac
+}
+
+# One start: launch, poll until the first HTTP response (any status), sample RSS, stop
+run_once() {
+    local mode="$1" run="$2"
+    local start pid code="000" elapsed rss_kb started
+
+    start=$(now_ms)
+    # shellcheck disable=SC2046
+    java $(jvm_flags "$mode") -jar "$APP_JAR" --server.port="$PORT" >"$LOG" 2>&1 &
+    pid=$!
+
+    while [[ "$code" == "000" ]]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited during startup ($mode, run $run); see $LOG" >&2
+            exit 1
+        fi
+        if (( $(now_ms) - start > TIMEOUT_S * 1000 )); then
+            kill "$pid"
+            echo "No response after ${TIMEOUT_S}s ($mode, run $run); see $LOG" >&2
+            exit 1
+        fi
+        code=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health" || true)
+        [[ "$code" == "000" ]] && sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "$LOG" | grep -o '[0-9.]*' | head -n 1 || true)
+    if (( run > 0 )); then
+        echo "$mode,$run,$elapsed,$(( rss_kb / 1024 )),${started:-}" >>"$RESULTS"
+    fi
+    printf '%-8s run %-2s  first request %6d ms  rss %5d MB  jvm started in %ss\n' \
+        "$mode" "$run" "$elapsed" "$(( rss_kb / 1024 ))" "${started:-?}"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+echo "mode,run,ttfr_ms,rss_mb,jvm_started_s" >"$RESULTS"
+for mode in "${MODES[@]}"; do
+    # Run 0 only warms the OS page cache so the first measured run is not an outlier
+    run_once "$mode" 0 >/dev/null
+    for run in $(seq 1 "$RUNS"); do
+        run_once "$mode" "$run"
+    done
+done
+
+echo
+printf '%-8s %16s %10s\n' mode "median ttfr ms" "median rss"
+best=""
+for mode in "${MODES[@]}"; do
+    ttfr=$(grep "^$mode," "$RESULTS" | cut -d, -f3 | median)
+    rss=$(grep "^$mode," "$RESULTS" | cut -d, -f4 | median)
+    printf '%-8s %16s %7s MB\n' "$mode" "$ttfr" "$rss"
+    if [[ -z "$best" || "$ttfr" -lt "$best" ]]; then
+        best="$ttfr"
+    fi
+done
+
+if [[ -n "$MAX_TTFR_MS" && "$best" -gt "$MAX_TTFR_MS" ]]; then
+    echo "Startup regression: best median time to first request ${best} ms > ${MAX_TTFR_MS} ms" >&2
+    exit 1
+fi
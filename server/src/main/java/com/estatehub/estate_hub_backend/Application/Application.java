@@ -23,16 +23,17 @@ public class Application {
     @NotNull(message = "Application date is required")
     private LocalDateTime applicationDate;
 
+    @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     @NotNull(message = "Status is required")
     private ApplicationStatus status;
 
     // Relations
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "property_id", nullable = false)
     private Property property;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tenant_id", nullable = false)
     private Tenant tenant;
 
@@ -0,0 +1,83 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Contrôleur REST pour la gestion des candidatures
+ */
+@RestController
+@RequestMapping("/api/applications")
+@Validated
+@CrossOrigin(origins = "*")
+public class ApplicationController {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    /**
+     * Récupère la boîte de réception d'un gestionnaire (toutes ses propriétés)
+     * Pagination par curseur (keyset) : passer nextCursor de la réponse précédente
+     * 
+     * @param managerClerkId ID Clerk du gestionnaire
+     * @param status Statut des candidatures (défaut: PENDING)
+     * @param cursor Curseur de la page précédente
+     * @param size Taille de page (défaut: 20)
+     * @return Page de candidatures
+     */
+    @GetMapping("/manager/{managerClerkId}")
+    public ResponseEntity<ApplicationInboxPage> getManagerApplications(
+            @PathVariable String managerClerkId,
+            @RequestParam(defaultValue = "PENDING") ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return ResponseEntity.ok(applicationService.getManagerInbox(managerClerkId, status, cursor, size));
+    }
+
+    /**
+     * Approuve ou rejette en une fois plusieurs candidatures en attente d'un gestionnaire
+     * Une seule requête UPDATE ; chaque candidature reçoit son propre résultat
+     * 
+     * @param managerClerkId ID Clerk du gestionnaire
+     * @param request IDs des candidatures (500 max) et statut cible (APPROVED ou REJECTED)
+     * @return Résultat par candidature: UPDATED, NOT_PENDING ou NOT_FOUND
+     */
+    @PostMapping("/manager/{managerClerkId}/status")
+    public ResponseEntity<List<BulkStatusResult>> transitionManagerApplications(
+            @PathVariable String managerClerkId,
+            @Valid @RequestBody BulkStatusRequest request) {
+
+        return ResponseEntity.ok(applicationService.transitionApplications(
+                managerClerkId, request.applicationIds(), request.status()));
+    }
+
+    /**
+     * Paramètre invalide (curseur illisible, statut cible non autorisé...) : 400 plutôt que 500
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public void handleInvalidArgument(IllegalArgumentException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
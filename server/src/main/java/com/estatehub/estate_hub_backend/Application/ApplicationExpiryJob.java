@@ -0,0 +1,71 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+/**
+ * Expires applications left PENDING for longer than the configured time, in small chunks,
+ * one transaction per chunk. Rows are never loaded as entities: each chunk is one UPDATE
+ * that returns what it changed, published as one BulkApplicationStatusChangedEvent per chunk.
+ */
+@Component
+public class ApplicationExpiryJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationExpiryJob.class);
+
+    private final ApplicationStatusStore statusStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pendingTimeToLive;
+    private final int chunkSize;
+
+    public ApplicationExpiryJob(ApplicationStatusStore statusStore,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${estatehub.applications.pending-ttl:P30D}") Duration pendingTimeToLive,
+                                @Value("${estatehub.applications.expiry-chunk-size:500}") int chunkSize) {
+        this.statusStore = statusStore;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.pendingTimeToLive = pendingTimeToLive;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${estatehub.applications.expiry-cron:0 15 * * * *}")
+    public void expireStaleApplications() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(pendingTimeToLive));
+        int total = 0;
+        int expired;
+        do {
+            expired = transactionTemplate.execute(status -> expireChunk(cutoff));
+            total += expired;
+        } while (expired == chunkSize);
+
+        if (total > 0) {
+            log.info("Expired {} applications pending since before {}", total, cutoff);
+        }
+    }
+
+    private int expireChunk(Timestamp cutoff) {
+        List<ApplicationStatusStore.Transitioned> expired = statusStore.expireChunk(cutoff, chunkSize);
+        if (!expired.isEmpty()) {
+            eventPublisher.publishEvent(new BulkApplicationStatusChangedEvent(expired.stream()
+                    .map(row -> new ApplicationStatusChangedEvent(row.applicationId(), row.propertyId(), row.managerId(),
+                            ApplicationStatus.PENDING, ApplicationStatus.EXPIRED))
+                    .toList()));
+        }
+        return expired.size();
+    }
+}
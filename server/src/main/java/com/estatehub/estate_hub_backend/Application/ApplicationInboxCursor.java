@@ -0,0 +1,44 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Keyset position in an application inbox ordered by (applicationDate DESC, id DESC).
+ * Serialized as "{applicationDate}_{id}" so clients can pass it back verbatim.
+ */
+public record ApplicationInboxCursor(LocalDateTime applicationDate, Long id) {
+
+    /**
+     * Position before the first row: every real row sorts after it.
+     */
+    public static final ApplicationInboxCursor START =
+            new ApplicationInboxCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static ApplicationInboxCursor of(ApplicationSummary summary) {
+        return new ApplicationInboxCursor(summary.applicationDate(), summary.id());
+    }
+
+    public static ApplicationInboxCursor parse(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return START;
+        }
+        int separator = cursor.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid inbox cursor: " + cursor);
+        }
+        try {
+            return new ApplicationInboxCursor(
+                    LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid inbox cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return applicationDate + "_" + id;
+    }
+}
@@ -0,0 +1,12 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.util.List;
+
+/**
+ * One keyset page of an application inbox.
+ * nextCursor is null when there are no more rows.
+ */
+public record ApplicationInboxPage(
+    List<ApplicationSummary> content,
+    String nextCursor
+) {}
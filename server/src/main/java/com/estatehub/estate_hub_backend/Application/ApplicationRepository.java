@@ -0,0 +1,62 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+@Repository
+public interface ApplicationRepository extends JpaRepository<Application, Long> {
+
+    /**
+     * Inbox of a property, newest first, starting strictly after the given keyset position.
+     * Served by idx_applications_property_status_date.
+     */
+    @Query("""
+        SELECT new com.estatehub.estate_hub_backend.Application.ApplicationSummary(
+            a.id, a.applicationDate, a.status, a.applicantName, a.applicantEmail,
+            a.applicantPhone, p.id, p.name, a.tenant.id)
+        FROM Application a JOIN a.property p
+        WHERE p.id = :propertyId
+          AND a.status = :status
+          AND (a.applicationDate < :afterDate
+               OR (a.applicationDate = :afterDate AND a.id < :afterId))
+        ORDER BY a.applicationDate DESC, a.id DESC
+        """)
+    List<ApplicationSummary> findPropertyInbox(
+        @Param("propertyId") Long propertyId,
+        @Param("status") ApplicationStatus status,
+        @Param("afterDate") LocalDateTime afterDate,
+        @Param("afterId") Long afterId,
+        Pageable limit
+    );
+
+    /**
+     * Inbox across all properties of a manager, newest first, in a single query.
+     * Walks idx_properties_manager_id then idx_applications_property_status_date.
+     */
+    @Query("""
+        SELECT new com.estatehub.estate_hub_backend.Application.ApplicationSummary(
+            a.id, a.applicationDate, a.status, a.applicantName, a.applicantEmail,
+            a.applicantPhone, p.id, p.name, a.tenant.id)
+        FROM Application a JOIN a.property p JOIN p.manager m
+        WHERE m.clerkId = :managerClerkId
+          AND a.status = :status
+          AND (a.applicationDate < :afterDate
+               OR (a.applicationDate = :afterDate AND a.id < :afterId))
+        ORDER BY a.applicationDate DESC, a.id DESC
+        """)
+    List<ApplicationSummary> findManagerInbox(
+        @Param("managerClerkId") String managerClerkId,
+        @Param("status") ApplicationStatus status,
+        @Param("afterDate") LocalDateTime afterDate,
+        @Param("afterId") Long afterId,
+        Pageable limit
+    );
+}
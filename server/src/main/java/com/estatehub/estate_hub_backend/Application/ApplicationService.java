@@ -0,0 +1,27 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.util.List;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+/**
+ * Service interface for Application management operations
+ * Defines contract for application-related business logic
+ */
+public interface ApplicationService {
+
+    /**
+     * Keyset page of a property's applications with the given status
+     */
+    ApplicationInboxPage getPropertyInbox(Long propertyId, ApplicationStatus status, String cursor, int size);
+
+    /**
+     * Keyset page of the applications received by a manager across all their properties
+     */
+    ApplicationInboxPage getManagerInbox(String managerClerkId, ApplicationStatus status, String cursor, int size);
+
+    /**
+     * Approve or reject many of a manager's PENDING applications at once, with one result per id
+     */
+    List<BulkStatusResult> transitionApplications(String managerClerkId, List<Long> applicationIds, ApplicationStatus status);
+}
@@ -0,0 +1,115 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerService;
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+@Service
+@Transactional
+public class ApplicationServiceImpl implements ApplicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationServiceImpl.class);
+
+    // Withdrawal belongs to the tenant and expiry to ApplicationExpiryJob
+    private static final Set<ApplicationStatus> BULK_TARGETS = EnumSet.of(ApplicationStatus.APPROVED, ApplicationStatus.REJECTED);
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationStatusStore statusStore;
+    private final ManagerService managerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationServiceImpl(ApplicationRepository applicationRepository,
+                                  ApplicationStatusStore statusStore,
+                                  ManagerService managerService,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.applicationRepository = applicationRepository;
+        this.statusStore = statusStore;
+        this.managerService = managerService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApplicationInboxPage getPropertyInbox(Long propertyId, ApplicationStatus status, String cursor, int size) {
+        log.debug("Loading {} applications for property {} after cursor {}", status, propertyId, cursor);
+
+        ApplicationInboxCursor after = ApplicationInboxCursor.parse(cursor);
+        List<ApplicationSummary> rows = applicationRepository.findPropertyInbox(
+                propertyId, status, after.applicationDate(), after.id(), PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApplicationInboxPage getManagerInbox(String managerClerkId, ApplicationStatus status, String cursor, int size) {
+        log.debug("Loading {} applications for manager {} after cursor {}", status, managerClerkId, cursor);
+
+        ApplicationInboxCursor after = ApplicationInboxCursor.parse(cursor);
+        List<ApplicationSummary> rows = applicationRepository.findManagerInbox(
+                managerClerkId, status, after.applicationDate(), after.id(), PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
+    @Override
+    public List<BulkStatusResult> transitionApplications(String managerClerkId, List<Long> applicationIds,
+                                                         ApplicationStatus status) {
+        log.debug("Moving {} applications of manager {} to {}", applicationIds.size(), managerClerkId, status);
+
+        if (!BULK_TARGETS.contains(status)) {
+            throw new IllegalArgumentException("Applications can only be bulk moved to " + BULK_TARGETS);
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(applicationIds));
+        Long managerId = managerService.findManagerIdByClerkId(managerClerkId);
+
+        Map<Long, BulkStatusResult> results = new HashMap<>();
+        List<ApplicationStatusChangedEvent> changes = new ArrayList<>();
+        for (ApplicationStatusStore.Transitioned row : statusStore.transitionPending(managerId, ids, status)) {
+            changes.add(new ApplicationStatusChangedEvent(
+                    row.applicationId(), row.propertyId(), row.managerId(), ApplicationStatus.PENDING, status));
+            results.put(row.applicationId(), new BulkStatusResult(row.applicationId(), BulkStatusResult.Outcome.UPDATED, status));
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new BulkApplicationStatusChangedEvent(changes));
+        }
+
+        // Only the ids that did not move need a second look, to tell "not pending" from "not found"
+        List<Long> unchanged = ids.stream().filter(id -> !results.containsKey(id)).toList();
+        if (!unchanged.isEmpty()) {
+            for (ApplicationStatusStore.CurrentStatus current : statusStore.findCurrentStatuses(managerId, unchanged)) {
+                results.put(current.applicationId(), new BulkStatusResult(
+                        current.applicationId(), BulkStatusResult.Outcome.NOT_PENDING, current.status()));
+            }
+        }
+        return ids.stream()
+                .map(id -> results.getOrDefault(id, new BulkStatusResult(id, BulkStatusResult.Outcome.NOT_FOUND, null)))
+                .toList();
+    }
+
+    // Private helper methods
+
+    /**
+     * One extra row is fetched to know whether another page exists without a COUNT query.
+     */
+    private ApplicationInboxPage toPage(List<ApplicationSummary> rows, int size) {
+        if (rows.size() <= size) {
+            return new ApplicationInboxPage(rows, null);
+        }
+        List<ApplicationSummary> content = rows.subList(0, size);
+        String nextCursor = ApplicationInboxCursor.of(content.get(size - 1)).encode();
+        return new ApplicationInboxPage(List.copyOf(content), nextCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+/**
+ * Published inside the transaction that changes an application's status.
+ * previousStatus is null when the application is first submitted.
+ */
+public record ApplicationStatusChangedEvent(
+    Long applicationId,
+    Long propertyId,
+    Long managerId,
+    ApplicationStatus previousStatus,
+    ApplicationStatus newStatus
+) {}
@@ -0,0 +1,101 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+/**
+ * Set-based application status transitions: one statement per batch, whatever its size.
+ * Only PENDING applications move; the status check in the WHERE clause makes concurrent
+ * transitions of the same application resolve to a single winner.
+ */
+@Repository
+public class ApplicationStatusStore {
+
+    // Ownership is part of the match: another manager's application is reported as not found
+    private static final String TRANSITION_FOR_MANAGER = """
+        UPDATE applications a SET status = ?, updated_at = now()
+        FROM properties p
+        WHERE a.id = ANY(?)
+          AND a.status = 'PENDING'
+          AND p.id = a.property_id
+          AND p.manager_id = ?
+        RETURNING a.id, a.property_id, p.manager_id
+        """;
+
+    private static final String FIND_CURRENT_FOR_MANAGER = """
+        SELECT a.id, a.status
+        FROM applications a
+        JOIN properties p ON p.id = a.property_id
+        WHERE a.id = ANY(?) AND p.manager_id = ?
+        """;
+
+    // Oldest first through idx_applications_pending_date; SKIP LOCKED leaves rows being reviewed to the next run
+    private static final String EXPIRE_CHUNK = """
+        UPDATE applications a SET status = 'EXPIRED', updated_at = now()
+        FROM properties p
+        WHERE a.id IN (
+                SELECT s.id FROM applications s
+                WHERE s.status = 'PENDING' AND s.application_date < ?
+                ORDER BY s.application_date, s.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+          AND a.status = 'PENDING'
+          AND p.id = a.property_id
+        RETURNING a.id, a.property_id, p.manager_id
+        """;
+
+    /**
+     * An application whose status was changed
+     */
+    public record Transitioned(Long applicationId, Long propertyId, Long managerId) {}
+
+    /**
+     * Current status of an application that was not transitioned
+     */
+    public record CurrentStatus(Long applicationId, ApplicationStatus status) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ApplicationStatusStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Move the manager's PENDING applications among the given ids to the new status
+     */
+    public List<Transitioned> transitionPending(Long managerId, List<Long> applicationIds, ApplicationStatus newStatus) {
+        return jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(TRANSITION_FOR_MANAGER);
+            statement.setString(1, newStatus.name());
+            statement.setArray(2, con.createArrayOf("bigint", applicationIds.toArray()));
+            statement.setLong(3, managerId);
+            return statement;
+        }, (rs, row) -> new Transitioned(rs.getLong("id"), rs.getLong("property_id"), rs.getLong("manager_id")));
+    }
+
+    /**
+     * Status of those of the given applications that belong to the manager
+     */
+    public List<CurrentStatus> findCurrentStatuses(Long managerId, List<Long> applicationIds) {
+        return jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(FIND_CURRENT_FOR_MANAGER);
+            statement.setArray(1, con.createArrayOf("bigint", applicationIds.toArray()));
+            statement.setLong(2, managerId);
+            return statement;
+        }, (rs, row) -> new CurrentStatus(rs.getLong("id"), ApplicationStatus.valueOf(rs.getString("status"))));
+    }
+
+    /**
+     * Expire up to limit PENDING applications submitted before the cutoff, oldest first
+     */
+    public List<Transitioned> expireChunk(Timestamp cutoff, int limit) {
+        return jdbcTemplate.query(EXPIRE_CHUNK,
+                (rs, row) -> new Transitioned(rs.getLong("id"), rs.getLong("property_id"), rs.getLong("manager_id")),
+                cutoff, limit);
+    }
+}
@@ -0,0 +1,22 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.time.LocalDateTime;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+/**
+ * Lean read model of an application for inbox listings.
+ * Built directly by JPQL constructor expressions: no Property, Location,
+ * Manager or Tenant entity is hydrated.
+ */
+public record ApplicationSummary(
+    Long id,
+    LocalDateTime applicationDate,
+    ApplicationStatus status,
+    String applicantName,
+    String applicantEmail,
+    String applicantPhone,
+    Long propertyId,
+    String propertyName,
+    Long tenantId
+) {}
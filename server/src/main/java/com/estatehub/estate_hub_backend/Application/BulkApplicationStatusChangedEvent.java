@@ -0,0 +1,10 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.util.List;
+
+/**
+ * Published once per set-based transition (a manager's bulk review, an expiry chunk) instead
+ * of one ApplicationStatusChangedEvent per row, so listeners can aggregate, e.g. one counter
+ * update per manager rather than per application.
+ */
+public record BulkApplicationStatusChangedEvent(List<ApplicationStatusChangedEvent> changes) {}
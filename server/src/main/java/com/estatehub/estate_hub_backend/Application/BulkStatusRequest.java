@@ -0,0 +1,18 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import java.util.List;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkStatusRequest(
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 500, message = "At most 500 applications can be updated at once")
+    List<@NotNull Long> applicationIds,
+
+    @NotNull(message = "Target status is required")
+    ApplicationStatus status
+) {}
@@ -0,0 +1,20 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+/**
+ * Outcome of a bulk transition for one application; status is its status after the request
+ * (null when not found)
+ */
+public record BulkStatusResult(
+    Long applicationId,
+    Outcome outcome,
+    ApplicationStatus status
+) {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_PENDING,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,15 @@
+package com.estatehub.estate_hub_backend.Lease;
+
+import com.estatehub.estate_hub_backend.enums.LeaseStatus;
+
+/**
+ * Published inside the transaction that changes a lease's status.
+ * previousStatus is null when the lease is first created.
+ */
+public record LeaseStatusChangedEvent(
+    Long leaseId,
+    Long propertyId,
+    Long managerId,
+    LeaseStatus previousStatus,
+    LeaseStatus newStatus
+) {}
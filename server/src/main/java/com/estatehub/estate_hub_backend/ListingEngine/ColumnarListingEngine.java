@@ -0,0 +1,253 @@
+package com.estatehub.estate_hub_backend.ListingEngine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.PropertyFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory filter engine over available listings, held as primitive columns (see ListingColumns).
+ * Enabled with estatehub.listing-engine.enabled=true; the database answers otherwise, and also
+ * until the initial load has completed.
+ *
+ * Readers work on an immutable snapshot: base columns, small delta columns holding listings
+ * written since the base was built, and the sorted ids of base rows those writes made stale.
+ * Writers copy the delta, and fold everything into new base columns once it grows past a
+ * fraction of the base.
+ */
+@Component
+@ConditionalOnProperty(prefix = "estatehub.listing-engine", name = "enabled", havingValue = "true")
+public class ColumnarListingEngine {
+
+    private static final int MIN_REBUILD_THRESHOLD = 64;
+    private static final int REBUILD_DIVISOR = 10;
+
+    // Rough heap cost of a dictionary entry (node, boxed code, String header) beyond its characters
+    private static final int DICTIONARY_ENTRY_OVERHEAD_BYTES = 96;
+
+    private record State(ListingColumns base, ListingColumns delta, long[] stale) {}
+
+    /**
+     * Memory held by the engine; column bytes exclude the city dictionary
+     */
+    public record MemoryReport(int listings, long columnBytes, long dictionaryBytes, double bytesPerListing) {}
+
+    // City name to code; codes are never reused so rows never need re-encoding
+    private final Map<String, Integer> cityCodes = new ConcurrentHashMap<>();
+    private volatile State state = new State(ListingColumns.EMPTY, ListingColumns.EMPTY, new long[0]);
+    private volatile boolean loaded;
+
+    public ColumnarListingEngine(MeterRegistry meterRegistry) {
+        Gauge.builder("estatehub.listing-engine.listings", this, engine -> engine.memoryReport().listings())
+                .description("Available listings held by the columnar listing engine")
+                .register(meterRegistry);
+        Gauge.builder("estatehub.listing-engine.bytes-per-listing", this, engine -> engine.memoryReport().bytesPerListing())
+                .description("Heap bytes per listing held by the columnar listing engine")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the engine is loaded and a page can be ordered from the columns: by id (the default) or by price
+     */
+    public boolean supports(Pageable pageable) {
+        if (!loaded) {
+            return false;
+        }
+        List<Sort.Order> orders = pageable.getSort().toList();
+        return orders.isEmpty()
+                || (orders.size() == 1 && (orders.get(0).getProperty().equals("id")
+                                           || orders.get(0).getProperty().equals("pricePerMonth")));
+    }
+
+    /**
+     * Ids of the available listings matching the filter, one page of them in the requested order.
+     * Price ties are ordered arbitrarily but stably for a given snapshot.
+     */
+    public Page<Long> search(PropertyFilter filter, Pageable pageable) {
+        State current = state;
+        ListingQuery query = compile(filter);
+        ListingColumns base = current.base();
+        ListingColumns delta = current.delta();
+
+        int[] rows = new int[base.size + delta.size];
+        int baseCount = base.scan(query, rows);
+        int[] deltaRows = new int[delta.size];
+        int deltaCount = delta.scan(query, deltaRows);
+
+        Sort.Order order = pageable.getSort().isSorted() ? pageable.getSort().toList().get(0) : Sort.Order.asc("id");
+        boolean byPrice = order.getProperty().equals("pricePerMonth");
+
+        // Sort keys: the id itself, or the price in the high bits and the row (deltas after base) in the low bits
+        long[] keys = new long[baseCount + deltaCount];
+        int matched = 0;
+        for (int i = 0; i < baseCount; i++) {
+            int row = rows[i];
+            if (current.stale().length > 0 && Arrays.binarySearch(current.stale(), base.ids[row]) >= 0) {
+                continue;
+            }
+            keys[matched++] = byPrice ? ((long) base.priceCents[row] << 32) | row : base.ids[row];
+        }
+        for (int i = 0; i < deltaCount; i++) {
+            int row = deltaRows[i];
+            keys[matched++] = byPrice ? ((long) delta.priceCents[row] << 32) | (base.size + row) : delta.ids[row];
+        }
+        Arrays.sort(keys, 0, matched);
+
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        long offset = pageable.getOffset();
+        for (long i = offset; i < matched && ids.size() < pageable.getPageSize(); i++) {
+            long key = keys[order.isAscending() ? (int) i : matched - 1 - (int) i];
+            if (!byPrice) {
+                ids.add(key);
+            } else {
+                int row = (int) key;
+                ids.add(row < base.size ? base.ids[row] : delta.ids[row - base.size]);
+            }
+        }
+        return new PageImpl<>(ids, pageable, matched);
+    }
+
+    /**
+     * Replace the whole engine, used for the initial load
+     */
+    public synchronized void load(Collection<ListingSnapshot> listings) {
+        ListingColumns.Builder builder = new ListingColumns.Builder(listings.size());
+        for (ListingSnapshot listing : listings) {
+            add(builder, listing);
+        }
+        state = new State(builder.build(), ListingColumns.EMPTY, new long[0]);
+        loaded = true;
+    }
+
+    public synchronized void upsert(ListingSnapshot listing) {
+        State current = state;
+        ListingColumns.Builder delta = copyDeltaWithout(current.delta(), listing.id());
+        add(delta, listing);
+        publish(current.base(), delta.build(), staleWith(current, listing.id()));
+    }
+
+    public synchronized void remove(Long propertyId) {
+        State current = state;
+        boolean inDelta = current.delta().indexOf(propertyId) >= 0;
+        boolean inBase = current.base().indexOf(propertyId) >= 0;
+        if (!inDelta && !inBase) {
+            return;
+        }
+        ListingColumns delta = inDelta ? copyDeltaWithout(current.delta(), propertyId).build() : current.delta();
+        publish(current.base(), delta, staleWith(current, propertyId));
+    }
+
+    public MemoryReport memoryReport() {
+        State current = state;
+        int listings = current.base().size + current.delta().size - current.stale().length;
+        long columnBytes = (long) (current.base().ids.length + current.delta().ids.length) * ListingColumns.BYTES_PER_ROW
+                + (long) current.stale().length * Long.BYTES;
+        long dictionaryBytes = 0;
+        for (String city : cityCodes.keySet()) {
+            dictionaryBytes += DICTIONARY_ENTRY_OVERHEAD_BYTES + city.length();
+        }
+        double perListing = listings == 0 ? 0 : (double) (columnBytes + dictionaryBytes) / listings;
+        return new MemoryReport(listings, columnBytes, dictionaryBytes, perListing);
+    }
+
+    ListingQuery compile(PropertyFilter filter) {
+        int city = -1;
+        if (filter.city() != null) {
+            Integer code = cityCodes.get(filter.city());
+            if (code == null) {
+                return ListingQuery.NONE;
+            }
+            city = code;
+        }
+        int minBeds = filter.minBeds() != null ? filter.minBeds() : Integer.MIN_VALUE;
+        return new ListingQuery(
+                filter.minPrice() != null ? toCents(filter.minPrice(), RoundingMode.CEILING) : Integer.MIN_VALUE,
+                filter.maxPrice() != null ? toCents(filter.maxPrice(), RoundingMode.FLOOR) : Integer.MAX_VALUE,
+                minBeds,
+                filter.minBaths() != null ? filter.minBaths() : Float.NEGATIVE_INFINITY,
+                filter.propertyType() != null ? filter.propertyType().ordinal() : -1,
+                city);
+    }
+
+    private void add(ListingColumns.Builder builder, ListingSnapshot listing) {
+        int city = listing.city() != null ? cityCodes.computeIfAbsent(listing.city(), name -> cityCodes.size()) : -1;
+        builder.add(listing.id(),
+                toCents(listing.pricePerMonth(), RoundingMode.HALF_UP),
+                (byte) Math.min(Byte.MAX_VALUE, listing.beds() != null ? listing.beds() : 0),
+                listing.baths() != null ? listing.baths() : 0f,
+                (byte) (listing.propertyType() != null ? listing.propertyType().ordinal() : -1),
+                city);
+    }
+
+    private static ListingColumns.Builder copyDeltaWithout(ListingColumns delta, long propertyId) {
+        ListingColumns.Builder builder = new ListingColumns.Builder(delta.size + 1);
+        for (int row = 0; row < delta.size; row++) {
+            if (delta.ids[row] != propertyId) {
+                builder.addRow(delta, row);
+            }
+        }
+        return builder;
+    }
+
+    private static long[] staleWith(State current, long propertyId) {
+        long[] stale = current.stale();
+        if (current.base().indexOf(propertyId) < 0) {
+            return stale;
+        }
+        int insertAt = Arrays.binarySearch(stale, propertyId);
+        if (insertAt >= 0) {
+            return stale;
+        }
+        insertAt = -insertAt - 1;
+        long[] copy = new long[stale.length + 1];
+        System.arraycopy(stale, 0, copy, 0, insertAt);
+        copy[insertAt] = propertyId;
+        System.arraycopy(stale, insertAt, copy, insertAt + 1, stale.length - insertAt);
+        return copy;
+    }
+
+    private void publish(ListingColumns base, ListingColumns delta, long[] stale) {
+        int threshold = Math.max(MIN_REBUILD_THRESHOLD, base.size / REBUILD_DIVISOR);
+        if (delta.size + stale.length <= threshold) {
+            state = new State(base, delta, stale);
+            return;
+        }
+        ListingColumns.Builder merged = new ListingColumns.Builder(base.size - stale.length + delta.size);
+        for (int row = 0; row < base.size; row++) {
+            if (Arrays.binarySearch(stale, base.ids[row]) < 0) {
+                merged.addRow(base, row);
+            }
+        }
+        for (int row = 0; row < delta.size; row++) {
+            merged.addRow(delta, row);
+        }
+        state = new State(merged.build(), ListingColumns.EMPTY, new long[0]);
+    }
+
+    // Clamped rather than overflowed: a price beyond ~21 million a month sorts and filters as the maximum
+    private static int toCents(BigDecimal price, RoundingMode rounding) {
+        if (price == null) {
+            return 0;
+        }
+        BigDecimal cents = price.movePointRight(2).setScale(0, rounding);
+        return cents.max(BigDecimal.valueOf(Integer.MIN_VALUE)).min(BigDecimal.valueOf(Integer.MAX_VALUE)).intValueExact();
+    }
+}
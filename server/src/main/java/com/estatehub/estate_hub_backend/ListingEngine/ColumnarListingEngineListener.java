@@ -0,0 +1,82 @@
+package com.estatehub.estate_hub_backend.ListingEngine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+
+/**
+ * Loads the columnar listing engine at startup and keeps it in step with committed property writes.
+ * A write committed while the load is reading may be missing from what it read, and applying it
+ * to the engine then would be overwritten by the load: such writes are only noted during the load
+ * and re-read once the loaded columns are in place.
+ */
+@Component
+@ConditionalOnProperty(prefix = "estatehub.listing-engine", name = "enabled", havingValue = "true")
+public class ColumnarListingEngineListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarListingEngineListener.class);
+
+    private final ColumnarListingEngine engine;
+    private final ListingSnapshotStore listingSnapshotStore;
+    // Guarded by this; writes committed before the load starts are noted too
+    private boolean loading = true;
+    private final Set<Long> changedWhileLoading = new LinkedHashSet<>();
+
+    public ColumnarListingEngineListener(ColumnarListingEngine engine, ListingSnapshotStore listingSnapshotStore) {
+        this.engine = engine;
+        this.listingSnapshotStore = listingSnapshotStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ListingSnapshot> listings = new ArrayList<>();
+        listingSnapshotStore.forEachAvailable(listings::add);
+        engine.load(listings);
+
+        List<Long> replay;
+        synchronized (this) {
+            loading = false;
+            replay = List.copyOf(changedWhileLoading);
+            changedWhileLoading.clear();
+        }
+        replay.forEach(this::refresh);
+        ColumnarListingEngine.MemoryReport report = engine.memoryReport();
+        log.info("Columnar listing engine loaded with {} listings: {} column bytes, {} dictionary bytes, {} bytes per listing",
+                report.listings(), report.columnBytes(), report.dictionaryBytes(),
+                String.format("%.1f", report.bytesPerListing()));
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        synchronized (this) {
+            if (loading) {
+                changedWhileLoading.add(event.propertyId());
+                return;
+            }
+        }
+        if (event.type() == PropertyChangedEvent.ChangeType.UNAVAILABLE) {
+            engine.remove(event.propertyId());
+            return;
+        }
+        refresh(event.propertyId());
+    }
+
+    private void refresh(Long propertyId) {
+        listingSnapshotStore.findById(propertyId)
+                .filter(ListingSnapshot::available)
+                .ifPresentOrElse(engine::upsert, () -> engine.remove(propertyId));
+    }
+}
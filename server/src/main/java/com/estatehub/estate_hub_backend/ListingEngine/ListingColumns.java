@@ -0,0 +1,141 @@
+package com.estatehub.estate_hub_backend.ListingEngine;
+
+import java.util.Arrays;
+
+/**
+ * Immutable column store of listings: one primitive array per filtered attribute, one row per listing.
+ * Prices are in cents (clamped to int), beds clamped to a byte, property type as its ordinal and
+ * city as a CityDictionary code. Built sorted by id so a listing can be found by binary search.
+ */
+final class ListingColumns {
+
+    /**
+     * Bytes of column data per row: id, price, beds, baths, type, city
+     */
+    static final int BYTES_PER_ROW = Long.BYTES + Integer.BYTES + Byte.BYTES + Float.BYTES + Byte.BYTES + Integer.BYTES;
+
+    static final ListingColumns EMPTY = new Builder(0).build();
+
+    final int size;
+    final long[] ids;
+    final int[] priceCents;
+    final byte[] beds;
+    final float[] baths;
+    final byte[] types;
+    final int[] cities;
+
+    private ListingColumns(int size, long[] ids, int[] priceCents, byte[] beds, float[] baths, byte[] types, int[] cities) {
+        this.size = size;
+        this.ids = ids;
+        this.priceCents = priceCents;
+        this.beds = beds;
+        this.baths = baths;
+        this.types = types;
+        this.cities = cities;
+    }
+
+    /**
+     * Row of a listing, or a negative value when absent
+     */
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    /**
+     * Writes the matching row numbers to out (at least size long) and returns how many matched.
+     * Branch-free over the rows so the JIT can keep the loop tight: every row is stored and the
+     * write position only advances on a match.
+     */
+    int scan(ListingQuery query, int[] out) {
+        int minPrice = query.minPriceCents();
+        int maxPrice = query.maxPriceCents();
+        int minBeds = query.minBeds();
+        float minBaths = query.minBaths();
+        int type = query.type();
+        int city = query.city();
+        boolean anyType = type < 0;
+        boolean anyCity = city < 0;
+
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int price = priceCents[i];
+            boolean match = price >= minPrice & price <= maxPrice
+                    & beds[i] >= minBeds
+                    & baths[i] >= minBaths
+                    & (anyType | types[i] == type)
+                    & (anyCity | cities[i] == city);
+            out[count] = i;
+            count += match ? 1 : 0;
+        }
+        return count;
+    }
+
+    static final class Builder {
+
+        private int size;
+        private long[] ids;
+        private int[] priceCents;
+        private byte[] beds;
+        private float[] baths;
+        private byte[] types;
+        private int[] cities;
+
+        Builder(int capacity) {
+            ids = new long[capacity];
+            priceCents = new int[capacity];
+            beds = new byte[capacity];
+            baths = new float[capacity];
+            types = new byte[capacity];
+            cities = new int[capacity];
+        }
+
+        Builder add(long id, int price, byte bedCount, float bathCount, byte type, int city) {
+            if (size == ids.length) {
+                int capacity = Math.max(16, size * 2);
+                ids = Arrays.copyOf(ids, capacity);
+                priceCents = Arrays.copyOf(priceCents, capacity);
+                beds = Arrays.copyOf(beds, capacity);
+                baths = Arrays.copyOf(baths, capacity);
+                types = Arrays.copyOf(types, capacity);
+                cities = Arrays.copyOf(cities, capacity);
+            }
+            ids[size] = id;
+            priceCents[size] = price;
+            beds[size] = bedCount;
+            baths[size] = bathCount;
+            types[size] = type;
+            cities[size] = city;
+            size++;
+            return this;
+        }
+
+        Builder addRow(ListingColumns columns, int row) {
+            return add(columns.ids[row], columns.priceCents[row], columns.beds[row], columns.baths[row],
+                    columns.types[row], columns.cities[row]);
+        }
+
+        /**
+         * Columns trimmed to size and ordered by id
+         */
+        ListingColumns build() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+
+            ListingColumns sorted = new ListingColumns(size, new long[size], new int[size], new byte[size],
+                    new float[size], new byte[size], new int[size]);
+            for (int i = 0; i < size; i++) {
+                int row = order[i];
+                sorted.ids[i] = ids[row];
+                sorted.priceCents[i] = priceCents[row];
+                sorted.beds[i] = beds[row];
+                sorted.baths[i] = baths[row];
+                sorted.types[i] = types[row];
+                sorted.cities[i] = cities[row];
+            }
+            return sorted;
+        }
+    }
+}
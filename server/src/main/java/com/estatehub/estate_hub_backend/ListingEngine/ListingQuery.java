@@ -0,0 +1,9 @@
+package com.estatehub.estate_hub_backend.ListingEngine;
+
+/**
+ * A PropertyFilter translated to column units; type and city are -1 when not filtered
+ */
+record ListingQuery(int minPriceCents, int maxPriceCents, int minBeds, float minBaths, int type, int city) {
+
+    static final ListingQuery NONE = new ListingQuery(1, 0, Integer.MAX_VALUE, Float.POSITIVE_INFINITY, -1, -1);
+}
@@ -0,0 +1,17 @@
+package com.estatehub.estate_hub_backend.ListingStream;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+
+public record ListingChangeDto(
+    Long propertyId,
+    Long managerId,
+    ChangeType type,
+    Boolean isAvailable,
+    BigDecimal pricePerMonth,
+    Double latitude,
+    Double longitude,
+    LocalDateTime changedAt
+) {}
@@ -0,0 +1,259 @@
+package com.estatehub.estate_hub_backend.ListingStream;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes committed listing changes to SSE subscribers (a map viewport or a manager).
+ *
+ * The committing thread only enqueues the event id. A single dispatcher thread loads the
+ * listing once, finds the interested subscribers and offers the message to each bounded
+ * buffer; a small sender pool drains buffers that have pending messages. A subscriber whose
+ * buffer overflows is disconnected rather than slowing anyone else down; EventSource
+ * clients reconnect and reload the current state.
+ *
+ * A viewport hears about a listing that is, or was, inside it: the dispatcher remembers where
+ * each available listing was last seen, so a listing that moves out, is withdrawn or is deleted
+ * still reaches the viewports showing its pin.
+ */
+@Component
+public class ListingStreamBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ListingStreamBroadcaster.class);
+
+    private static final int DISPATCH_QUEUE_CAPACITY = 10_000;
+
+    private record Position(double latitude, double longitude) {}
+
+    private final ListingSnapshotStore listingSnapshotStore;
+    private final Duration connectionTimeout;
+    private final int bufferCapacity;
+
+    private final Set<ListingSubscriber> viewportSubscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<ListingSubscriber>> managerSubscribers = new ConcurrentHashMap<>();
+    // Last known position of each available listing; only read and written on the dispatcher thread
+    private final Map<Long, Position> positions = new HashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService dispatcher;
+    private final ExecutorService senders;
+
+    public ListingStreamBroadcaster(ListingSnapshotStore listingSnapshotStore,
+                                    @Value("${estatehub.listing-stream.connection-timeout:PT30M}") Duration connectionTimeout,
+                                    @Value("${estatehub.listing-stream.buffer-size:64}") int bufferCapacity,
+                                    @Value("${estatehub.listing-stream.sender-threads:4}") int senderThreads) {
+        this.listingSnapshotStore = listingSnapshotStore;
+        this.connectionTimeout = connectionTimeout;
+        this.bufferCapacity = bufferCapacity;
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DISPATCH_QUEUE_CAPACITY), namedThreads("listing-stream-dispatch"),
+                (task, executor) -> log.warn("Listing stream dispatch queue full, dropping a change event"));
+        // At most one queued task per subscriber, so the unbounded queue is bounded by the subscriber count
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), namedThreads("listing-stream-send"));
+    }
+
+    public SseEmitter subscribe(ListingSubscriber.Filter filter) {
+        return subscribe(filter, new SseEmitter(connectionTimeout.toMillis()));
+    }
+
+    SseEmitter subscribe(ListingSubscriber.Filter filter, SseEmitter emitter) {
+        ListingSubscriber subscriber = new ListingSubscriber(filter, emitter, bufferCapacity);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+        if (filter.isManager()) {
+            managerSubscribers.compute(filter.managerId(), (id, subscribers) -> {
+                Set<ListingSubscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                target.add(subscriber);
+                return target;
+            });
+        } else {
+            viewportSubscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return viewportSubscribers.size() + managerSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Loads the positions of available listings, ahead of any change in the dispatch queue
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPositions() {
+        dispatcher.execute(this::rememberPositions);
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        dispatcher.execute(() -> dispatch(event));
+    }
+
+    /**
+     * Keeps idle connections alive through proxies and detects dead ones
+     */
+    @Scheduled(fixedDelayString = "${estatehub.listing-stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        ListingSubscriber.Message heartbeat = new ListingSubscriber.Message(0, null);
+        viewportSubscribers.forEach(subscriber -> offer(subscriber, heartbeat));
+        managerSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> offer(subscriber, heartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        viewportSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        managerSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    void rememberPositions() {
+        try {
+            listingSnapshotStore.forEachAvailable(listing -> remember(listing.id(), listing));
+            log.info("Listing stream loaded the positions of {} listings", positions.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to load listing positions; viewports only hear about listings entering them", e);
+        }
+    }
+
+    void dispatch(PropertyChangedEvent event) {
+        try {
+            ListingSnapshot listing = listingSnapshotStore.findById(event.propertyId()).orElse(null);
+            Position previous = remember(event.propertyId(), listing);
+            ListingChangeDto change = new ListingChangeDto(
+                    event.propertyId(),
+                    event.managerId(),
+                    event.type(),
+                    listing != null ? listing.available() : Boolean.FALSE,
+                    listing != null ? listing.pricePerMonth() : null,
+                    listing != null ? listing.latitude() : null,
+                    listing != null ? listing.longitude() : null,
+                    LocalDateTime.now());
+            ListingSubscriber.Message message = new ListingSubscriber.Message(sequence.incrementAndGet(), change);
+
+            for (ListingSubscriber subscriber : viewportSubscribers) {
+                if (subscriber.filter.contains(change.latitude(), change.longitude())
+                        || (previous != null && subscriber.filter.contains(previous.latitude(), previous.longitude()))) {
+                    offer(subscriber, message);
+                }
+            }
+            if (event.managerId() != null) {
+                Set<ListingSubscriber> subscribers = managerSubscribers.get(event.managerId());
+                if (subscribers != null) {
+                    subscribers.forEach(subscriber -> offer(subscriber, message));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch change of property {}", event.propertyId(), e);
+        }
+    }
+
+    /**
+     * Records where the listing now is (nowhere once unavailable or deleted) and returns where it was
+     */
+    private Position remember(Long propertyId, ListingSnapshot listing) {
+        if (listing == null || !listing.available() || listing.latitude() == null || listing.longitude() == null) {
+            return positions.remove(propertyId);
+        }
+        return positions.put(propertyId, new Position(listing.latitude(), listing.longitude()));
+    }
+
+    private void offer(ListingSubscriber subscriber, ListingSubscriber.Message message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(message)) {
+            log.debug("Disconnecting slow listing stream subscriber ({} messages buffered)", subscriber.buffer.size());
+            close(subscriber);
+            return;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(ListingSubscriber subscriber) {
+        try {
+            ListingSubscriber.Message message;
+            while (!subscriber.closed.get() && (message = subscriber.buffer.poll()) != null) {
+                if (message.data() == null) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(message.id()))
+                            .name("listing-change")
+                            .data(message.data(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // A message offered between the last poll and the flag reset would otherwise wait for the next one
+        if (!subscriber.closed.get() && !subscriber.buffer.isEmpty() && subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void close(ListingSubscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            unregister(subscriber);
+            subscriber.buffer.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void unregister(ListingSubscriber subscriber) {
+        subscriber.closed.set(true);
+        if (subscriber.filter.isManager()) {
+            managerSubscribers.computeIfPresent(subscriber.filter.managerId(), (id, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        } else {
+            viewportSubscribers.remove(subscriber);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
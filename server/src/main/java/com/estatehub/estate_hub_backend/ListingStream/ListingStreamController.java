@@ -0,0 +1,79 @@
+package com.estatehub.estate_hub_backend.ListingStream;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+
+/**
+ * Contrôleur REST pour le flux temps réel des changements d'annonces (Server-Sent Events)
+ */
+@RestController
+@RequestMapping("/api/properties")
+@Validated
+@CrossOrigin(origins = "*")
+public class ListingStreamController {
+
+    @Autowired
+    private ListingStreamBroadcaster listingStreamBroadcaster;
+
+    @Autowired
+    private ManagerService managerService;
+
+    /**
+     * Ouvre un flux SSE des changements de disponibilité et de prix des annonces,
+     * soit pour une zone de carte (minLat, maxLat, minLng, maxLng), soit pour un gestionnaire
+     * Un client trop lent est déconnecté et doit se reconnecter puis recharger les annonces
+     * 
+     * @param minLat Latitude minimale de la zone
+     * @param maxLat Latitude maximale de la zone
+     * @param minLng Longitude minimale de la zone (peut dépasser maxLng si la zone traverse l'antiméridien)
+     * @param maxLng Longitude maximale de la zone
+     * @param managerClerkId ID Clerk du gestionnaire (à la place d'une zone)
+     * @return Flux d'événements "listing-change"
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamListingChanges(
+            @RequestParam(required = false) @DecimalMin("-90.0") @DecimalMax("90.0") Double minLat,
+            @RequestParam(required = false) @DecimalMin("-90.0") @DecimalMax("90.0") Double maxLat,
+            @RequestParam(required = false) @DecimalMin("-180.0") @DecimalMax("180.0") Double minLng,
+            @RequestParam(required = false) @DecimalMin("-180.0") @DecimalMax("180.0") Double maxLng,
+            @RequestParam(required = false) String managerClerkId) {
+
+        if (managerClerkId != null) {
+            Long managerId = managerService.findManagerIdByClerkId(managerClerkId);
+            return listingStreamBroadcaster.subscribe(ListingSubscriber.Filter.manager(managerId));
+        }
+        if (minLat == null || maxLat == null || minLng == null || maxLng == null) {
+            throw new IllegalArgumentException("Either a viewport (minLat, maxLat, minLng, maxLng) or a managerClerkId is required");
+        }
+        if (minLat > maxLat) {
+            throw new IllegalArgumentException("minLat must not exceed maxLat");
+        }
+        return listingStreamBroadcaster.subscribe(ListingSubscriber.Filter.viewport(minLat, maxLat, minLng, maxLng));
+    }
+
+    /**
+     * Paramètre invalide (zone incomplète ou inversée, coordonnées hors limites) : 400 plutôt que 500
+     */
+    @ExceptionHandler({ IllegalArgumentException.class, ConstraintViolationException.class })
+    public void handleInvalidArgument(RuntimeException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.estatehub.estate_hub_backend.ListingStream;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One SSE connection: its filter, its bounded outgoing buffer and its emitter.
+ * A subscriber holds no thread; a sender task is scheduled only while its buffer is non-empty.
+ */
+final class ListingSubscriber {
+
+    /**
+     * Either a viewport (bounding box, may cross the antimeridian) or a single manager
+     */
+    record Filter(Double minLat, Double maxLat, Double minLng, Double maxLng, Long managerId) {
+
+        static Filter viewport(double minLat, double maxLat, double minLng, double maxLng) {
+            return new Filter(minLat, maxLat, minLng, maxLng, null);
+        }
+
+        static Filter manager(Long managerId) {
+            return new Filter(null, null, null, null, managerId);
+        }
+
+        boolean isManager() {
+            return managerId != null;
+        }
+
+        boolean contains(Double latitude, Double longitude) {
+            if (latitude == null || longitude == null || latitude < minLat || latitude > maxLat) {
+                return false;
+            }
+            return minLng <= maxLng
+                    ? longitude >= minLng && longitude <= maxLng
+                    : longitude >= minLng || longitude <= maxLng;
+        }
+    }
+
+    /**
+     * An event ready to send; data is null for heartbeats
+     */
+    record Message(long id, ListingChangeDto data) {}
+
+    final Filter filter;
+    final SseEmitter emitter;
+    final ArrayBlockingQueue<Message> buffer;
+    final AtomicBoolean sending = new AtomicBoolean();
+    final AtomicBoolean closed = new AtomicBoolean();
+
+    ListingSubscriber(Filter filter, SseEmitter emitter, int bufferCapacity) {
+        this.filter = filter;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+}
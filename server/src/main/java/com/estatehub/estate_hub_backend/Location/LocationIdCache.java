@@ -0,0 +1,28 @@
+package com.estatehub.estate_hub_backend.Location;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Node-local map of address key to location id, so units of a known building resolve their
+ * location without a round trip. Interned locations are never updated or moved to another key,
+ * so entries are only dropped by size, TTL or a full flush.
+ */
+@Component
+public class LocationIdCache extends LocalCache<String, Long> {
+
+    public static final String NAME = "location-id";
+
+    public LocationIdCache(MeterRegistry meterRegistry,
+                           @Value("${estatehub.cache.location-id.maximum-size:100000}") long maximumSize,
+                           @Value("${estatehub.cache.location-id.ttl:PT6H}") Duration timeToLive) {
+        super(NAME, maximumSize, timeToLive, Function.identity(), meterRegistry);
+    }
+}
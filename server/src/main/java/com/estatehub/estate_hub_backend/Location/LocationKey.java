@@ -0,0 +1,54 @@
+package com.estatehub.estate_hub_backend.Location;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.regex.Pattern;
+
+import org.locationtech.jts.geom.Point;
+
+/**
+ * Normalized address key that locations are interned on: text fields with runs of ASCII whitespace
+ * collapsed to one space (removed from postal codes), spaces trimmed and ASCII letters lower-cased,
+ * coordinates rounded to 5 decimals, about a metre. Other characters are kept as they are, so the
+ * key does not depend on the JVM or database locale. Migration V14 computes the same key in SQL
+ * (location_address_key) for existing rows.
+ */
+final class LocationKey {
+
+    // Java's \s, spelled out: the class V14 matches
+    private static final Pattern WHITESPACE = Pattern.compile("[ \\t\\n\\x0B\\f\\r]+");
+    private static final int COORDINATE_SCALE = 5;
+
+    private LocationKey() {}
+
+    static String of(Location location) {
+        Point coordinates = location.getCoordinates();
+        return text(location.getAddress()) + '|'
+                + text(location.getCity()) + '|'
+                + text(location.getState()) + '|'
+                + text(location.getCountry()) + '|'
+                + lowerCaseAscii(WHITESPACE.matcher(location.getPostalCode()).replaceAll("")) + '|'
+                + coordinate(coordinates.getY()) + ',' + coordinate(coordinates.getX());
+    }
+
+    private static String text(String value) {
+        String collapsed = WHITESPACE.matcher(value).replaceAll(" ");
+        int start = collapsed.startsWith(" ") ? 1 : 0;
+        int end = collapsed.length() > start && collapsed.endsWith(" ") ? collapsed.length() - 1 : collapsed.length();
+        return lowerCaseAscii(collapsed.substring(start, end));
+    }
+
+    private static String lowerCaseAscii(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= 'A' && chars[i] <= 'Z') {
+                chars[i] += 'a' - 'A';
+            }
+        }
+        return new String(chars);
+    }
+
+    private static String coordinate(double degrees) {
+        return BigDecimal.valueOf(degrees).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP).toPlainString();
+    }
+}
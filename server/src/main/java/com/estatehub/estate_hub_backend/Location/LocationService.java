@@ -0,0 +1,13 @@
+package com.estatehub.estate_hub_backend.Location;
+
+/**
+ * Service interface for Location operations
+ */
+public interface LocationService {
+
+    /**
+     * The shared location row for this address, created on first use.
+     * A location given only by its id is returned as that existing row.
+     */
+    Location intern(Location location);
+}
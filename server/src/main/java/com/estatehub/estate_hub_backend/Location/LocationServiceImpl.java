@@ -0,0 +1,74 @@
+package com.estatehub.estate_hub_backend.Location;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+@Service
+@Transactional
+public class LocationServiceImpl implements LocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationServiceImpl.class);
+
+    private final LocationRepository locationRepository;
+    private final LocationStore locationStore;
+    private final LocationIdCache locationIdCache;
+
+    public LocationServiceImpl(LocationRepository locationRepository,
+                               LocationStore locationStore,
+                               LocationIdCache locationIdCache) {
+        this.locationRepository = locationRepository;
+        this.locationStore = locationStore;
+        this.locationIdCache = locationIdCache;
+    }
+
+    @Override
+    public Location intern(Location location) {
+        if (location.getId() != null && !StringUtils.hasText(location.getAddress())) {
+            return locationRepository.findById(location.getId())
+                    .orElseThrow(() -> new RuntimeException("Location not found with ID: " + location.getId()));
+        }
+        validateLocationData(location);
+
+        String addressKey = LocationKey.of(location);
+        Long locationId = locationIdCache.getIfPresent(addressKey);
+        if (locationId == null) {
+            locationId = locationStore.insertIfAbsent(location, addressKey);
+            log.debug("Interned location {} as {}", addressKey, locationId);
+            cacheAfterCommit(addressKey, locationId);
+        }
+        return locationRepository.getReferenceById(locationId);
+    }
+
+    // A rolled back insert must not leave an id in the cache that no row has
+    private void cacheAfterCommit(String addressKey, Long locationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            locationIdCache.put(addressKey, locationId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                locationIdCache.put(addressKey, locationId);
+            }
+        });
+    }
+
+    private void validateLocationData(Location location) {
+        if (!StringUtils.hasText(location.getAddress()) || !StringUtils.hasText(location.getCity())
+                || !StringUtils.hasText(location.getState()) || !StringUtils.hasText(location.getCountry())
+                || !StringUtils.hasText(location.getPostalCode())) {
+            throw new IllegalArgumentException("Location address, city, state, country and postal code are required");
+        }
+        if (location.getCoordinates() == null) {
+            throw new IllegalArgumentException("Location coordinates are required");
+        }
+        if (Math.abs(location.getCoordinates().getY()) > 90 || Math.abs(location.getCoordinates().getX()) > 180) {
+            throw new IllegalArgumentException("Location coordinates are out of range");
+        }
+    }
+}
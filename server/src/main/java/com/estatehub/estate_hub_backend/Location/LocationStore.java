@@ -0,0 +1,49 @@
+package com.estatehub.estate_hub_backend.Location;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserts a location unless one with the same address key exists, in a single statement.
+ * The row's own values win: an interned location is never updated by later lookups.
+ */
+@Repository
+public class LocationStore {
+
+    private static final String INSERT_IF_ABSENT = """
+        WITH inserted AS (
+            INSERT INTO locations (address, city, state, country, postal_code, coordinates, address_key, created_at)
+            VALUES (?, ?, ?, ?, ?, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography, ?, now())
+            ON CONFLICT (address_key) DO NOTHING
+            RETURNING id)
+        SELECT id FROM inserted
+        UNION ALL
+        SELECT id FROM locations WHERE address_key = ?
+        LIMIT 1
+        """;
+
+    private static final String FIND_ID_BY_KEY = "SELECT id FROM locations WHERE address_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Id of the location stored under the key, inserting this one if there is none
+     */
+    public Long insertIfAbsent(Location location, String addressKey) {
+        List<Long> ids = jdbcTemplate.queryForList(INSERT_IF_ABSENT, Long.class,
+                location.getAddress(), location.getCity(), location.getState(), location.getCountry(),
+                location.getPostalCode(), location.getCoordinates().getX(), location.getCoordinates().getY(),
+                addressKey, addressKey);
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+        // A concurrent insert of the same key committed after this statement's snapshot was taken
+        return jdbcTemplate.queryForObject(FIND_ID_BY_KEY, Long.class, addressKey);
+    }
+}
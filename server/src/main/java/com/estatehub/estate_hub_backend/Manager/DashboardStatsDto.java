@@ -0,0 +1,11 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import java.time.LocalDateTime;
+
+public record DashboardStatsDto(
+    Integer totalProperties,
+    Integer availableProperties,
+    Integer pendingApplications,
+    Integer activeLeases,
+    LocalDateTime updatedAt
+) {}
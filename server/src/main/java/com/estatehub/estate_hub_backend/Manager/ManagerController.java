@@ -0,0 +1,35 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur REST pour les gestionnaires
+ */
+@RestController
+@RequestMapping("/api/managers")
+@Validated
+@CrossOrigin(origins = "*")
+public class ManagerController {
+
+    @Autowired
+    private ManagerService managerService;
+
+    /**
+     * Récupère les statistiques du tableau de bord d'un gestionnaire
+     * Les compteurs sont maintenus à chaque changement d'état (lecture par clé primaire)
+     * 
+     * @param managerClerkId ID Clerk du gestionnaire
+     * @return Statistiques du tableau de bord
+     */
+    @GetMapping("/{managerClerkId}/dashboard-stats")
+    public ResponseEntity<DashboardStatsDto> getDashboardStats(@PathVariable String managerClerkId) {
+        return ResponseEntity.ok(managerService.getManagerDashboardStats(managerClerkId));
+    }
+}
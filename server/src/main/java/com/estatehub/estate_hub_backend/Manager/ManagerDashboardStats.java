@@ -0,0 +1,62 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-manager dashboard counters, maintained incrementally by ManagerStatsListener
+ * and corrected periodically by ManagerStatsReconciliationJob.
+ */
+@Entity
+@Table(name = "manager_dashboard_stats")
+public class ManagerDashboardStats {
+    // Properties
+    @Id
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "total_properties", nullable = false)
+    private Integer totalProperties = 0;
+
+    @Column(name = "available_properties", nullable = false)
+    private Integer availableProperties = 0;
+
+    @Column(name = "pending_applications", nullable = false)
+    private Integer pendingApplications = 0;
+
+    @Column(name = "active_leases", nullable = false)
+    private Integer activeLeases = 0;
+
+    // Audit fields
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ManagerDashboardStats() {}
+
+    // Getters & Setters
+    public Long getManagerId() { return managerId; }
+    public void setManagerId(Long managerId) { this.managerId = managerId; }
+
+    public Integer getTotalProperties() { return totalProperties; }
+    public void setTotalProperties(Integer totalProperties) { this.totalProperties = totalProperties; }
+
+    public Integer getAvailableProperties() { return availableProperties; }
+    public void setAvailableProperties(Integer availableProperties) { this.availableProperties = availableProperties; }
+
+    public Integer getPendingApplications() { return pendingApplications; }
+    public void setPendingApplications(Integer pendingApplications) { this.pendingApplications = pendingApplications; }
+
+    public Integer getActiveLeases() { return activeLeases; }
+    public void setActiveLeases(Integer activeLeases) { this.activeLeases = activeLeases; }
+
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+    public void setReconciledAt(LocalDateTime reconciledAt) { this.reconciledAt = reconciledAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
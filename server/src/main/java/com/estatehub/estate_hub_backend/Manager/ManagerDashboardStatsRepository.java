@@ -0,0 +1,101 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ManagerDashboardStatsRepository extends JpaRepository<ManagerDashboardStats, Long> {
+
+    /**
+     * Find the stats row of a manager by clerk ID (unique index + primary key lookup)
+     */
+    @Query("""
+        SELECT s FROM ManagerDashboardStats s
+        WHERE s.managerId = (SELECT m.id FROM Manager m WHERE m.clerkId = :managerClerkId)
+        """)
+    Optional<ManagerDashboardStats> findByManagerClerkId(@Param("managerClerkId") String managerClerkId);
+
+    /**
+     * Apply counter deltas to a manager's row, creating it on first use
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO manager_dashboard_stats AS s
+            (manager_id, total_properties, available_properties, pending_applications, active_leases, updated_at)
+        VALUES (:managerId, :totalDelta, :availableDelta, :pendingDelta, :activeLeasesDelta, now())
+        ON CONFLICT (manager_id) DO UPDATE SET
+            total_properties     = s.total_properties     + EXCLUDED.total_properties,
+            available_properties = s.available_properties + EXCLUDED.available_properties,
+            pending_applications = s.pending_applications + EXCLUDED.pending_applications,
+            active_leases        = s.active_leases        + EXCLUDED.active_leases,
+            updated_at           = now()
+        """, nativeQuery = true)
+    int applyDelta(
+        @Param("managerId") Long managerId,
+        @Param("totalDelta") int totalDelta,
+        @Param("availableDelta") int availableDelta,
+        @Param("pendingDelta") int pendingDelta,
+        @Param("activeLeasesDelta") int activeLeasesDelta
+    );
+
+    /**
+     * Pending applications and active leases of one property: what its manager's counters hold for it
+     */
+    @Query(value = """
+        SELECT (SELECT count(*) FROM applications WHERE property_id = :propertyId AND status = 'PENDING')
+                   AS pendingApplications,
+               (SELECT count(*) FROM leases WHERE property_id = :propertyId AND lease_status = 'ACTIVE')
+                   AS activeLeases
+        """, nativeQuery = true)
+    PropertyActivity countPropertyActivity(@Param("propertyId") Long propertyId);
+
+    interface PropertyActivity {
+        int getPendingApplications();
+        int getActiveLeases();
+    }
+
+    /**
+     * Recompute every manager's counters from the source tables and overwrite rows that drifted.
+     * Returns the number of rows created or corrected.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO manager_dashboard_stats AS s
+            (manager_id, total_properties, available_properties, pending_applications, active_leases,
+             reconciled_at, updated_at)
+        SELECT m.id,
+               COALESCE(p.total, 0),
+               COALESCE(p.available, 0),
+               COALESCE(a.pending, 0),
+               COALESCE(l.active, 0),
+               now(), now()
+        FROM managers m
+        LEFT JOIN (SELECT manager_id,
+                          count(*) AS total,
+                          count(*) FILTER (WHERE is_available) AS available
+                   FROM properties GROUP BY manager_id) p ON p.manager_id = m.id
+        LEFT JOIN (SELECT pr.manager_id, count(*) AS pending
+                   FROM applications ap JOIN properties pr ON pr.id = ap.property_id
+                   WHERE ap.status = 'PENDING' GROUP BY pr.manager_id) a ON a.manager_id = m.id
+        LEFT JOIN (SELECT pr.manager_id, count(*) AS active
+                   FROM leases le JOIN properties pr ON pr.id = le.property_id
+                   WHERE le.lease_status = 'ACTIVE' GROUP BY pr.manager_id) l ON l.manager_id = m.id
+        ON CONFLICT (manager_id) DO UPDATE SET
+            total_properties     = EXCLUDED.total_properties,
+            available_properties = EXCLUDED.available_properties,
+            pending_applications = EXCLUDED.pending_applications,
+            active_leases        = EXCLUDED.active_leases,
+            reconciled_at        = EXCLUDED.reconciled_at,
+            updated_at           = EXCLUDED.updated_at
+        WHERE (s.total_properties, s.available_properties, s.pending_applications, s.active_leases)
+              IS DISTINCT FROM
+              (EXCLUDED.total_properties, EXCLUDED.available_properties,
+               EXCLUDED.pending_applications, EXCLUDED.active_leases)
+        """, nativeQuery = true)
+    int reconcileAll();
+}
@@ -0,0 +1,28 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Node-local map of Clerk ID to manager id, resolved on every manager-scoped request.
+ * A Clerk ID never moves to another manager, so entries are only dropped by size, TTL or a
+ * full flush; unknown Clerk IDs are not cached so a new sign-up resolves at once.
+ */
+@Component
+public class ManagerIdCache extends LocalCache<String, Long> {
+
+    public static final String NAME = "manager-id";
+
+    public ManagerIdCache(MeterRegistry meterRegistry,
+                          @Value("${estatehub.cache.manager-id.maximum-size:50000}") long maximumSize,
+                          @Value("${estatehub.cache.manager-id.ttl:PT1H}") Duration timeToLive) {
+        super(NAME, maximumSize, timeToLive, Function.identity(), meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ManagerRepository extends JpaRepository<Manager, Long> {
+
+    /**
+     * Find manager by Clerk ID
+     */
+    Optional<Manager> findByClerkId(String clerkId);
+
+    /**
+     * Find only the manager id for a Clerk ID, answered from the unique index
+     */
+    @Query("SELECT m.id FROM Manager m WHERE m.clerkId = :clerkId")
+    Optional<Long> findIdByClerkId(@Param("clerkId") String clerkId);
+
+    /**
+     * Check whether a manager exists for a Clerk ID
+     */
+    boolean existsByClerkId(String clerkId);
+}
@@ -0,0 +1,23 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+/**
+ * Service interface for Manager management operations
+ * Defines contract for manager-related business logic
+ */
+public interface ManagerService {
+
+    /**
+     * Find manager by Clerk ID
+     */
+    Manager findManagerByClerkId(String clerkId);
+
+    /**
+     * Find a manager's id by Clerk ID, cached
+     */
+    Long findManagerIdByClerkId(String clerkId);
+
+    /**
+     * Get a manager's dashboard counters
+     */
+    DashboardStatsDto getManagerDashboardStats(String managerClerkId);
+}
@@ -0,0 +1,71 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class ManagerServiceImpl implements ManagerService {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagerServiceImpl.class);
+
+    private final ManagerRepository managerRepository;
+    private final ManagerDashboardStatsRepository statsRepository;
+    private final ManagerIdCache managerIdCache;
+
+    public ManagerServiceImpl(ManagerRepository managerRepository,
+                              ManagerDashboardStatsRepository statsRepository,
+                              ManagerIdCache managerIdCache) {
+        this.managerRepository = managerRepository;
+        this.statsRepository = statsRepository;
+        this.managerIdCache = managerIdCache;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Manager findManagerByClerkId(String clerkId) {
+        log.debug("Finding manager by clerk ID: {}", clerkId);
+
+        return managerRepository.findByClerkId(clerkId)
+                .orElseThrow(() -> new RuntimeException("Manager not found with clerk ID: " + clerkId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long findManagerIdByClerkId(String clerkId) {
+        Long managerId = managerIdCache.get(clerkId, key -> managerRepository.findIdByClerkId(key).orElse(null));
+        if (managerId == null) {
+            throw new RuntimeException("Manager not found with clerk ID: " + clerkId);
+        }
+        return managerId;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardStatsDto getManagerDashboardStats(String managerClerkId) {
+        log.debug("Loading dashboard stats for manager: {}", managerClerkId);
+
+        return statsRepository.findByManagerClerkId(managerClerkId)
+                .map(stats -> new DashboardStatsDto(
+                        stats.getTotalProperties(),
+                        stats.getAvailableProperties(),
+                        stats.getPendingApplications(),
+                        stats.getActiveLeases(),
+                        stats.getUpdatedAt()))
+                .orElseGet(() -> emptyStats(managerClerkId));
+    }
+
+    // Private helper methods
+
+    /**
+     * A manager without a stats row has not had any counted change yet
+     */
+    private DashboardStatsDto emptyStats(String managerClerkId) {
+        if (!managerRepository.existsByClerkId(managerClerkId)) {
+            throw new RuntimeException("Manager not found with clerk ID: " + managerClerkId);
+        }
+        return new DashboardStatsDto(0, 0, 0, 0, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.Application.ApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Application.BulkApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Lease.LeaseStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Manager.ManagerDashboardStatsRepository.PropertyActivity;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyManagerChangedEvent;
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+import com.estatehub.estate_hub_backend.enums.LeaseStatus;
+
+/**
+ * Keeps manager_dashboard_stats in step with state changes.
+ * Plain @EventListener: runs synchronously in the publisher's transaction, so a
+ * counter moves only if the change it counts commits.
+ */
+@Component
+public class ManagerStatsListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagerStatsListener.class);
+
+    private final ManagerDashboardStatsRepository statsRepository;
+
+    public ManagerStatsListener(ManagerDashboardStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.managerId() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED -> statsRepository.applyDelta(event.managerId(), 1, 1, 0, 0);
+            case AVAILABLE -> statsRepository.applyDelta(event.managerId(), 0, 1, 0, 0);
+            case UNAVAILABLE -> statsRepository.applyDelta(event.managerId(), 0, -1, 0, 0);
+            case UPDATED -> { }
+        }
+    }
+
+    /**
+     * Moves everything the listing counts for from the previous manager to the new one: the listing itself,
+     * its availability, its pending applications and its active leases.
+     * Managers are updated in id order, like bulk transitions.
+     */
+    @EventListener
+    public void onPropertyManagerChanged(PropertyManagerChangedEvent event) {
+        PropertyActivity activity = statsRepository.countPropertyActivity(event.propertyId());
+        int available = event.available() ? 1 : 0;
+        Map<Long, Integer> signs = new TreeMap<>();
+        if (event.previousManagerId() != null) {
+            signs.put(event.previousManagerId(), -1);
+        }
+        if (event.newManagerId() != null) {
+            signs.put(event.newManagerId(), 1);
+        }
+        signs.forEach((managerId, sign) -> {
+            log.debug("Listing {} {} manager {}", event.propertyId(), sign > 0 ? "moved to" : "moved from", managerId);
+            statsRepository.applyDelta(managerId, sign, sign * available,
+                    sign * activity.getPendingApplications(), sign * activity.getActiveLeases());
+        });
+    }
+
+    @EventListener
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        int pendingDelta = pendingDelta(event);
+        if (pendingDelta != 0 && event.managerId() != null) {
+            log.debug("Pending applications {} for manager {}", pendingDelta, event.managerId());
+            statsRepository.applyDelta(event.managerId(), 0, 0, pendingDelta, 0);
+        }
+    }
+
+    /**
+     * One counter update per manager, however many of their applications moved.
+     * Managers are updated in id order so concurrent bulk transitions lock their rows in the same order.
+     */
+    @EventListener
+    public void onBulkApplicationStatusChanged(BulkApplicationStatusChangedEvent event) {
+        Map<Long, Integer> pendingDeltas = new TreeMap<>();
+        for (ApplicationStatusChangedEvent change : event.changes()) {
+            if (change.managerId() != null) {
+                pendingDeltas.merge(change.managerId(), pendingDelta(change), Integer::sum);
+            }
+        }
+        pendingDeltas.forEach((managerId, pendingDelta) -> {
+            if (pendingDelta != 0) {
+                log.debug("Pending applications {} for manager {}", pendingDelta, managerId);
+                statsRepository.applyDelta(managerId, 0, 0, pendingDelta, 0);
+            }
+        });
+    }
+
+    @EventListener
+    public void onLeaseStatusChanged(LeaseStatusChangedEvent event) {
+        int activeDelta = countDelta(event.previousStatus() == LeaseStatus.ACTIVE,
+                                     event.newStatus() == LeaseStatus.ACTIVE);
+        if (activeDelta != 0 && event.managerId() != null) {
+            log.debug("Active leases {} for manager {}", activeDelta, event.managerId());
+            statsRepository.applyDelta(event.managerId(), 0, 0, 0, activeDelta);
+        }
+    }
+
+    private static int pendingDelta(ApplicationStatusChangedEvent event) {
+        return countDelta(event.previousStatus() == ApplicationStatus.PENDING,
+                          event.newStatus() == ApplicationStatus.PENDING);
+    }
+
+    private static int countDelta(boolean wasCounted, boolean isCounted) {
+        return (isCounted ? 1 : 0) - (wasCounted ? 1 : 0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes dashboard counters from the source tables and fixes any drift
+ * (writes that bypassed the service layer, manual SQL, missed events).
+ */
+@Component
+public class ManagerStatsReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagerStatsReconciliationJob.class);
+
+    private final ManagerDashboardStatsRepository statsRepository;
+
+    public ManagerStatsReconciliationJob(ManagerDashboardStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    @Scheduled(initialDelayString = "${estatehub.dashboard-stats.reconcile-initial-delay:PT1M}",
+               fixedDelayString = "${estatehub.dashboard-stats.reconcile-interval:PT30M}")
+    @Transactional
+    public void reconcile() {
+        int corrected = statsRepository.reconcileAll();
+        if (corrected > 0) {
+            log.warn("Reconciled dashboard stats: {} manager rows created or corrected", corrected);
+        } else {
+            log.debug("Dashboard stats reconciliation found no drift");
+        }
+    }
+}
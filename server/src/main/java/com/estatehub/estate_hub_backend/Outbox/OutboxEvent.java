@@ -0,0 +1,22 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A committed change read back from outbox_events and republished by OutboxPoller.
+ * Delivery is at-least-once and in id order per aggregate, so listeners must be idempotent.
+ *
+ * @param aggregateType "property", "application" or "lease"
+ * @param eventType simple name of the domain event, e.g. PropertyChangedEvent
+ * @param payload the domain event serialised as JSON
+ */
+public record OutboxEvent(
+    Long id,
+    String aggregateType,
+    Long aggregateId,
+    String eventType,
+    JsonNode payload,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,63 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the daily outbox_events partitions ahead of time and drops old ones once every row
+ * in them has been published. Dropping a partition replaces row-by-row deletes of published events.
+ */
+@Component
+public class OutboxPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPartitionMaintenance.class);
+
+    private final OutboxStore outboxStore;
+    private final int daysAhead;
+    private final int retentionDays;
+
+    public OutboxPartitionMaintenance(OutboxStore outboxStore,
+                                      @Value("${estatehub.outbox.partitions-ahead:7}") int daysAhead,
+                                      @Value("${estatehub.outbox.retention-days:3}") int retentionDays) {
+        this.outboxStore = outboxStore;
+        this.daysAhead = daysAhead;
+        this.retentionDays = retentionDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${estatehub.outbox.maintenance-cron:0 15 0 * * *}")
+    public void maintain() {
+        LocalDate today = outboxStore.currentDate();
+        for (int day = 0; day <= daysAhead; day++) {
+            outboxStore.createPartition(today.plusDays(day));
+        }
+
+        LocalDate cutoff = today.minusDays(retentionDays);
+        for (String partition : outboxStore.listPartitions()) {
+            LocalDate day = parseDay(partition);
+            if (day != null && day.isBefore(cutoff)) {
+                if (outboxStore.dropPartitionIfPublished(partition)) {
+                    log.info("Dropped outbox partition {}", partition);
+                } else {
+                    log.warn("Outbox partition {} still holds unpublished events, keeping it", partition);
+                }
+            }
+        }
+    }
+
+    private static LocalDate parseDay(String partition) {
+        try {
+            return LocalDate.parse(partition.substring(OutboxStore.PARTITION_PREFIX.length()), OutboxStore.PARTITION_SUFFIX);
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+}
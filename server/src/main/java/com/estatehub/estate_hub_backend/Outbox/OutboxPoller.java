@@ -0,0 +1,115 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes committed outbox rows as OutboxEvent application events, in batches.
+ *
+ * One node at a time holds the advisory lock and reads unpublished rows in id order, so events
+ * of an aggregate are delivered in the order they were written. A row is marked published only
+ * after every listener accepted it. Each delivery runs in its own transaction (JPA has no
+ * savepoints), so a listener that fails undoes only its own writes; a delivery commits before its
+ * row is marked published, so a crash in between redelivers it and listeners must be idempotent.
+ * A failed event is retried after a delay and, until it succeeds, later events of its aggregate
+ * are held back (in the query, so they do not fill batches) while other aggregates carry on.
+ * After maxAttempts the event is dead-lettered: it stays in the table for inspection and its
+ * aggregate moves on.
+ */
+@Component
+public class OutboxPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPoller.class);
+
+    // Arbitrary, fixed key shared by all nodes ("outbox" in ASCII)
+    private static final long LOCK_KEY = 0x6f7574626f78L;
+
+    private final OutboxStore outboxStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deliveryTemplate;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+
+    public OutboxPoller(OutboxStore outboxStore,
+                        ApplicationEventPublisher eventPublisher,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${estatehub.outbox.batch-size:500}") int batchSize,
+                        @Value("${estatehub.outbox.retry-delay:PT30S}") Duration retryDelay,
+                        @Value("${estatehub.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxStore = outboxStore;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.deliveryTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${estatehub.outbox.poll-interval:PT1S}")
+    public void poll() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> publishBatch());
+        } while (published != null && published == batchSize);
+    }
+
+    /**
+     * @return number of events read, so the caller keeps going while batches are full
+     */
+    private int publishBatch() {
+        if (!outboxStore.tryLock(LOCK_KEY)) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxStore.findUnpublished(retryDelay, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        Set<String> heldBack = new HashSet<>();
+        LocalDateTime oldest = batch.get(0).createdAt();
+        for (OutboxEvent event : batch) {
+            String aggregate = event.aggregateType() + ":" + event.aggregateId();
+            if (heldBack.contains(aggregate)) {
+                continue;
+            }
+            try {
+                deliveryTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+                delivered.add(event.id());
+                if (event.createdAt().isBefore(oldest)) {
+                    oldest = event.createdAt();
+                }
+            } catch (RuntimeException e) {
+                heldBack.add(aggregate);
+                if (outboxStore.recordFailure(event, maxAttempts)) {
+                    log.error("Outbox event {} ({} {}) failed {} times, dead-lettered",
+                            event.id(), event.eventType(), aggregate, maxAttempts, e);
+                } else {
+                    log.warn("Outbox event {} ({} {}) failed, retrying in {}",
+                            event.id(), event.eventType(), aggregate, retryDelay, e);
+                }
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxStore.markPublished(delivered, oldest);
+        }
+        // Held-back events are left out of the next query, so a full batch still means more to read
+        return batch.size();
+    }
+}
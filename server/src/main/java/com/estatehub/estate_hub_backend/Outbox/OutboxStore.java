@@ -0,0 +1,182 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JDBC access to outbox_events, a table range-partitioned by day on created_at.
+ */
+@Repository
+public class OutboxStore {
+
+    static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    static final String PARTITION_PREFIX = "outbox_events_p";
+
+    private static final String INSERT_EVENTS = """
+        INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload)
+        SELECT t.aggregate_type, t.aggregate_id, t.event_type, t.payload::jsonb
+        FROM unnest(?, ?, ?, ?) WITH ORDINALITY AS t(aggregate_type, aggregate_id, event_type, payload, ord)
+        ORDER BY t.ord
+        """;
+
+    // A failing row is retried once its delay has passed; until it is delivered or dead-lettered,
+    // later rows of its aggregate are left out so they neither jump the queue nor fill the batch
+    private static final String FIND_UNPUBLISHED = """
+        SELECT e.id, e.aggregate_type, e.aggregate_id, e.event_type, e.payload, e.created_at
+        FROM outbox_events e
+        WHERE e.published_at IS NULL AND e.dead_lettered_at IS NULL
+          AND (e.attempts = 0 OR e.last_failed_at <= now() - make_interval(secs => ?))
+          AND NOT EXISTS (
+              SELECT 1 FROM outbox_events f
+              WHERE f.aggregate_type = e.aggregate_type AND f.aggregate_id = e.aggregate_id AND f.id < e.id
+                AND f.published_at IS NULL AND f.dead_lettered_at IS NULL AND f.attempts > 0)
+        ORDER BY e.id
+        LIMIT ?
+        """;
+
+    // The created_at bound lets the planner prune partitions older than the batch
+    private static final String MARK_PUBLISHED = """
+        UPDATE outbox_events SET published_at = now()
+        WHERE id = ANY(?) AND created_at >= ? AND published_at IS NULL
+        """;
+
+    private static final String RECORD_FAILURE = """
+        UPDATE outbox_events
+        SET attempts = attempts + 1,
+            last_failed_at = now(),
+            dead_lettered_at = CASE WHEN attempts + 1 >= ? THEN now() END
+        WHERE id = ? AND created_at = ?
+        RETURNING dead_lettered_at IS NOT NULL
+        """;
+
+    private static final String LIST_PARTITIONS = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname = 'outbox_events' AND c.relname LIKE 'outbox_events_p%'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OutboxStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    record PendingEvent(String aggregateType, Long aggregateId, Object event) {}
+
+    /**
+     * Writes a transaction's events in one statement, preserving their order
+     */
+    public void insertAll(List<PendingEvent> events) {
+        String[] aggregateTypes = new String[events.size()];
+        Long[] aggregateIds = new Long[events.size()];
+        String[] eventTypes = new String[events.size()];
+        String[] payloads = new String[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            PendingEvent event = events.get(i);
+            aggregateTypes[i] = event.aggregateType();
+            aggregateIds[i] = event.aggregateId();
+            eventTypes[i] = event.event().getClass().getSimpleName();
+            payloads[i] = toJson(event.event());
+        }
+        jdbcTemplate.update(con -> {
+            var statement = con.prepareStatement(INSERT_EVENTS);
+            statement.setArray(1, con.createArrayOf("text", aggregateTypes));
+            statement.setArray(2, con.createArrayOf("bigint", aggregateIds));
+            statement.setArray(3, con.createArrayOf("text", eventTypes));
+            statement.setArray(4, con.createArrayOf("text", payloads));
+            return statement;
+        });
+    }
+
+    public List<OutboxEvent> findUnpublished(Duration retryDelay, int limit) {
+        return jdbcTemplate.query(FIND_UNPUBLISHED, (rs, row) -> {
+            try {
+                return new OutboxEvent(
+                        rs.getLong("id"),
+                        rs.getString("aggregate_type"),
+                        rs.getLong("aggregate_id"),
+                        rs.getString("event_type"),
+                        objectMapper.readTree(rs.getString("payload")),
+                        rs.getTimestamp("created_at").toLocalDateTime());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unreadable outbox payload for event " + rs.getLong("id"), e);
+            }
+        }, retryDelay.toSeconds(), limit);
+    }
+
+    public int markPublished(List<Long> ids, LocalDateTime oldestCreatedAt) {
+        return jdbcTemplate.update(con -> {
+            var statement = con.prepareStatement(MARK_PUBLISHED);
+            statement.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            statement.setTimestamp(2, Timestamp.valueOf(oldestCreatedAt));
+            return statement;
+        });
+    }
+
+    /**
+     * Counts a failed delivery; returns whether the event reached maxAttempts and was dead-lettered
+     */
+    public boolean recordFailure(OutboxEvent event, int maxAttempts) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(RECORD_FAILURE, Boolean.class,
+                maxAttempts, event.id(), Timestamp.valueOf(event.createdAt())));
+    }
+
+    /**
+     * Transaction-scoped advisory lock, so only one node publishes at a time
+     */
+    public boolean tryLock(long key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, key));
+    }
+
+    public LocalDate currentDate() {
+        return jdbcTemplate.queryForObject("SELECT current_date", LocalDate.class);
+    }
+
+    public List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS, String.class);
+    }
+
+    public void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day)
+                + " PARTITION OF outbox_events FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+    }
+
+    /**
+     * Drops a day's partition unless it still holds unpublished events, dead letters included
+     */
+    public boolean dropPartitionIfPublished(String partition) {
+        Boolean pending = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE published_at IS NULL)", Boolean.class);
+        if (Boolean.TRUE.equals(pending)) {
+            return false;
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+        return true;
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialise outbox event " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
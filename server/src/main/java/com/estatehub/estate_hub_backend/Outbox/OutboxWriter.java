@@ -0,0 +1,79 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.estatehub.estate_hub_backend.Application.ApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Application.BulkApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Lease.LeaseStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+
+/**
+ * Records domain events in outbox_events as part of the transaction that produced them.
+ * Events are collected per transaction and written in a single insert just before commit,
+ * so a mutation pays one extra statement however many events it publishes, and an event
+ * exists in the outbox if and only if its change committed.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxStore outboxStore;
+
+    public OutboxWriter(OutboxStore outboxStore) {
+        this.outboxStore = outboxStore;
+    }
+
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        append(new OutboxStore.PendingEvent("property", event.propertyId(), event));
+    }
+
+    @EventListener
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        append(new OutboxStore.PendingEvent("application", event.applicationId(), event));
+    }
+
+    // Consumers see one outbox row per application, however the transition was made
+    @EventListener
+    public void onBulkApplicationStatusChanged(BulkApplicationStatusChangedEvent event) {
+        event.changes().forEach(this::onApplicationStatusChanged);
+    }
+
+    @EventListener
+    public void onLeaseStatusChanged(LeaseStatusChangedEvent event) {
+        append(new OutboxStore.PendingEvent("lease", event.leaseId(), event));
+    }
+
+    private void append(OutboxStore.PendingEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxStore.insertAll(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<OutboxStore.PendingEvent> pending = (List<OutboxStore.PendingEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<OutboxStore.PendingEvent> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (!buffer.isEmpty()) {
+                        outboxStore.insertAll(buffer);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(event);
+    }
+}
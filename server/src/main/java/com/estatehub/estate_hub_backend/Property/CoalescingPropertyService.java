@@ -0,0 +1,146 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.estatehub.estate_hub_backend.cache.SingleFlight;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * PropertyService in front of PropertyServiceImpl that collapses concurrent identical reads of a
+ * single listing and of radius searches into one database load (see SingleFlight). Everything
+ * else is passed straight through.
+ *
+ * Shared entities come with their location and manager fetched and are only read by callers,
+ * so no thread lazy-loads through the persistence context of the one that loaded them.
+ */
+@Service
+@Primary
+public class CoalescingPropertyService implements PropertyService {
+
+    private record RadiusKey(Double latitude, Double longitude, Double radiusKm) {}
+
+    private record FieldsKey(EnumSet<PropertyField> fields, Long id) {}
+
+    private final PropertyService delegate;
+    private final SingleFlight<Long, Property> byId;
+    private final SingleFlight<RadiusKey, List<Property>> byRadius;
+    private final SingleFlight<FieldsKey, SparseProperty> fieldsById;
+
+    public CoalescingPropertyService(@Qualifier("propertyServiceImpl") PropertyService delegate,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byId = new SingleFlight<>("property-by-id", meterRegistry);
+        this.byRadius = new SingleFlight<>("property-radius-search", meterRegistry);
+        this.fieldsById = new SingleFlight<>("property-fields-by-id", meterRegistry);
+    }
+
+    @Override
+    public Property findPropertyById(Long id) {
+        return byId.execute(id, () -> delegate.findPropertyById(id));
+    }
+
+    @Override
+    public List<Property> searchByRadius(Double latitude, Double longitude, Double radiusKm) {
+        return byRadius.execute(new RadiusKey(latitude, longitude, radiusKm),
+                () -> List.copyOf(delegate.searchByRadius(latitude, longitude, radiusKm)));
+    }
+
+    @Override
+    public SparseProperty findPropertyFieldsById(EnumSet<PropertyField> fields, Long id) {
+        return fieldsById.execute(new FieldsKey(EnumSet.copyOf(fields), id),
+                () -> delegate.findPropertyFieldsById(fields, id));
+    }
+
+    @Override
+    public Page<Property> findAllProperties(Pageable pageable) {
+        return delegate.findAllProperties(pageable);
+    }
+
+    @Override
+    public Page<Property> findPropertiesByAvailability(boolean available, Pageable pageable) {
+        return delegate.findPropertiesByAvailability(available, pageable);
+    }
+
+    @Override
+    public Page<Property> findProperties(PropertyFilter filter, boolean available, Pageable pageable) {
+        return delegate.findProperties(filter, available, pageable);
+    }
+
+    @Override
+    public Page<Property> getPortfolioByManager(String managerClerkId, PropertyFilter filter, Boolean available,
+                                                Pageable pageable) {
+        return delegate.getPortfolioByManager(managerClerkId, filter, available, pageable);
+    }
+
+    @Override
+    public List<Property> findPropertiesByIds(Collection<Long> ids) {
+        return delegate.findPropertiesByIds(ids);
+    }
+
+    @Override
+    public Property createProperty(Property property) {
+        return delegate.createProperty(property);
+    }
+
+    @Override
+    public Property updateProperty(Long id, Property property) {
+        return delegate.updateProperty(id, property);
+    }
+
+    @Override
+    public PropertyPatchResult patchProperty(Long id, JsonNode patch, Long expectedVersion) {
+        return delegate.patchProperty(id, patch, expectedVersion);
+    }
+
+    @Override
+    public void deleteProperty(Long id) {
+        delegate.deleteProperty(id);
+    }
+
+    @Override
+    public List<Property> searchByAmenities(List<String> amenities) {
+        return delegate.searchByAmenities(amenities);
+    }
+
+    @Override
+    public void updateAverageRating(Long propertyId) {
+        delegate.updateAverageRating(propertyId);
+    }
+
+    @Override
+    public void markAsUnavailable(Long propertyId) {
+        delegate.markAsUnavailable(propertyId);
+    }
+
+    @Override
+    public List<Property> getPropertiesByManager(String managerClerkId) {
+        return delegate.getPropertiesByManager(managerClerkId);
+    }
+
+    @Override
+    public List<Property> getAvailablePropertiesByManager(String managerClerkId) {
+        return delegate.getAvailablePropertiesByManager(managerClerkId);
+    }
+
+    @Override
+    public Page<SparseProperty> findPropertyFieldsByAvailability(EnumSet<PropertyField> fields, PropertyFilter filter, boolean available,
+                                                                  Pageable pageable) {
+        return delegate.findPropertyFieldsByAvailability(fields, filter, available, pageable);
+    }
+
+    @Override
+    public List<SparseProperty> getPropertyFieldsByManager(EnumSet<PropertyField> fields, String managerClerkId,
+                                                           boolean activeOnly) {
+        return delegate.getPropertyFieldsByManager(fields, managerClerkId, activeOnly);
+    }
+}
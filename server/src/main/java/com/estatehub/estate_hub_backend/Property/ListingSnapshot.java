@@ -0,0 +1,26 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+/**
+ * Flat, immutable view of the searchable attributes of a listing.
+ * Read straight from SQL by ListingSnapshotStore to feed in-memory indexes
+ * without hydrating Property, Location or Manager entities.
+ */
+public record ListingSnapshot(
+    Long id,
+    Long managerId,
+    BigDecimal pricePerMonth,
+    Integer beds,
+    Float baths,
+    Integer squareFeet,
+    PropertyType propertyType,
+    boolean available,
+    Double latitude,
+    Double longitude,
+    String city,
+    List<String> amenities
+) {}
@@ -0,0 +1,77 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+/**
+ * JDBC reads of ListingSnapshot rows, used to build and refresh in-memory listing indexes.
+ */
+@Repository
+public class ListingSnapshotStore {
+
+    private static final String SELECT_SNAPSHOT = """
+        SELECT p.id, p.manager_id, p.price_per_month, p.beds, p.baths, p.square_feet,
+               p.property_type, p.is_available, p.amenities, l.city,
+               ST_Y(l.coordinates::geometry) AS latitude, ST_X(l.coordinates::geometry) AS longitude
+        FROM properties p
+        JOIN locations l ON l.id = p.location_id
+        """;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ListingSnapshotStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ListingSnapshot> findById(Long propertyId) {
+        return jdbcTemplate.query(SELECT_SNAPSHOT + " WHERE p.id = ?", (rs, row) -> map(rs), propertyId)
+                .stream().findFirst();
+    }
+
+    /**
+     * Streams every available listing to the consumer without materialising the whole result.
+     * Transactional because PostgreSQL only honours the fetch size with auto-commit off.
+     */
+    @Transactional(readOnly = true)
+    public void forEachAvailable(Consumer<ListingSnapshot> consumer) {
+        jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(SELECT_SNAPSHOT + " WHERE p.is_available");
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(map(rs));
+        });
+    }
+
+    private static ListingSnapshot map(ResultSet rs) throws SQLException {
+        int typeOrdinal = rs.getInt("property_type");
+        PropertyType type = rs.wasNull() ? null : PropertyType.values()[typeOrdinal];
+        Array amenities = rs.getArray("amenities");
+        return new ListingSnapshot(
+                rs.getLong("id"),
+                rs.getLong("manager_id"),
+                rs.getBigDecimal("price_per_month"),
+                rs.getObject("beds", Integer.class),
+                rs.getObject("baths", Float.class),
+                rs.getObject("square_feet", Integer.class),
+                type,
+                rs.getBoolean("is_available"),
+                rs.getObject("latitude", Double.class),
+                rs.getObject("longitude", Double.class),
+                rs.getString("city"),
+                amenities != null ? Arrays.asList((String[]) amenities.getArray()) : List.of());
+    }
+}
@@ -3,7 +3,9 @@ package com.estatehub.estate_hub_backend.Property;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 import com.estatehub.estate_hub_backend.enums.PropertyType;
 import com.estatehub.estate_hub_backend.Location.Location;
 import com.estatehub.estate_hub_backend.Manager.Manager;
@@ -42,19 +44,18 @@ public class Property {
     @Column(name = "application_fee", precision = 10, scale = 2)
     private BigDecimal applicationFee;
     
-    @ElementCollection
-    @CollectionTable(name = "property_photos", joinColumns = @JoinColumn(name = "property_id"))
-    @Column(name = "photo_url")
+    // Stored inline as text[] columns: one row read returns the full listing,
+    // and replacing a list is a single column update
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "photo_urls", columnDefinition = "text[]")
     private List<String> photoUrls;
     
-    @ElementCollection
-    @CollectionTable(name = "property_amenities", joinColumns = @JoinColumn(name = "property_id"))
-    @Column(name = "amenity")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "amenities", columnDefinition = "text[]")
     private List<String> amenities;
     
-    @ElementCollection
-    @CollectionTable(name = "property_highlights", joinColumns = @JoinColumn(name = "property_id"))
-    @Column(name = "highlight")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "highlights", columnDefinition = "text[]")
     private List<String> highlights;
     
     @Column(name = "is_pets_allowed")
@@ -75,7 +76,7 @@ public class Property {
     @Column(name = "square_feet")
     private Integer squareFeet;
     
-    @NotBlank(message = "Property type is required")
+    @NotNull(message = "Property type is required")
     @Column(name = "property_type", nullable = false)
     private PropertyType propertyType; //enum
     
@@ -83,18 +84,25 @@ public class Property {
     @Column(name = "posted_date", nullable = false, updatable = false)
     private LocalDateTime postedDate;
     
+    // Rating aggregate columns are written only by RatingAggregateStore (flushes and recompute),
+    // never by entity saves, so a stale entity cannot overwrite a concurrent flush
     @DecimalMin(value = "0.0")
     @DecimalMax(value = "5.0")
-    @Column(name = "average_rating", precision = 3, scale = 2)
+    @Column(name = "average_rating", columnDefinition = "NUMERIC(3, 2)", updatable = false)
     private Float averageRating;
     
     @Min(value = 0)
-    @Column(name = "number_of_reviews")
+    @Column(name = "number_of_reviews", updatable = false)
     private Integer numberOfReviews = 0;
     
     @Column(name = "is_available", nullable = false)
     private Boolean isAvailable = true;
     
+    // Bumped by every entity save and by PATCH, exposed as the ETag of partial updates
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+    
     // Relations
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "location_id", nullable = false)
@@ -187,6 +195,9 @@ public class Property {
     public Boolean getIsAvailable() { return isAvailable; }
     public void setIsAvailable(Boolean isAvailable) { this.isAvailable = isAvailable; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     public Location getLocation() { return location; }
     public void setLocation(Location location) { this.location = location; }
     
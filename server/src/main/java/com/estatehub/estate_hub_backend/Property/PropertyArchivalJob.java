@@ -0,0 +1,102 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerDashboardStatsRepository;
+
+/**
+ * Moves listings that have been unavailable for longer than the retention period out of the
+ * hot properties table into properties_archive, in small chunks, one transaction per chunk.
+ * Listings still referenced by applications, leases or reviews stay where they are.
+ */
+@Component
+public class PropertyArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyArchivalJob.class);
+
+    // Every column properties_archive shares with properties, named on both sides so neither table's
+    // physical column order matters; a migration adding a column to properties adds it here too
+    static final String ARCHIVED_COLUMNS = """
+        id, name, description, price_per_month, security_deposit, application_fee, is_pets_allowed,
+        is_parking_included, beds, baths, square_feet, property_type, posted_date, average_rating,
+        number_of_reviews, is_available, location_id, manager_id, created_at, updated_at, rating_sum,
+        photo_urls, amenities, highlights, version""";
+
+    private static final String ARCHIVE_CHUNK = """
+        WITH moved AS (
+            DELETE FROM properties p
+            WHERE p.id IN (
+                SELECT d.id FROM properties d
+                WHERE NOT d.is_available
+                  AND COALESCE(d.updated_at, d.created_at) < ?
+                  AND NOT EXISTS (SELECT 1 FROM applications a WHERE a.property_id = d.id)
+                  AND NOT EXISTS (SELECT 1 FROM leases l WHERE l.property_id = d.id)
+                  AND NOT EXISTS (SELECT 1 FROM property_reviews r WHERE r.property_id = d.id)
+                ORDER BY d.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING p.*
+        ), archived AS (
+            INSERT INTO properties_archive (%1$s, archived_at)
+            SELECT %1$s, now() FROM moved
+            RETURNING manager_id
+        )
+        SELECT manager_id, count(*) AS archived FROM archived GROUP BY manager_id
+        """.formatted(ARCHIVED_COLUMNS);
+
+    private record ArchivedCount(Long managerId, int count) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ManagerDashboardStatsRepository statsRepository;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public PropertyArchivalJob(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ManagerDashboardStatsRepository statsRepository,
+                               @Value("${estatehub.archival.retention:P180D}") Duration retention,
+                               @Value("${estatehub.archival.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.statsRepository = statsRepository;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${estatehub.archival.cron:0 30 3 * * *}")
+    public void archiveDeadListings() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            total += moved;
+        } while (moved == chunkSize);
+
+        if (total > 0) {
+            log.info("Archived {} listings unavailable since before {}", total, cutoff);
+        }
+    }
+
+    private int archiveChunk(Timestamp cutoff) {
+        List<ArchivedCount> counts = jdbcTemplate.query(ARCHIVE_CHUNK,
+                (rs, row) -> new ArchivedCount(rs.getLong("manager_id"), rs.getInt("archived")),
+                cutoff, chunkSize);
+
+        // Archived listings leave the manager's property count
+        counts.forEach(c -> statsRepository.applyDelta(c.managerId(), -c.count(), 0, 0, 0));
+        return counts.stream().mapToInt(ArchivedCount::count).sum();
+    }
+}
@@ -0,0 +1,11 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get: found properties in request order, and the requested IDs that do not exist
+ */
+public record PropertyBatchDto(
+    List<PropertyDto> properties,
+    List<Long> missingIds
+) {}
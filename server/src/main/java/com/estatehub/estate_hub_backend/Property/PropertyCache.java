@@ -0,0 +1,39 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.cache.CacheInvalidationBus;
+import com.estatehub.estate_hub_backend.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Node-local cache of property detail DTOs (with their location and manager), by property id.
+ * Every PropertyChangedEvent invalidates the entry on all nodes when its transaction commits;
+ * a change to the manager's details invalidates all of that manager's listings (trigger in V16).
+ */
+@Component
+public class PropertyCache extends LocalCache<Long, PropertyDto> {
+
+    // Also named in the V16 manager trigger
+    public static final String NAME = "property";
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public PropertyCache(CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry,
+                         @Value("${estatehub.cache.property.maximum-size:20000}") long maximumSize,
+                         @Value("${estatehub.cache.property.ttl:PT10M}") Duration timeToLive) {
+        super(NAME, maximumSize, timeToLive, Long::valueOf, meterRegistry);
+        this.invalidationBus = invalidationBus;
+    }
+
+    // Synchronous so the NOTIFY joins the writing transaction
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        invalidationBus.invalidate(NAME, event.propertyId());
+    }
+}
@@ -0,0 +1,16 @@
+package com.estatehub.estate_hub_backend.Property;
+
+/**
+ * Published by PropertyServiceImpl inside the writing transaction.
+ * Listeners that must stay consistent with the write use @EventListener;
+ * caches and in-memory indexes use @TransactionalEventListener (after commit).
+ */
+public record PropertyChangedEvent(Long propertyId, Long managerId, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        AVAILABLE,
+        UNAVAILABLE
+    }
+}
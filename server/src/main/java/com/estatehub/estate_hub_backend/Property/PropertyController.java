@@ -1,30 +1,59 @@
 package com.estatehub.estate_hub_backend.Property;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.estatehub.estate_hub_backend.Application.ApplicationInboxPage;
+import com.estatehub.estate_hub_backend.Application.ApplicationService;
+import com.estatehub.estate_hub_backend.Manager.Manager;
+import com.estatehub.estate_hub_backend.PropertyView.PropertyViewCounter;
+import com.estatehub.estate_hub_backend.Trending.TrendingService;
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import com.estatehub.estate_hub_backend.security.ClerkPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 /**
  * Contrôleur REST pour la gestion des propriétés
@@ -36,12 +65,29 @@ import jakarta.validation.constraints.Min;
 @CrossOrigin(origins = "*")
 public class PropertyController {
 
+    private static final int MAX_BATCH_IDS = 200;
+
     @Autowired
     private PropertyService propertyService;
 
     @Autowired
     private PropertyMapper propertyMapper;
 
+    @Autowired
+    private PropertyCache propertyCache;
+
+    @Autowired
+    private PropertyRadiusSearchCache radiusSearchCache;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private PropertyViewCounter propertyViewCounter;
+
+    @Autowired
+    private TrendingService trendingService;
+
     /**
      * Récupère toutes les propriétés avec pagination et filtres
      * 
@@ -55,7 +101,7 @@ public class PropertyController {
      * @param baths Nombre minimum de salles de bain
      * @param propertyType Type de propriété
      * @param city Ville
-     * @param isAvailable Disponibilité
+     * @param isAvailable Disponibilité (défaut: annonces actives uniquement)
      * @return Page de PropertyDto
      */
     @GetMapping
@@ -79,36 +125,140 @@ public class PropertyController {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        // TODO: Implémenter les filtres dans le service
-        // Pour l'instant, retourne toutes les propriétés
-        Page<Property> propertyPage = propertyService.findAllProperties(pageable);
+        PropertyFilter filter = toFilter(minPrice, maxPrice, beds, baths, propertyType, city);
+        boolean available = !Boolean.FALSE.equals(isAvailable);
+        Page<Property> propertyPage = propertyService.findProperties(filter, available, pageable);
         Page<PropertyDto> propertyDtoPage = propertyMapper.toDtoPage(propertyPage);
         
         return ResponseEntity.ok(propertyDtoPage);
     }
 
+    /**
+     * Récupère uniquement les champs demandés des propriétés, avec pagination
+     * Seules les colonnes correspondantes sont lues en base
+     * 
+     * @param fields Champs demandés, séparés par des virgules (ex: id,name,pricePerMonth,location.latitude)
+     * @param page Numéro de page (défaut: 0)
+     * @param size Taille de page (défaut: 10)
+     * @param sortBy Champ de tri (défaut: id)
+     * @param sortDir Direction de tri (défaut: asc)
+     * @param minPrice Prix minimum
+     * @param maxPrice Prix maximum
+     * @param beds Nombre minimum de chambres
+     * @param baths Nombre minimum de salles de bain
+     * @param propertyType Type de propriété
+     * @param city Ville
+     * @param isAvailable Disponibilité (défaut: annonces actives uniquement)
+     * @return Page de propriétés ne contenant que les champs demandés
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<SparseProperty>> getPropertyFields(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) @DecimalMin("0.0") Double minPrice,
+            @RequestParam(required = false) @DecimalMin("0.0") Double maxPrice,
+            @RequestParam(required = false) @Min(0) Integer beds,
+            @RequestParam(required = false) @DecimalMin("0.0") Float baths,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Boolean isAvailable) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc") 
+            ? Sort.by(sortBy).descending() 
+            : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        PropertyFilter filter = toFilter(minPrice, maxPrice, beds, baths, propertyType, city);
+        boolean available = !Boolean.FALSE.equals(isAvailable);
+        return ResponseEntity.ok(propertyService.findPropertyFieldsByAvailability(
+                PropertyField.parse(fields), filter, available, pageable));
+    }
+
     /**
      * Récupère une propriété par son ID
+     * Servie depuis le cache local, invalidé sur tous les nœuds à chaque modification
      * 
      * @param id ID de la propriété
      * @return PropertyDto
      */
     @GetMapping("/{id}")
     public ResponseEntity<PropertyDto> getPropertyById(@PathVariable @Min(1) Long id) {
-        Property property = propertyService.findPropertyById(id);
-        PropertyDto propertyDto = propertyMapper.toDto(property);
+        PropertyDto propertyDto = propertyCache.get(id,
+                key -> propertyMapper.toDto(propertyService.findPropertyById(key)));
+        propertyViewCounter.recordView(id);
+        if (propertyDto.location() != null) {
+            trendingService.recordView(id, propertyDto.location().latitude(), propertyDto.location().longitude());
+        }
         return ResponseEntity.ok(propertyDto);
     }
 
     /**
-     * Crée une nouvelle propriété
+     * Récupère plusieurs propriétés par leurs IDs en un seul appel
+     * Les propriétés en cache sont servies directement, les autres sont chargées en une seule requête
+     * 
+     * @param ids IDs des propriétés (ex: ids=3,1,2), 200 au maximum
+     * @return Propriétés dans l'ordre demandé et IDs introuvables
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<PropertyBatchDto> getPropertiesByIds(
+            @RequestParam @Size(min = 1, max = MAX_BATCH_IDS) List<@NotNull @Min(1) Long> ids) {
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, PropertyDto> found = propertyCache.getAll(requested, missing ->
+                propertyService.findPropertiesByIds(missing).stream()
+                        .collect(Collectors.toMap(Property::getId, propertyMapper::toDto)));
+
+        List<PropertyDto> properties = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            PropertyDto propertyDto = found.get(id);
+            if (propertyDto != null) {
+                properties.add(propertyDto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return ResponseEntity.ok(new PropertyBatchDto(properties, missingIds));
+    }
+
+    /**
+     * Récupère uniquement les champs demandés d'une propriété
+     * 
+     * @param id ID de la propriété
+     * @param fields Champs demandés, séparés par des virgules
+     * @return Propriété ne contenant que les champs demandés
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<SparseProperty> getPropertyFieldsById(
+            @PathVariable @Min(1) Long id,
+            @RequestParam String fields) {
+        SparseProperty property = propertyService.findPropertyFieldsById(PropertyField.parse(fields), id);
+        propertyViewCounter.recordView(id);
+        return ResponseEntity.ok(property);
+    }
+
+    /**
+     * Crée une nouvelle propriété pour le gestionnaire connecté
      * 
      * @param propertyDto Données de la propriété à créer
+     * @param principal Gestionnaire authentifié
      * @return PropertyDto de la propriété créée
      */
     @PostMapping
-    public ResponseEntity<PropertyDto> createProperty(@Valid @RequestBody PropertyDto propertyDto) {
+    public ResponseEntity<PropertyDto> createProperty(
+            @Valid @RequestBody PropertyDto propertyDto,
+            @AuthenticationPrincipal ClerkPrincipal principal) {
+        // Un gestionnaire ne crée des annonces que pour lui-même
+        if (propertyDto.manager() != null && propertyDto.manager().id() != null
+                && !propertyDto.manager().id().equals(principal.managerId())) {
+            throw new AccessDeniedException("Properties can only be created for the signed-in manager");
+        }
         Property property = propertyMapper.toNewEntity(propertyDto);
+        Manager owner = new Manager();
+        owner.setId(principal.managerId());
+        property.setManager(owner);
         Property savedProperty = propertyService.createProperty(property);
         PropertyDto savedPropertyDto = propertyMapper.toDto(savedProperty);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedPropertyDto);
@@ -131,6 +281,32 @@ public class PropertyController {
         return ResponseEntity.ok(updatedPropertyDto);
     }
 
+    /**
+     * Met à jour partiellement une propriété (JSON Merge Patch, RFC 7396)
+     * Seules les colonnes présentes dans le patch sont écrites ; null efface un champ optionnel.
+     * 
+     * @param id ID de la propriété
+     * @param patch Champs à modifier
+     * @param ifMatch Version attendue (ETag), optionnelle
+     * @return Nouvelle version de la propriété, aussi renvoyée en ETag
+     */
+    @PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<PropertyPatchResult> patchProperty(
+            @PathVariable @Min(1) Long id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        Long expectedVersion = parseVersion(ifMatch);
+        try {
+            PropertyPatchResult result = propertyService.patchProperty(id, patch, expectedVersion);
+            return ResponseEntity.ok()
+                    .eTag(String.valueOf(result.version()))
+                    .body(result);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+    }
+
     /**
      * Supprime une propriété
      * 
@@ -144,7 +320,7 @@ public class PropertyController {
     }
 
     /**
-     * Recherche des propriétés dans un rayon géographique
+     * Recherche des propriétés disponibles dans un rayon géographique
      * 
      * @param lat Latitude
      * @param lng Longitude
@@ -157,7 +333,20 @@ public class PropertyController {
             @RequestParam @DecimalMin("-180.0") @DecimalMin("180.0") Double lng,
             @RequestParam @DecimalMin("0.0") Double radius) {
         
-        List<Property> properties = propertyService.searchByRadius(lat, lng, radius);
+        List<PropertyDto> propertyDtos = radiusSearchCache.search(lat, lng, radius, (centerLat, centerLng, radiusKm) ->
+                propertyMapper.toDtoList(propertyService.searchByRadius(centerLat, centerLng, radiusKm)));
+        return ResponseEntity.ok(propertyDtos);
+    }
+
+    /**
+     * Recherche des propriétés disponibles offrant toutes les commodités demandées
+     * 
+     * @param amenities Commodités requises (ex: amenities=pool&amenities=gym)
+     * @return Liste des propriétés correspondantes
+     */
+    @GetMapping("/search/amenities")
+    public ResponseEntity<List<PropertyDto>> searchPropertiesByAmenities(@RequestParam List<String> amenities) {
+        List<Property> properties = propertyService.searchByAmenities(amenities);
         List<PropertyDto> propertyDtos = propertyMapper.toDtoList(properties);
         return ResponseEntity.ok(propertyDtos);
     }
@@ -166,21 +355,23 @@ public class PropertyController {
 
     /**
      * Récupère les candidatures pour une propriété
-     * TODO: Décommenter quand Application et ApplicationDto seront implémentés
+     * Pagination par curseur (keyset) : passer nextCursor de la réponse précédente
      * 
      * @param id ID de la propriété
-     * @return Liste des candidatures
+     * @param status Statut des candidatures (défaut: PENDING)
+     * @param cursor Curseur de la page précédente
+     * @param size Taille de page (défaut: 20)
+     * @return Page de candidatures
      */
-    /*
     @GetMapping("/{id}/applications")
-    public ResponseEntity<List<ApplicationDto>> getPropertyApplications(@PathVariable @Min(1) Long id) {
-        // TODO: Implémenter quand ApplicationService sera disponible
-        // List<Application> applications = applicationService.findApplicationsByProperty(id);
-        // List<ApplicationDto> applicationDtos = applicationMapper.toDtoList(applications);
-        // return ResponseEntity.ok(applicationDtos);
-        return ResponseEntity.ok(List.of());
+    public ResponseEntity<ApplicationInboxPage> getPropertyApplications(
+            @PathVariable @Min(1) Long id,
+            @RequestParam(defaultValue = "PENDING") ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return ResponseEntity.ok(applicationService.getPropertyInbox(id, status, cursor, size));
     }
-    */
 
     /**
      * Récupère les avis pour une propriété
@@ -234,7 +425,7 @@ public class PropertyController {
 
     /**
      * Met à jour la note moyenne d'une propriété
-     * TODO: Utiliser quand le système d'avis sera implémenté
+     * Recalcul complet depuis les avis déjà agrégés (chemin de réparation)
      * 
      * @param id ID de la propriété
      * @return Réponse vide
@@ -249,12 +440,113 @@ public class PropertyController {
      * Récupère les propriétés d'un gestionnaire
      * 
      * @param managerClerkId ID Clerk du gestionnaire
+     * @param activeOnly N'inclure que les annonces disponibles (défaut: false)
      * @return Liste des propriétés du gestionnaire
      */
     @GetMapping("/manager/{managerClerkId}")
-    public ResponseEntity<List<PropertyDto>> getPropertiesByManager(@PathVariable String managerClerkId) {
-        List<Property> properties = propertyService.getPropertiesByManager(managerClerkId);
+    public ResponseEntity<List<PropertyDto>> getPropertiesByManager(
+            @PathVariable String managerClerkId,
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
+        List<Property> properties = activeOnly
+            ? propertyService.getAvailablePropertiesByManager(managerClerkId)
+            : propertyService.getPropertiesByManager(managerClerkId);
         List<PropertyDto> propertyDtos = propertyMapper.toDtoList(properties);
         return ResponseEntity.ok(propertyDtos);
     }
-}
\ No newline at end of file
+
+    /**
+     * Récupère une page du portefeuille d'un gestionnaire, avec filtres et tri
+     * 
+     * @param managerClerkId ID Clerk du gestionnaire
+     * @param page Numéro de page (défaut: 0)
+     * @param size Taille de page (défaut: 20, max: 100)
+     * @param sortBy Champ de tri: id, pricePerMonth ou postedDate (défaut: id)
+     * @param sortDir Direction de tri (défaut: asc)
+     * @param isAvailable Disponibilité (défaut: toutes les annonces)
+     * @param minPrice Prix minimum
+     * @param maxPrice Prix maximum
+     * @param beds Nombre minimum de chambres
+     * @param baths Nombre minimum de salles de bain
+     * @param propertyType Type de propriété
+     * @param city Ville
+     * @return Page de PropertyDto
+     */
+    @GetMapping("/manager/{managerClerkId}/portfolio")
+    public ResponseEntity<Page<PropertyDto>> getManagerPortfolio(
+            @PathVariable String managerClerkId,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) Boolean isAvailable,
+            @RequestParam(required = false) @DecimalMin("0.0") Double minPrice,
+            @RequestParam(required = false) @DecimalMin("0.0") Double maxPrice,
+            @RequestParam(required = false) @Min(0) Integer beds,
+            @RequestParam(required = false) @DecimalMin("0.0") Float baths,
+            @RequestParam(required = false) String propertyType,
+            @RequestParam(required = false) String city) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc")
+            ? Sort.by(sortBy).descending()
+            : Sort.by(sortBy).ascending();
+        Page<Property> portfolio = propertyService.getPortfolioByManager(managerClerkId,
+            toFilter(minPrice, maxPrice, beds, baths, propertyType, city), isAvailable, PageRequest.of(page, size, sort));
+        return ResponseEntity.ok(propertyMapper.toDtoPage(portfolio));
+    }
+
+    /**
+     * Récupère uniquement les champs demandés des propriétés d'un gestionnaire
+     * 
+     * @param managerClerkId ID Clerk du gestionnaire
+     * @param fields Champs demandés, séparés par des virgules
+     * @param activeOnly N'inclure que les annonces disponibles (défaut: false)
+     * @return Liste des propriétés ne contenant que les champs demandés
+     */
+    @GetMapping(value = "/manager/{managerClerkId}", params = "fields")
+    public ResponseEntity<List<SparseProperty>> getPropertyFieldsByManager(
+            @PathVariable String managerClerkId,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
+        return ResponseEntity.ok(propertyService.getPropertyFieldsByManager(
+                PropertyField.parse(fields), managerClerkId, activeOnly));
+    }
+
+    /**
+     * Paramètre invalide (type de propriété inconnu, patch mal formé, curseur illisible, trop d'IDs...) : 400 plutôt que 500
+     */
+    @ExceptionHandler({ IllegalArgumentException.class, ConstraintViolationException.class })
+    public void handleInvalidArgument(RuntimeException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+
+    // ===== MÉTHODES PRIVÉES =====
+
+    /**
+     * Construit les filtres de recherche à partir des paramètres de requête
+     */
+    private PropertyFilter toFilter(Double minPrice, Double maxPrice, Integer beds, Float baths,
+                                    String propertyType, String city) {
+        return new PropertyFilter(
+            minPrice != null ? BigDecimal.valueOf(minPrice) : null,
+            maxPrice != null ? BigDecimal.valueOf(maxPrice) : null,
+            beds,
+            baths,
+            StringUtils.hasText(propertyType) ? PropertyType.parse(propertyType) : null,
+            StringUtils.hasText(city) ? city.trim() : null);
+    }
+
+    /**
+     * Extrait la version d'un en-tête If-Match ("3", W/"3" ou 3)
+     */
+    private Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String version = ifMatch.trim().replaceFirst("^W/", "").replace("\"", "");
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match version: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.estatehub.estate_hub_backend.Property;
+
+/**
+ * Projection of a property's location point, read without loading Location
+ */
+public interface PropertyCoordinates {
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
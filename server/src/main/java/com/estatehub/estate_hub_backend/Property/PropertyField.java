@@ -0,0 +1,152 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+/**
+ * Fields of PropertyDto that can be requested through the fields= parameter, each with the
+ * SQL expression that reads it. Nested location and manager fields are addressed as
+ * "location.city" / "manager.name", or "location" / "manager" for the whole object.
+ * Declaration order is output order; nested fields stay contiguous per object.
+ */
+public enum PropertyField {
+    ID("id", null, "p.id", ResultSet::getLong),
+    NAME("name", null, "p.name", ResultSet::getString),
+    DESCRIPTION("description", null, "p.description", ResultSet::getString),
+    PRICE_PER_MONTH("pricePerMonth", null, "p.price_per_month", ResultSet::getBigDecimal),
+    SECURITY_DEPOSIT("securityDeposit", null, "p.security_deposit", ResultSet::getBigDecimal),
+    APPLICATION_FEE("applicationFee", null, "p.application_fee", ResultSet::getBigDecimal),
+    PHOTO_URLS("photoUrls", null, "p.photo_urls", PropertyField::readTextArray),
+    AMENITIES("amenities", null, "p.amenities", PropertyField::readTextArray),
+    HIGHLIGHTS("highlights", null, "p.highlights", PropertyField::readTextArray),
+    IS_PETS_ALLOWED("isPetsAllowed", null, "p.is_pets_allowed", (rs, i) -> rs.getObject(i, Boolean.class)),
+    IS_PARKING_INCLUDED("isParkingIncluded", null, "p.is_parking_included", (rs, i) -> rs.getObject(i, Boolean.class)),
+    BEDS("beds", null, "p.beds", (rs, i) -> rs.getObject(i, Integer.class)),
+    BATHS("baths", null, "p.baths", (rs, i) -> rs.getObject(i, Float.class)),
+    SQUARE_FEET("squareFeet", null, "p.square_feet", (rs, i) -> rs.getObject(i, Integer.class)),
+    PROPERTY_TYPE("propertyType", null, "p.property_type", PropertyField::readPropertyType),
+    POSTED_DATE("postedDate", null, "p.posted_date", PropertyField::readTimestamp),
+    AVERAGE_RATING("averageRating", null, "p.average_rating", (rs, i) -> rs.getObject(i, Float.class)),
+    NUMBER_OF_REVIEWS("numberOfReviews", null, "p.number_of_reviews", (rs, i) -> rs.getObject(i, Integer.class)),
+    IS_AVAILABLE("isAvailable", null, "p.is_available", (rs, i) -> rs.getObject(i, Boolean.class)),
+
+    LOCATION_ID("location.id", "location", "l.id", ResultSet::getLong),
+    LOCATION_ADDRESS("location.address", "location", "l.address", ResultSet::getString),
+    LOCATION_CITY("location.city", "location", "l.city", ResultSet::getString),
+    LOCATION_STATE("location.state", "location", "l.state", ResultSet::getString),
+    LOCATION_COUNTRY("location.country", "location", "l.country", ResultSet::getString),
+    LOCATION_POSTAL_CODE("location.postalCode", "location", "l.postal_code", ResultSet::getString),
+    LOCATION_LATITUDE("location.latitude", "location", "ST_Y(l.coordinates::geometry)", (rs, i) -> rs.getObject(i, Double.class)),
+    LOCATION_LONGITUDE("location.longitude", "location", "ST_X(l.coordinates::geometry)", (rs, i) -> rs.getObject(i, Double.class)),
+
+    MANAGER_ID("manager.id", "manager", "m.id", ResultSet::getLong),
+    MANAGER_NAME("manager.name", "manager", "m.name", ResultSet::getString),
+    MANAGER_EMAIL("manager.email", "manager", "m.email", ResultSet::getString),
+    MANAGER_PHONE_NUMBER("manager.phoneNumber", "manager", "m.phone_number", ResultSet::getString);
+
+    @FunctionalInterface
+    interface ColumnReader {
+        Object read(ResultSet rs, int column) throws SQLException;
+    }
+
+    private static final Map<String, List<PropertyField>> BY_NAME = new LinkedHashMap<>();
+
+    static {
+        for (PropertyField field : values()) {
+            BY_NAME.put(field.path, List.of(field));
+            if (field.group != null) {
+                BY_NAME.computeIfAbsent(field.group, group -> Arrays.stream(values())
+                        .filter(f -> group.equals(f.group))
+                        .toList());
+            }
+        }
+    }
+
+    private final String path;
+    private final String group;
+    private final String sql;
+    private final ColumnReader reader;
+
+    PropertyField(String path, String group, String sql, ColumnReader reader) {
+        this.path = path;
+        this.group = group;
+        this.sql = sql;
+        this.reader = reader;
+    }
+
+    /**
+     * Parse a fields= value ("id,name,location.latitude,manager"); id is always included
+     *
+     * @throws IllegalArgumentException on an unknown field
+     */
+    public static EnumSet<PropertyField> parse(String fields) {
+        EnumSet<PropertyField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            List<PropertyField> matched = BY_NAME.get(trimmed);
+            if (matched == null) {
+                throw new IllegalArgumentException("Unknown property field: " + trimmed);
+            }
+            selected.addAll(matched);
+        }
+        return selected;
+    }
+
+    /**
+     * Top-level field usable for sorting, by its JSON name
+     */
+    static PropertyField sortable(String name) {
+        List<PropertyField> matched = BY_NAME.get(name);
+        if (matched == null || matched.size() != 1 || matched.get(0).group != null
+                || EnumSet.of(PHOTO_URLS, AMENITIES, HIGHLIGHTS).contains(matched.get(0))) {
+            throw new IllegalArgumentException("Cannot sort by property field: " + name);
+        }
+        return matched.get(0);
+    }
+
+    public String path() { return path; }
+
+    /**
+     * Name of the nested object ("location", "manager"), null for top-level fields
+     */
+    public String group() { return group; }
+
+    /**
+     * Name of the field inside its nested object
+     */
+    public String leafName() { return group == null ? path : path.substring(group.length() + 1); }
+
+    String sql() { return sql; }
+
+    Object read(ResultSet rs, int column) throws SQLException {
+        return reader.read(rs, column);
+    }
+
+    private static Object readTextArray(ResultSet rs, int column) throws SQLException {
+        Array array = rs.getArray(column);
+        return array != null ? Arrays.asList((String[]) array.getArray()) : null;
+    }
+
+    private static Object readTimestamp(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    // property_type is stored by ordinal; the API exposes the enum name, as PropertyMapper does
+    private static Object readPropertyType(ResultSet rs, int column) throws SQLException {
+        int ordinal = rs.getInt(column);
+        return rs.wasNull() ? null : PropertyType.values()[ordinal].name();
+    }
+}
@@ -0,0 +1,18 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.math.BigDecimal;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+/**
+ * Listing search filters; a null field does not filter.
+ * Beds and baths are minimums, city is matched exactly.
+ */
+public record PropertyFilter(
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    Integer minBeds,
+    Float minBaths,
+    PropertyType propertyType,
+    String city
+) {}
@@ -0,0 +1,8 @@
+package com.estatehub.estate_hub_backend.Property;
+
+/**
+ * Published by PropertyServiceImpl inside the writing transaction when a listing moves to another manager,
+ * alongside the UPDATED PropertyChangedEvent (which names the new manager only).
+ */
+public record PropertyManagerChangedEvent(Long propertyId, Long previousManagerId, Long newManagerId,
+                                          boolean available) {}
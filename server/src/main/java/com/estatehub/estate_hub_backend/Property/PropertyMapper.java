@@ -10,10 +10,16 @@ import com.estatehub.estate_hub_backend.Location.Location;
 import com.estatehub.estate_hub_backend.Manager.Manager;
 import com.estatehub.estate_hub_backend.Location.LocationDto;
 import com.estatehub.estate_hub_backend.Manager.ManagerDto;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 
 @Mapper(componentModel = "spring")
 public interface PropertyMapper {
 
+    GeometryFactory WGS84 = new GeometryFactory(new PrecisionModel(), 4326);
+
     // ===== CONVERSIONS PRINCIPALES =====
     
     /**
@@ -33,7 +39,9 @@ public interface PropertyMapper {
     @Mapping(target = "numberOfReviews", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "propertyType", source = "propertyType", qualifiedByName = "stringToEnum")
+    @Mapping(target = "location", source = "location", qualifiedByName = "dtoToLocation")
     Property toEntity(PropertyDto dto);
 
     // ===== CONVERSIONS DE COLLECTIONS =====
@@ -69,11 +77,7 @@ public interface PropertyMapper {
         if (propertyType == null || propertyType.isBlank()) {
             return null;
         }
-        try {
-            return PropertyType.valueOf(propertyType.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+        return PropertyType.parse(propertyType);
     }
 
     /**
@@ -101,6 +105,25 @@ public interface PropertyMapper {
         );
     }
 
+    /**
+     * Convertit LocationDto vers Location (coordonnées en Point WGS84, x = longitude, y = latitude)
+     * Toujours une nouvelle instance : les lieux sont partagés entre propriétés et jamais modifiés
+     */
+    @Named("dtoToLocation")
+    default Location dtoToLocation(LocationDto dto) {
+        if (dto == null) return null;
+
+        Point coordinates = null;
+        if (dto.latitude() != null && dto.longitude() != null) {
+            coordinates = WGS84.createPoint(new Coordinate(dto.longitude(), dto.latitude()));
+        }
+
+        Location location = new Location(dto.address(), dto.city(), dto.state(), dto.country(),
+                dto.postalCode(), coordinates);
+        location.setId(dto.id());
+        return location;
+    }
+
     /**
      * Convertit Manager vers ManagerDto
      */
@@ -127,7 +150,9 @@ public interface PropertyMapper {
     @Mapping(target = "numberOfReviews", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "propertyType", source = "propertyType", qualifiedByName = "stringToEnum")
+    @Mapping(target = "location", source = "location", qualifiedByName = "dtoToLocation")
     void updateEntityFromDto(PropertyDto dto, @MappingTarget Property property);
 
     /**
@@ -140,6 +165,8 @@ public interface PropertyMapper {
     @Mapping(target = "isAvailable", constant = "true")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "propertyType", source = "propertyType", qualifiedByName = "stringToEnum")
+    @Mapping(target = "location", source = "location", qualifiedByName = "dtoToLocation")
     Property toNewEntity(PropertyDto dto);
 }
\ No newline at end of file
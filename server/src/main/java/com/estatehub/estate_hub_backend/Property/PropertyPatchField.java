@@ -0,0 +1,152 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Columns a JSON Merge Patch (RFC 7396) may touch on properties, keyed by their PropertyDto name.
+ * Each field converts and validates its JSON value with the same rules as the entity constraints.
+ * Relations, audit and rating columns are deliberately absent.
+ */
+enum PropertyPatchField {
+
+    NAME("name", "name", false, node -> {
+        String name = requireText(node, "name");
+        if (name.isBlank() || name.length() > 255) {
+            throw new IllegalArgumentException("Property name must be between 1 and 255 characters");
+        }
+        return name;
+    }),
+    DESCRIPTION("description", "description", true, node -> requireText(node, "description")),
+    PRICE_PER_MONTH("pricePerMonth", "price_per_month", false, node -> {
+        BigDecimal price = requireDecimal(node, "pricePerMonth");
+        if (price.signum() <= 0) {
+            throw new IllegalArgumentException("Price must be greater than 0");
+        }
+        return price;
+    }),
+    SECURITY_DEPOSIT("securityDeposit", "security_deposit", true,
+            node -> requireNonNegative(requireDecimal(node, "securityDeposit"), "Security deposit")),
+    APPLICATION_FEE("applicationFee", "application_fee", true,
+            node -> requireNonNegative(requireDecimal(node, "applicationFee"), "Application fee")),
+    PHOTO_URLS("photoUrls", "photo_urls", true, node -> requireTextArray(node, "photoUrls")),
+    AMENITIES("amenities", "amenities", true, node -> requireTextArray(node, "amenities")),
+    HIGHLIGHTS("highlights", "highlights", true, node -> requireTextArray(node, "highlights")),
+    IS_PETS_ALLOWED("isPetsAllowed", "is_pets_allowed", true, node -> requireBoolean(node, "isPetsAllowed")),
+    IS_PARKING_INCLUDED("isParkingIncluded", "is_parking_included", true,
+            node -> requireBoolean(node, "isParkingIncluded")),
+    BEDS("beds", "beds", false, node -> requireNonNegative(requireInt(node, "beds"), "Number of beds")),
+    BATHS("baths", "baths", false, node -> {
+        float baths = (float) requireDecimal(node, "baths").doubleValue();
+        if (baths < 0) {
+            throw new IllegalArgumentException("Number of baths must be non-negative");
+        }
+        return baths;
+    }),
+    SQUARE_FEET("squareFeet", "square_feet", true,
+            node -> requireNonNegative(requireInt(node, "squareFeet"), "Square feet")),
+    // Property.propertyType has no @Enumerated, so the column holds the ordinal
+    PROPERTY_TYPE("propertyType", "property_type", false, node -> {
+        return PropertyType.parse(requireText(node, "propertyType")).ordinal();
+    }),
+    IS_AVAILABLE("isAvailable", "is_available", false, node -> requireBoolean(node, "isAvailable"));
+
+    private static final Map<String, PropertyPatchField> BY_JSON_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(field -> field.jsonName, Function.identity()));
+
+    private final String jsonName;
+    private final String column;
+    private final boolean nullable;
+    private final Function<JsonNode, Object> converter;
+
+    PropertyPatchField(String jsonName, String column, boolean nullable, Function<JsonNode, Object> converter) {
+        this.jsonName = jsonName;
+        this.column = column;
+        this.nullable = nullable;
+        this.converter = converter;
+    }
+
+    String column() { return column; }
+
+    /**
+     * Converts the patch value; JSON null clears the column when it is nullable
+     */
+    Object toColumnValue(JsonNode node) {
+        if (node.isNull()) {
+            if (!nullable) {
+                throw new IllegalArgumentException(jsonName + " cannot be removed");
+            }
+            return null;
+        }
+        return converter.apply(node);
+    }
+
+    static PropertyPatchField fromJsonName(String jsonName) {
+        PropertyPatchField field = BY_JSON_NAME.get(jsonName);
+        if (field == null) {
+            throw new IllegalArgumentException("Field cannot be patched: " + jsonName);
+        }
+        return field;
+    }
+
+    // Private helper methods
+
+    private static String requireText(JsonNode node, String name) {
+        if (!node.isTextual()) {
+            throw new IllegalArgumentException(name + " must be a string");
+        }
+        return node.textValue();
+    }
+
+    private static BigDecimal requireDecimal(JsonNode node, String name) {
+        if (!node.isNumber()) {
+            throw new IllegalArgumentException(name + " must be a number");
+        }
+        return node.decimalValue();
+    }
+
+    private static int requireInt(JsonNode node, String name) {
+        if (!node.canConvertToInt() || !node.isIntegralNumber()) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+        return node.intValue();
+    }
+
+    private static boolean requireBoolean(JsonNode node, String name) {
+        if (!node.isBoolean()) {
+            throw new IllegalArgumentException(name + " must be a boolean");
+        }
+        return node.booleanValue();
+    }
+
+    private static String[] requireTextArray(JsonNode node, String name) {
+        if (!node.isArray()) {
+            throw new IllegalArgumentException(name + " must be an array of strings");
+        }
+        List<String> values = new ArrayList<>(node.size());
+        node.forEach(item -> values.add(requireText(item, name + "[]")));
+        return values.toArray(String[]::new);
+    }
+
+    private static BigDecimal requireNonNegative(BigDecimal value, String label) {
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException(label + " must be non-negative");
+        }
+        return value;
+    }
+
+    private static int requireNonNegative(int value, String label) {
+        if (value < 0) {
+            throw new IllegalArgumentException(label + " must be non-negative");
+        }
+        return value;
+    }
+}
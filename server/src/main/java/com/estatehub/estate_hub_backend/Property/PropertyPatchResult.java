@@ -0,0 +1,12 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a partial update, read back with UPDATE ... RETURNING instead of reloading the listing.
+ */
+public record PropertyPatchResult(
+    Long id,
+    Long version,
+    LocalDateTime updatedAt
+) {}
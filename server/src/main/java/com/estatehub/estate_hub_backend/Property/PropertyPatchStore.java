@@ -0,0 +1,79 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Targeted partial updates on properties: only the patched columns are written,
+ * nothing is loaded into the persistence context.
+ */
+@Repository
+public class PropertyPatchStore {
+
+    /**
+     * Row state after the update, plus the availability before it (for change events)
+     */
+    record Outcome(Long id, Long version, LocalDateTime updatedAt, Long managerId,
+                   boolean wasAvailable, boolean isAvailable) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyPatchStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param values patched columns and their converted values
+     * @param expectedVersion version the client last saw (If-Match), or null to skip the check
+     * @return empty when the property does not exist or its version no longer matches
+     */
+    Optional<Outcome> apply(Long id, Map<PropertyPatchField, Object> values, Long expectedVersion) {
+        String assignments = values.keySet().stream()
+                .map(field -> field.column() + " = ?")
+                .collect(Collectors.joining(", "));
+        String sql = """
+            WITH previous AS (SELECT id, is_available FROM properties WHERE id = ? FOR UPDATE)
+            UPDATE properties p SET %s, version = p.version + 1, updated_at = now()
+            FROM previous
+            WHERE p.id = previous.id %s
+            RETURNING p.id, p.version, p.updated_at, p.manager_id,
+                      previous.is_available AS was_available, p.is_available
+            """.formatted(assignments, expectedVersion != null ? "AND p.version = ?" : "");
+
+        List<Outcome> rows = jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(sql);
+            int index = 1;
+            statement.setLong(index++, id);
+            for (Object value : values.values()) {
+                statement.setObject(index++, toJdbcValue(con, value));
+            }
+            if (expectedVersion != null) {
+                statement.setLong(index, expectedVersion);
+            }
+            return statement;
+        }, (rs, row) -> new Outcome(
+                rs.getLong("id"),
+                rs.getLong("version"),
+                rs.getTimestamp("updated_at").toLocalDateTime(),
+                rs.getLong("manager_id"),
+                rs.getBoolean("was_available"),
+                rs.getBoolean("is_available")));
+        return rows.stream().findFirst();
+    }
+
+    private static Object toJdbcValue(Connection con, Object value) throws SQLException {
+        if (value instanceof String[] items) {
+            return con.createArrayOf("text", items);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,136 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Narrow property reads for sparse fieldsets: the SELECT list holds only the requested
+ * columns, and locations / managers are joined only when one of their fields is requested.
+ */
+@Repository
+public class PropertyProjectionStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyProjectionStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<SparseProperty> findById(EnumSet<PropertyField> fields, Long id) {
+        PropertyField[] ordered = SparseProperty.ordered(fields);
+        return jdbcTemplate.query(select(ordered) + " WHERE p.id = ?", rowMapper(ordered), id)
+                .stream().findFirst();
+    }
+
+    /**
+     * Same rows as PropertyRepository.findFiltered, reading only the requested fields
+     */
+    public Page<SparseProperty> findByAvailability(EnumSet<PropertyField> fields, PropertyFilter filter,
+                                                   boolean available, Pageable pageable) {
+        PropertyField[] ordered = SparseProperty.ordered(fields);
+        List<Object> args = new ArrayList<>();
+        String where = where(filter, available, args);
+        String sql = select(ordered) + where + orderBy(pageable.getSort()) + " LIMIT ? OFFSET ?";
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+        List<SparseProperty> content = jdbcTemplate.query(sql, rowMapper(ordered), pageArgs.toArray());
+        Long total = jdbcTemplate.queryForObject("SELECT count(*) FROM properties p" + where, Long.class, args.toArray());
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    public List<SparseProperty> findByManagerClerkId(EnumSet<PropertyField> fields, String managerClerkId, boolean activeOnly) {
+        PropertyField[] ordered = SparseProperty.ordered(fields);
+        String sql = select(ordered)
+                + " WHERE p.manager_id = (SELECT id FROM managers WHERE clerk_id = ?)"
+                + (activeOnly ? " AND p.is_available" : "")
+                + " ORDER BY p.id";
+        return jdbcTemplate.query(sql, rowMapper(ordered), managerClerkId);
+    }
+
+    // Only the filters that are set reach the SQL; the city is matched through a subquery so the
+    // WHERE clause does not depend on whether select() joined locations
+    private static String where(PropertyFilter filter, boolean available, List<Object> args) {
+        StringBuilder sql = new StringBuilder(" WHERE p.is_available = ?");
+        args.add(available);
+        if (filter.minPrice() != null) {
+            sql.append(" AND p.price_per_month >= ?");
+            args.add(filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            sql.append(" AND p.price_per_month <= ?");
+            args.add(filter.maxPrice());
+        }
+        if (filter.minBeds() != null) {
+            sql.append(" AND p.beds >= ?");
+            args.add(filter.minBeds());
+        }
+        if (filter.minBaths() != null) {
+            sql.append(" AND p.baths >= ?");
+            args.add(filter.minBaths());
+        }
+        if (filter.propertyType() != null) {
+            // property_type is stored by ordinal
+            sql.append(" AND p.property_type = ?");
+            args.add(filter.propertyType().ordinal());
+        }
+        if (filter.city() != null) {
+            sql.append(" AND p.location_id IN (SELECT id FROM locations WHERE city = ?)");
+            args.add(filter.city());
+        }
+        return sql.toString();
+    }
+
+    private static String select(PropertyField[] fields) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        boolean location = false;
+        boolean manager = false;
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(fields[i].sql());
+            location |= "location".equals(fields[i].group());
+            manager |= "manager".equals(fields[i].group());
+        }
+        sql.append(" FROM properties p");
+        if (location) {
+            sql.append(" JOIN locations l ON l.id = p.location_id");
+        }
+        if (manager) {
+            sql.append(" JOIN managers m ON m.id = p.manager_id");
+        }
+        return sql.toString();
+    }
+
+    // Sort keys are whitelisted through PropertyField, so only known expressions reach the SQL
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(PropertyField.sortable(order.getProperty()).sql() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        orders.add("p.id");
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static RowMapper<SparseProperty> rowMapper(PropertyField[] fields) {
+        return (ResultSet rs, int row) -> {
+            Object[] values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].read(rs, i + 1);
+            }
+            return new SparseProperty(fields, values);
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.Location.Location;
+import com.estatehub.estate_hub_backend.Location.LocationDto;
+import com.estatehub.estate_hub_backend.cache.CacheInvalidationBus;
+import com.estatehub.estate_hub_backend.cache.InvalidatableCache;
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Node-local cache of radius searches over available listings.
+ *
+ * A search is snapped to a radius tier and to the geohash cell holding its centre; the entry
+ * for that (cell, tier) holds every listing within tier + half the cell diagonal of the cell
+ * centre, a superset of any search snapped to it, and is filtered to the exact circle on read.
+ * Distances are great-circle, so listings within metres of the edge may differ from PostGIS.
+ *
+ * A property write invalidates only the entries that can hold the property: those whose
+ * superset covers its current location, plus those this node has cached it in (its previous
+ * location when it moves). Entries are bounded by total listings held and by a TTL.
+ */
+@Component
+public class PropertyRadiusSearchCache implements InvalidatableCache {
+
+    // Also named in the V16 manager trigger
+    public static final String NAME = "property-radius-search";
+
+    private static final double[] RADIUS_TIERS_KM = {1, 2, 5, 10, 25, 50};
+
+    /**
+     * Loads available listings within radiusKm of a point
+     */
+    @FunctionalInterface
+    public interface RadiusLoader {
+        List<PropertyDto> load(double latitude, double longitude, double radiusKm);
+    }
+
+    private final CacheInvalidationBus invalidationBus;
+    private final PropertyRepository propertyRepository;
+    private final Cache<String, List<PropertyDto>> cache;
+    // Keys each property is cached under; guarded by itself, together with puts into the cache
+    private final Map<Long, Set<String>> keysByProperty = new HashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PropertyRadiusSearchCache(CacheInvalidationBus invalidationBus, PropertyRepository propertyRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${estatehub.cache.radius-search.maximum-listings:200000}") long maximumListings,
+                                     @Value("${estatehub.cache.radius-search.ttl:PT2M}") Duration timeToLive) {
+        this.invalidationBus = invalidationBus;
+        this.propertyRepository = propertyRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumListings)
+                .weigher((String key, List<PropertyDto> listings) -> listings.size() + 1)
+                .expireAfterWrite(timeToLive)
+                .executor(Runnable::run)
+                .removalListener((String key, List<PropertyDto> listings, RemovalCause cause) -> {
+                    if (key != null && listings != null) {
+                        unregister(key, listings);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * Available listings within radiusKm of the point, served from the snapped entry when the
+     * radius has a tier; larger radii go straight to the loader.
+     */
+    public List<PropertyDto> search(double latitude, double longitude, double radiusKm, RadiusLoader loader) {
+        int tier = tierOf(radiusKm);
+        if (tier < 0) {
+            return loader.load(latitude, longitude, radiusKm);
+        }
+        String key = GeoHash.encode(latitude, longitude, precisionOf(tier)) + "/" + tier;
+        List<PropertyDto> superset = cache.getIfPresent(key);
+        if (superset == null) {
+            superset = loadSuperset(key, tier, loader);
+        }
+
+        List<PropertyDto> result = new ArrayList<>();
+        for (PropertyDto property : superset) {
+            LocationDto location = property.location();
+            if (location != null && location.latitude() != null && location.longitude() != null
+                    && GeoHash.distanceKm(latitude, longitude, location.latitude(), location.longitude()) <= radiusKm) {
+                result.add(property);
+            }
+        }
+        return result;
+    }
+
+    // Synchronous so the NOTIFY joins the writing transaction; the entity reflects the pending write
+    @EventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        String key = propertyRepository.findById(event.propertyId())
+                .map(Property::getLocation)
+                .map(Location::getCoordinates)
+                .map(point -> event.propertyId() + "@" + point.getY() + "," + point.getX())
+                .orElse(String.valueOf(event.propertyId()));
+        invalidationBus.invalidate(NAME, key);
+    }
+
+    /**
+     * Drop the entries that may hold a property, from "id" or "id@latitude,longitude"
+     */
+    @Override
+    public void invalidate(String key) {
+        int at = key.indexOf('@');
+        long propertyId = Long.parseLong(at < 0 ? key : key.substring(0, at));
+
+        Set<String> keys = new HashSet<>();
+        synchronized (keysByProperty) {
+            keys.addAll(keysByProperty.getOrDefault(propertyId, Set.of()));
+        }
+        if (at >= 0) {
+            int comma = key.indexOf(',', at);
+            keys.addAll(keysCovering(Double.parseDouble(key.substring(at + 1, comma)),
+                    Double.parseDouble(key.substring(comma + 1))));
+        }
+        invalidations.incrementAndGet();
+        cache.invalidateAll(keys);
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cache keys whose superset may contain a listing at this point
+     */
+    static Set<String> keysCovering(double latitude, double longitude) {
+        Set<String> keys = new HashSet<>();
+        for (int tier = 0; tier < RADIUS_TIERS_KM.length; tier++) {
+            int precision = precisionOf(tier);
+            double reach = supersetRadiusKm(GeoHash.decode(GeoHash.encode(latitude, longitude, precision)), tier);
+            for (String cell : GeoHash.coveringCells(latitude, longitude, reach, precision)) {
+                keys.add(cell + "/" + tier);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Index of the smallest tier holding the radius, -1 above the largest
+     */
+    static int tierOf(double radiusKm) {
+        for (int tier = 0; tier < RADIUS_TIERS_KM.length; tier++) {
+            if (radiusKm <= RADIUS_TIERS_KM[tier]) {
+                return tier;
+            }
+        }
+        return -1;
+    }
+
+    // Cells stay small next to the tier so the superset is not much wider than the search
+    static int precisionOf(int tier) {
+        double radiusKm = RADIUS_TIERS_KM[tier];
+        return radiusKm <= 2 ? 6 : (radiusKm <= 10 ? 5 : 4);
+    }
+
+    static double supersetRadiusKm(GeoHash.Cell cell, int tier) {
+        double halfDiagonalKm = GeoHash.distanceKm(cell.centerLat(), cell.centerLng(), cell.maxLat(), cell.maxLng());
+        return RADIUS_TIERS_KM[tier] + halfDiagonalKm;
+    }
+
+    private List<PropertyDto> loadSuperset(String key, int tier, RadiusLoader loader) {
+        GeoHash.Cell cell = GeoHash.decode(key.substring(0, key.indexOf('/')));
+        long generation = invalidations.get();
+        List<PropertyDto> superset = List.copyOf(loader.load(cell.centerLat(), cell.centerLng(),
+                supersetRadiusKm(cell, tier)));
+        synchronized (keysByProperty) {
+            for (PropertyDto property : superset) {
+                keysByProperty.computeIfAbsent(property.id(), id -> new HashSet<>()).add(key);
+            }
+            cache.put(key, superset);
+        }
+        // An invalidation during the load may concern what was just read; drop it rather than cache stale data
+        if (invalidations.get() != generation) {
+            cache.invalidate(key);
+        }
+        return superset;
+    }
+
+    private void unregister(String key, List<PropertyDto> removed) {
+        synchronized (keysByProperty) {
+            // A replacement may already be registered under the same key
+            Set<Long> stillCached = new HashSet<>();
+            cache.asMap().getOrDefault(key, List.of()).forEach(property -> stillCached.add(property.id()));
+            for (PropertyDto property : removed) {
+                if (stillCached.contains(property.id())) {
+                    continue;
+                }
+                Set<String> keys = keysByProperty.get(property.id());
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    keysByProperty.remove(property.id());
+                }
+            }
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package com.estatehub.estate_hub_backend.Property;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Long> {
 
@@ -24,17 +28,95 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
      */
     Optional<Property> findById(Long id);
 
+    /**
+     * Find a property with its location and manager in a single query
+     */
+    @Query("SELECT p FROM Property p JOIN FETCH p.location JOIN FETCH p.manager WHERE p.id = :id")
+    Optional<Property> findWithLocationAndManagerById(@Param("id") Long id);
+
+    /**
+     * Id of the manager owning a property
+     */
+    @Query("SELECT p.manager.id FROM Property p WHERE p.id = :id")
+    Optional<Long> findManagerIdById(@Param("id") Long id);
+
+    /**
+     * Find many properties with their location and manager in a single query
+     */
+    @Query("SELECT p FROM Property p JOIN FETCH p.location JOIN FETCH p.manager WHERE p.id IN :ids")
+    List<Property> findAllWithLocationAndManagerByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find properties by manager clerk ID
      */
     @Query("SELECT p FROM Property p WHERE p.manager.clerkId = :managerClerkId")
     List<Property> findByManagerClerkId(@Param("managerClerkId") String managerClerkId);
 
+    /**
+     * Find available properties by manager clerk ID
+     */
+    @Query("SELECT p FROM Property p WHERE p.manager.clerkId = :managerClerkId AND p.isAvailable = true")
+    List<Property> findAvailableByManagerClerkId(@Param("managerClerkId") String managerClerkId);
+
+    /**
+     * One page of a manager's portfolio matching the filters, with locations and manager fetched.
+     * Served by the (manager_id, sort column, id) indexes; null filters are ignored.
+     */
+    @EntityGraph(attributePaths = {"location", "manager"})
+    @Query("""
+        SELECT p FROM Property p
+        WHERE p.manager.id = :managerId
+          AND (:available IS NULL OR p.isAvailable = :available)
+          AND (:minPrice IS NULL OR p.pricePerMonth >= :minPrice)
+          AND (:maxPrice IS NULL OR p.pricePerMonth <= :maxPrice)
+          AND (:minBeds IS NULL OR p.beds >= :minBeds)
+          AND (:minBaths IS NULL OR p.baths >= :minBaths)
+          AND (:propertyType IS NULL OR p.propertyType = :propertyType)
+          AND (:city IS NULL OR p.location.city = :city)
+        """)
+    Page<Property> findPortfolio(@Param("managerId") Long managerId,
+                                 @Param("available") Boolean available,
+                                 @Param("minPrice") BigDecimal minPrice,
+                                 @Param("maxPrice") BigDecimal maxPrice,
+                                 @Param("minBeds") Integer minBeds,
+                                 @Param("minBaths") Float minBaths,
+                                 @Param("propertyType") PropertyType propertyType,
+                                 @Param("city") String city,
+                                 Pageable pageable);
+
     /**
      * Find available properties only
      */
     List<Property> findByIsAvailableTrue();
 
+    /**
+     * Find properties by availability with pagination.
+     * Available listings are served by the partial indexes WHERE is_available.
+     */
+    Page<Property> findAllByIsAvailable(Boolean isAvailable, Pageable pageable);
+
+    /**
+     * Find properties by availability matching the filters, with pagination; null filters are ignored
+     */
+    @Query("""
+        SELECT p FROM Property p
+        WHERE p.isAvailable = :available
+          AND (:minPrice IS NULL OR p.pricePerMonth >= :minPrice)
+          AND (:maxPrice IS NULL OR p.pricePerMonth <= :maxPrice)
+          AND (:minBeds IS NULL OR p.beds >= :minBeds)
+          AND (:minBaths IS NULL OR p.baths >= :minBaths)
+          AND (:propertyType IS NULL OR p.propertyType = :propertyType)
+          AND (:city IS NULL OR p.location.city = :city)
+        """)
+    Page<Property> findFiltered(@Param("available") boolean available,
+                                @Param("minPrice") BigDecimal minPrice,
+                                @Param("maxPrice") BigDecimal maxPrice,
+                                @Param("minBeds") Integer minBeds,
+                                @Param("minBaths") Float minBaths,
+                                @Param("propertyType") PropertyType propertyType,
+                                @Param("city") String city,
+                                Pageable pageable);
+
     /**
      * Find properties by price range
      */
@@ -43,7 +125,7 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     /**
      * Find properties by type
      */
-    List<Property> findByPropertyType(String propertyType);
+    List<Property> findByPropertyType(PropertyType propertyType);
 
     /**
      * Find properties within radius using PostGIS
@@ -63,6 +145,46 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
         @Param("radiusKm") Double radiusKm
     );
 
+    /**
+     * IDs of the available properties within radius using PostGIS
+     */
+    @Query(value = """
+        SELECT p.id FROM properties p 
+        JOIN locations l ON p.location_id = l.id 
+        WHERE p.is_available
+          AND ST_DWithin(
+            l.coordinates, 
+            ST_MakePoint(:longitude, :latitude)::geography, 
+            :radiusKm * 1000
+        )
+        """, nativeQuery = true)
+    List<Long> findAvailableIdsWithinRadius(
+        @Param("latitude") Double latitude, 
+        @Param("longitude") Double longitude, 
+        @Param("radiusKm") Double radiusKm
+    );
+
+    /**
+     * Find available properties offering every given amenity (GIN index on amenities)
+     */
+    @Query(value = """
+        SELECT p.* FROM properties p
+        WHERE p.amenities @> CAST(:amenities AS text[])
+          AND p.is_available
+        """, nativeQuery = true)
+    List<Property> findAvailableByAmenitiesContainingAll(@Param("amenities") String[] amenities);
+
+    /**
+     * Find the coordinates of a property's location
+     */
+    @Query(value = """
+        SELECT ST_Y(l.coordinates::geometry) AS latitude, ST_X(l.coordinates::geometry) AS longitude
+        FROM properties p
+        JOIN locations l ON p.location_id = l.id
+        WHERE p.id = :propertyId
+        """, nativeQuery = true)
+    Optional<PropertyCoordinates> findCoordinatesById(@Param("propertyId") Long propertyId);
+
     /**
      * Find properties by minimum beds and baths
      */
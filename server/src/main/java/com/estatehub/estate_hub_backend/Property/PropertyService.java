@@ -1,10 +1,14 @@
 package com.estatehub.estate_hub_backend.Property;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 /**
  * Service interface for Property management operations
  * Defines contract for property-related business logic
@@ -16,11 +20,32 @@ public interface PropertyService {
      */
     Page<Property> findAllProperties(Pageable pageable);
 
+    /**
+     * Find properties by availability with pagination (active listings when true)
+     */
+    Page<Property> findPropertiesByAvailability(boolean available, Pageable pageable);
+
+    /**
+     * Find properties by availability matching the filters, with pagination
+     */
+    Page<Property> findProperties(PropertyFilter filter, boolean available, Pageable pageable);
+
+    /**
+     * One page of a manager's portfolio matching the filters (all availabilities when available is null).
+     * Sortable by id, pricePerMonth or postedDate.
+     */
+    Page<Property> getPortfolioByManager(String managerClerkId, PropertyFilter filter, Boolean available, Pageable pageable);
+
     /**
      * Find property by ID
      */
     Property findPropertyById(Long id);
 
+    /**
+     * Find many properties by ID in one query (missing IDs are simply absent)
+     */
+    List<Property> findPropertiesByIds(Collection<Long> ids);
+
     /**
      * Create a new property
      */
@@ -31,16 +56,28 @@ public interface PropertyService {
      */
     Property updateProperty(Long id, Property property);
 
+    /**
+     * Apply a JSON Merge Patch, writing only the given columns
+     *
+     * @param expectedVersion version from If-Match, or null
+     */
+    PropertyPatchResult patchProperty(Long id, JsonNode patch, Long expectedVersion);
+
     /**
      * Delete property
      */
     void deleteProperty(Long id);
 
     /**
-     * Search properties within radius
+     * Search available properties within radius
      */
     List<Property> searchByRadius(Double latitude, Double longitude, Double radiusKm);
 
+    /**
+     * Search available properties offering all given amenities
+     */
+    List<Property> searchByAmenities(List<String> amenities);
+
     /**
      * Update property's average rating
      */
@@ -55,4 +92,24 @@ public interface PropertyService {
      * Get properties by manager
      */
     List<Property> getPropertiesByManager(String managerClerkId);
-}
\ No newline at end of file
+
+    /**
+     * Get available properties by manager
+     */
+    List<Property> getAvailablePropertiesByManager(String managerClerkId);
+
+    /**
+     * Page of properties by availability matching the filters, reading only the requested fields
+     */
+    Page<SparseProperty> findPropertyFieldsByAvailability(EnumSet<PropertyField> fields, PropertyFilter filter, boolean available, Pageable pageable);
+
+    /**
+     * Find property by ID, reading only the requested fields
+     */
+    SparseProperty findPropertyFieldsById(EnumSet<PropertyField> fields, Long id);
+
+    /**
+     * Get properties by manager, reading only the requested fields
+     */
+    List<SparseProperty> getPropertyFieldsByManager(EnumSet<PropertyField> fields, String managerClerkId, boolean activeOnly);
+}
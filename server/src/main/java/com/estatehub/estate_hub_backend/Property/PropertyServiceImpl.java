@@ -2,26 +2,73 @@ package com.estatehub.estate_hub_backend.Property;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.estatehub.estate_hub_backend.ListingEngine.ColumnarListingEngine;
+import com.estatehub.estate_hub_backend.Location.LocationService;
+import com.estatehub.estate_hub_backend.Manager.ManagerService;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.estatehub.estate_hub_backend.Review.RatingAggregateStore;
+import com.fasterxml.jackson.databind.JsonNode;
+
 @Service
 @Transactional
 public class PropertyServiceImpl implements PropertyService {
 
     private static final Logger log = LoggerFactory.getLogger(PropertyServiceImpl.class);
+
+    // Each has a (manager_id, column, id) index, so portfolio pages never sort a whole portfolio
+    private static final Set<String> PORTFOLIO_SORTS = Set.of("id", "pricePerMonth", "postedDate");
+
+    private static final int RADIUS_FETCH_CHUNK = 1000;
     
     private final PropertyRepository propertyRepository;
+    private final PropertyPatchStore propertyPatchStore;
+    private final PropertyProjectionStore propertyProjectionStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<ColumnarListingEngine> listingEngine;
+    private final ManagerService managerService;
+    private final LocationService locationService;
+    private final RatingAggregateStore ratingAggregateStore;
 
-    public PropertyServiceImpl(PropertyRepository propertyRepository) {
+    public PropertyServiceImpl(PropertyRepository propertyRepository,
+                               PropertyPatchStore propertyPatchStore,
+                               PropertyProjectionStore propertyProjectionStore,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectProvider<ColumnarListingEngine> listingEngine,
+                               ManagerService managerService,
+                               LocationService locationService,
+                               RatingAggregateStore ratingAggregateStore) {
         this.propertyRepository = propertyRepository;
+        this.propertyPatchStore = propertyPatchStore;
+        this.propertyProjectionStore = propertyProjectionStore;
+        this.eventPublisher = eventPublisher;
+        this.listingEngine = listingEngine;
+        this.managerService = managerService;
+        this.locationService = locationService;
+        this.ratingAggregateStore = ratingAggregateStore;
     }
 
     @Override
@@ -31,20 +78,61 @@ public class PropertyServiceImpl implements PropertyService {
         return propertyRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Property> findPropertiesByAvailability(boolean available, Pageable pageable) {
+        log.debug("Finding properties with availability {} with pagination", available);
+        return propertyRepository.findAllByIsAvailable(available, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Property> findProperties(PropertyFilter filter, boolean available, Pageable pageable) {
+        log.debug("Finding properties with availability {} matching {}", available, filter);
+
+        // Available listings are filtered in memory when the columnar engine is enabled
+        ColumnarListingEngine engine = listingEngine.getIfAvailable();
+        if (available && engine != null && engine.supports(pageable)) {
+            Page<Long> ids = engine.search(filter, pageable);
+            if (ids.getContent().isEmpty()) {
+                return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+            }
+            Map<Long, Property> found = new HashMap<>();
+            propertyRepository.findAllWithLocationAndManagerByIdIn(ids.getContent())
+                    .forEach(property -> found.put(property.getId(), property));
+            List<Property> page = ids.getContent().stream().map(found::get).filter(Objects::nonNull).toList();
+            return new PageImpl<>(page, pageable, ids.getTotalElements());
+        }
+        return propertyRepository.findFiltered(available, filter.minPrice(), filter.maxPrice(), filter.minBeds(),
+                filter.minBaths(), filter.propertyType(), filter.city(), pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Property findPropertyById(Long id) {
         log.debug("Finding property by ID: {}", id);
         
-        return propertyRepository.findById(id)
+        return propertyRepository.findWithLocationAndManagerById(id)
                 .orElseThrow(() -> new RuntimeException("Property not found with ID: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Property> findPropertiesByIds(Collection<Long> ids) {
+        log.debug("Finding {} properties by ID", ids.size());
+        
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return propertyRepository.findAllWithLocationAndManagerByIdIn(ids);
+    }
+
     @Override
     public Property createProperty(Property property) {
         log.info("Creating new property: {}", property.getName());
         
         validatePropertyData(property);
+        property.setLocation(locationService.intern(property.getLocation()));
         
         // Set initial values
         property.setPostedDate(LocalDateTime.now());
@@ -53,6 +141,7 @@ public class PropertyServiceImpl implements PropertyService {
         property.setNumberOfReviews(0);
         
         Property savedProperty = propertyRepository.save(property);
+        publishChange(savedProperty, ChangeType.CREATED);
         log.info("Successfully created property with ID: {}", savedProperty.getId());
         
         return savedProperty;
@@ -63,16 +152,45 @@ public class PropertyServiceImpl implements PropertyService {
         log.info("Updating property with ID: {}", id);
         
         Property existingProperty = findPropertyById(id);
+        Long previousManagerId = managerIdOf(existingProperty);
         
         // Update fields
         updatePropertyFields(existingProperty, updatedProperty);
         
         Property saved = propertyRepository.save(existingProperty);
+        Long managerId = managerIdOf(saved);
+        if (!Objects.equals(previousManagerId, managerId)) {
+            eventPublisher.publishEvent(new PropertyManagerChangedEvent(saved.getId(), previousManagerId, managerId,
+                    Boolean.TRUE.equals(saved.getIsAvailable())));
+        }
+        publishChange(saved, ChangeType.UPDATED);
         log.info("Successfully updated property: {}", id);
         
         return saved;
     }
 
+    @Override
+    public PropertyPatchResult patchProperty(Long id, JsonNode patch, Long expectedVersion) {
+        log.info("Patching property with ID: {}", id);
+        
+        Map<PropertyPatchField, Object> values = toPatchValues(patch);
+        PropertyPatchStore.Outcome outcome = propertyPatchStore.apply(id, values, expectedVersion)
+                .orElseThrow(() -> propertyRepository.existsById(id)
+                        ? new OptimisticLockingFailureException("Property " + id + " was modified concurrently")
+                        : new RuntimeException("Property not found with ID: " + id));
+        
+        ChangeType type = ChangeType.UPDATED;
+        if (outcome.wasAvailable() && !outcome.isAvailable()) {
+            type = ChangeType.UNAVAILABLE;
+        } else if (!outcome.wasAvailable() && outcome.isAvailable()) {
+            type = ChangeType.AVAILABLE;
+        }
+        eventPublisher.publishEvent(new PropertyChangedEvent(id, outcome.managerId(), type));
+        log.info("Successfully patched {} field(s) of property {}", values.size(), id);
+        
+        return new PropertyPatchResult(outcome.id(), outcome.version(), outcome.updatedAt());
+    }
+
     @Override
     public void deleteProperty(Long id) {
         log.info("Deleting property with ID: {}", id);
@@ -80,8 +198,7 @@ public class PropertyServiceImpl implements PropertyService {
         Property property = findPropertyById(id);
         
         // Soft delete - mark as unavailable
-        property.setIsAvailable(false);
-        propertyRepository.save(property);
+        markUnavailable(property);
         
         log.info("Successfully deleted property: {}", id);
     }
@@ -95,20 +212,39 @@ public class PropertyServiceImpl implements PropertyService {
             throw new IllegalArgumentException("Latitude, longitude, and radius are required for location search");
         }
         
-        return propertyRepository.findPropertiesWithinRadius(latitude, longitude, radiusKm);
+        // Fetched with their location and manager rather than lazily, one row at a time
+        List<Long> ids = propertyRepository.findAvailableIdsWithinRadius(latitude, longitude, radiusKm);
+        List<Property> properties = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += RADIUS_FETCH_CHUNK) {
+            properties.addAll(propertyRepository.findAllWithLocationAndManagerByIdIn(
+                    ids.subList(from, Math.min(ids.size(), from + RADIUS_FETCH_CHUNK))));
+        }
+        return properties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Property> searchByAmenities(List<String> amenities) {
+        log.debug("Searching properties with amenities: {}", amenities);
+        
+        if (amenities == null || amenities.isEmpty()) {
+            throw new IllegalArgumentException("At least one amenity is required for amenity search");
+        }
+        
+        return propertyRepository.findAvailableByAmenitiesContainingAll(amenities.toArray(String[]::new));
     }
 
     @Override
     public void updateAverageRating(Long propertyId) {
         log.debug("Updating average rating for property: {}", propertyId);
         
-        Property property = findPropertyById(propertyId);
+        // Full recompute: repairs the running aggregate if it was ever corrupted.
+        // New reviews are folded in incrementally by RatingAggregator.
+        if (!ratingAggregateStore.recompute(propertyId)) {
+            throw new RuntimeException("Property not found with ID: " + propertyId);
+        }
         
-        // TODO: Calculate actual rating from reviews
-        // For now, we'll just log the action
         log.debug("Rating updated for property: {}", propertyId);
-        
-        propertyRepository.save(property);
     }
 
     @Override
@@ -116,8 +252,7 @@ public class PropertyServiceImpl implements PropertyService {
         log.info("Marking property {} as unavailable", propertyId);
         
         Property property = findPropertyById(propertyId);
-        property.setIsAvailable(false);
-        propertyRepository.save(property);
+        markUnavailable(property);
         
         log.info("Successfully marked property {} as unavailable", propertyId);
     }
@@ -130,8 +265,81 @@ public class PropertyServiceImpl implements PropertyService {
         return propertyRepository.findByManagerClerkId(managerClerkId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Property> getPortfolioByManager(String managerClerkId, PropertyFilter filter, Boolean available,
+                                                Pageable pageable) {
+        log.debug("Finding portfolio page {} for manager: {}", pageable.getPageNumber(), managerClerkId);
+
+        for (Sort.Order order : pageable.getSort()) {
+            if (!PORTFOLIO_SORTS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Portfolio can only be sorted by " + PORTFOLIO_SORTS);
+            }
+        }
+        // id breaks ties so that rows never shift between pages, in the same direction so the index reads backwards
+        Sort.Direction direction = pageable.getSort().stream().findFirst()
+                .map(Sort.Order::getDirection).orElse(Sort.Direction.ASC);
+        Sort sort = pageable.getSort().getOrderFor("id") != null
+                ? pageable.getSort()
+                : pageable.getSort().and(Sort.by(direction, "id"));
+        Pageable stable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+
+        Long managerId = managerService.findManagerIdByClerkId(managerClerkId);
+        return propertyRepository.findPortfolio(managerId, available, filter.minPrice(), filter.maxPrice(),
+                filter.minBeds(), filter.minBaths(), filter.propertyType(), filter.city(), stable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Property> getAvailablePropertiesByManager(String managerClerkId) {
+        log.debug("Finding available properties for manager: {}", managerClerkId);
+        
+        return propertyRepository.findAvailableByManagerClerkId(managerClerkId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SparseProperty> findPropertyFieldsByAvailability(EnumSet<PropertyField> fields, PropertyFilter filter, boolean available, Pageable pageable) {
+        log.debug("Finding fields {} of properties with availability {} matching {}", fields, available, filter);
+        return propertyProjectionStore.findByAvailability(fields, filter, available, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SparseProperty findPropertyFieldsById(EnumSet<PropertyField> fields, Long id) {
+        log.debug("Finding fields {} of property {}", fields, id);
+        return propertyProjectionStore.findById(fields, id)
+                .orElseThrow(() -> new RuntimeException("Property not found with ID: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SparseProperty> getPropertyFieldsByManager(EnumSet<PropertyField> fields, String managerClerkId, boolean activeOnly) {
+        log.debug("Finding fields {} of properties for manager: {}", fields, managerClerkId);
+        return propertyProjectionStore.findByManagerClerkId(fields, managerClerkId, activeOnly);
+    }
+
     // Private helper methods
     
+    private void markUnavailable(Property property) {
+        boolean wasAvailable = Boolean.TRUE.equals(property.getIsAvailable());
+        property.setIsAvailable(false);
+        propertyRepository.save(property);
+        
+        // Only a real flip is an event: deleting an already unavailable listing changes nothing
+        if (wasAvailable) {
+            publishChange(property, ChangeType.UNAVAILABLE);
+        }
+    }
+    
+    private void publishChange(Property property, ChangeType type) {
+        eventPublisher.publishEvent(new PropertyChangedEvent(property.getId(), managerIdOf(property), type));
+    }
+    
+    private static Long managerIdOf(Property property) {
+        return property.getManager() != null ? property.getManager().getId() : null;
+    }
+    
     private void validatePropertyData(Property property) {
         if (!StringUtils.hasText(property.getName())) {
             throw new IllegalArgumentException("Property name is required");
@@ -158,6 +366,19 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
     
+    private Map<PropertyPatchField, Object> toPatchValues(JsonNode patch) {
+        if (patch == null || !patch.isObject() || patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch must be a non-empty JSON object");
+        }
+        
+        Map<PropertyPatchField, Object> values = new EnumMap<>(PropertyPatchField.class);
+        patch.properties().forEach(entry -> {
+            PropertyPatchField field = PropertyPatchField.fromJsonName(entry.getKey());
+            values.put(field, field.toColumnValue(entry.getValue()));
+        });
+        return values;
+    }
+    
     private void updatePropertyFields(Property existing, Property updated) {
         if (StringUtils.hasText(updated.getName())) {
             existing.setName(updated.getName());
@@ -215,11 +436,12 @@ public class PropertyServiceImpl implements PropertyService {
             existing.setPhotoUrls(updated.getPhotoUrls());
         }
         
-        // Location and Manager updates would need separate handling
+        // Locations are shared by every unit at the address: point to another one, never edit it
         if (updated.getLocation() != null) {
-            existing.setLocation(updated.getLocation());
+            existing.setLocation(locationService.intern(updated.getLocation()));
         }
         
+        // updateProperty publishes PropertyManagerChangedEvent so the dashboard counters follow the listing
         if (updated.getManager() != null) {
             existing.setManager(updated.getManager());
         }
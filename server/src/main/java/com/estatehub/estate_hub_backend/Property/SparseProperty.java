@@ -0,0 +1,63 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * A property read with only the requested fields. Serialised in the same shape as
+ * PropertyDto (nested location and manager objects) but containing just those fields.
+ */
+@JsonSerialize(using = SparseProperty.Serializer.class)
+public final class SparseProperty {
+
+    private final PropertyField[] fields;
+    private final Object[] values;
+
+    SparseProperty(PropertyField[] fields, Object[] values) {
+        this.fields = fields;
+        this.values = values;
+    }
+
+    public Object get(PropertyField field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == field) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    static PropertyField[] ordered(EnumSet<PropertyField> fields) {
+        return fields.toArray(new PropertyField[0]);
+    }
+
+    static final class Serializer extends JsonSerializer<SparseProperty> {
+
+        @Override
+        public void serialize(SparseProperty property, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            String openGroup = null;
+            for (int i = 0; i < property.fields.length; i++) {
+                PropertyField field = property.fields[i];
+                if (openGroup != null && !openGroup.equals(field.group())) {
+                    gen.writeEndObject();
+                    openGroup = null;
+                }
+                if (field.group() != null && openGroup == null) {
+                    gen.writeObjectFieldStart(field.group());
+                    openGroup = field.group();
+                }
+                provider.defaultSerializeField(field.leafName(), property.values[i], gen);
+            }
+            if (openGroup != null) {
+                gen.writeEndObject();
+            }
+            gen.writeEndObject();
+        }
+    }
+}
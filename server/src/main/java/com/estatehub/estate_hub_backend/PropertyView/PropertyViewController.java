@@ -0,0 +1,81 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Contrôleur REST pour les statistiques de consultation des annonces
+ */
+@RestController
+@RequestMapping("/api/properties")
+@Validated
+@CrossOrigin(origins = "*")
+public class PropertyViewController {
+
+    @Autowired
+    private PropertyViewService propertyViewService;
+
+    /**
+     * Récupère le nombre de vues d'une propriété par période (UTC)
+     * 
+     * @param id ID de la propriété
+     * @param granularity hour, day, week ou month (défaut: day)
+     * @param from Début (défaut: il y a 7 jours)
+     * @param to Fin exclue (défaut: maintenant)
+     * @return Vues par période
+     */
+    @GetMapping("/{id}/views")
+    public ResponseEntity<List<ViewPeriodDto>> getPropertyViews(
+            @PathVariable @Min(1) Long id,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime start = from != null ? from : end.minusDays(7);
+        return ResponseEntity.ok(propertyViewService.getViewsPerPeriod(id, granularity, start, end));
+    }
+
+    /**
+     * Récupère les propriétés les plus consultées sur les derniers jours
+     * 
+     * @param days Nombre de jours (défaut: 7)
+     * @param limit Nombre de résultats (défaut: 20)
+     * @return Propriétés triées par nombre de vues décroissant
+     */
+    @GetMapping("/most-viewed")
+    public ResponseEntity<List<PropertyViewCountDto>> getMostViewedProperties(
+            @RequestParam(defaultValue = "7") @Min(1) @Max(90) int days,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+
+        return ResponseEntity.ok(propertyViewService.getMostViewed(days, limit));
+    }
+
+    /**
+     * Paramètre invalide (granularité inconnue, période inversée, bornes dépassées) : 400 plutôt que 500
+     */
+    @ExceptionHandler({ IllegalArgumentException.class, ConstraintViolationException.class })
+    public void handleInvalidArgument(RuntimeException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
@@ -0,0 +1,6 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+public record PropertyViewCountDto(
+    Long propertyId,
+    long views
+) {}
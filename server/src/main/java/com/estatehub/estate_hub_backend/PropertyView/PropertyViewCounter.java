@@ -0,0 +1,71 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory listing view counters.
+ * Recording a view is a LongAdder increment (striped, contention-free) and never touches
+ * the database; deltas are written by a scheduled flush as one batched upsert.
+ * Entries are never removed, so the map is bounded by the number of listings ever viewed
+ * and no increment can be lost to a concurrent removal.
+ */
+@Component
+public class PropertyViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyViewCounter.class);
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final PropertyViewStore store;
+
+    public PropertyViewCounter(PropertyViewStore store) {
+        this.store = store;
+    }
+
+    public void recordView(Long propertyId) {
+        counters.computeIfAbsent(propertyId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Also runs on shutdown, before the data source is closed, so the last interval is not lost
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${estatehub.views.flush-interval:PT30S}")
+    public void flush() {
+        List<Long> propertyIds = new ArrayList<>();
+        List<Long> views = new ArrayList<>();
+        counters.forEach((propertyId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                propertyIds.add(propertyId);
+                views.add(delta);
+            }
+        });
+        if (propertyIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime bucket = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+        try {
+            store.addViews(bucket, propertyIds, views);
+            log.debug("Flushed views for {} properties into bucket {}", propertyIds.size(), bucket);
+        } catch (RuntimeException e) {
+            log.warn("View flush failed, keeping {} deltas for the next attempt", propertyIds.size(), e);
+            for (int i = 0; i < propertyIds.size(); i++) {
+                counters.computeIfAbsent(propertyIds.get(i), id -> new LongAdder()).add(views.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for listing view statistics
+ * Views are counted in memory and persisted in hourly buckets (UTC)
+ */
+public interface PropertyViewService {
+
+    /**
+     * Views of a property per hour, day, week or month between two instants (UTC)
+     */
+    List<ViewPeriodDto> getViewsPerPeriod(Long propertyId, String granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Most viewed properties over the last given number of days
+     */
+    List<PropertyViewCountDto> getMostViewed(int days, int limit);
+}
@@ -0,0 +1,55 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PropertyViewServiceImpl implements PropertyViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyViewServiceImpl.class);
+
+    private static final Set<String> GRANULARITIES = Set.of("hour", "day", "week", "month");
+
+    private final PropertyViewStore store;
+    private final int retentionDays;
+
+    public PropertyViewServiceImpl(PropertyViewStore store,
+                                   @Value("${estatehub.views.retention-days:400}") int retentionDays) {
+        this.store = store;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public List<ViewPeriodDto> getViewsPerPeriod(Long propertyId, String granularity,
+                                                 LocalDateTime from, LocalDateTime to) {
+        if (!GRANULARITIES.contains(granularity)) {
+            throw new IllegalArgumentException("Granularity must be one of " + GRANULARITIES);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        return store.findViewsPerPeriod(propertyId, granularity, from, to);
+    }
+
+    @Override
+    public List<PropertyViewCountDto> getMostViewed(int days, int limit) {
+        LocalDateTime since = LocalDateTime.now(ZoneOffset.UTC).minusDays(days);
+        return store.findMostViewed(since, limit);
+    }
+
+    @Scheduled(cron = "${estatehub.views.cleanup-cron:0 15 4 * * *}")
+    public void deleteExpiredBuckets() {
+        int deleted = store.deleteOlderThan(LocalDateTime.now(ZoneOffset.UTC).minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Deleted {} expired view buckets", deleted);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to property_views: hourly view buckets per listing (UTC).
+ */
+@Repository
+public class PropertyViewStore {
+
+    private static final String UPSERT_VIEWS = """
+        INSERT INTO property_views (property_id, bucket_start, views)
+        SELECT t.property_id, ?, t.views
+        FROM unnest(?, ?) AS t(property_id, views)
+        ON CONFLICT (property_id, bucket_start)
+        DO UPDATE SET views = property_views.views + EXCLUDED.views
+        """;
+
+    private static final String VIEWS_PER_PERIOD = """
+        SELECT date_trunc(?, bucket_start) AS period_start, SUM(views) AS views
+        FROM property_views
+        WHERE property_id = ? AND bucket_start >= ? AND bucket_start < ?
+        GROUP BY period_start
+        ORDER BY period_start
+        """;
+
+    private static final String MOST_VIEWED = """
+        SELECT property_id, SUM(views) AS views
+        FROM property_views
+        WHERE bucket_start >= ?
+        GROUP BY property_id
+        ORDER BY views DESC
+        LIMIT ?
+        """;
+
+    private static final String DELETE_OLDER_THAN = "DELETE FROM property_views WHERE bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PropertyViewStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds all deltas to one bucket in a single statement
+     */
+    public void addViews(LocalDateTime bucket, List<Long> propertyIds, List<Long> views) {
+        jdbcTemplate.update(con -> {
+            var statement = con.prepareStatement(UPSERT_VIEWS);
+            statement.setTimestamp(1, Timestamp.valueOf(bucket));
+            statement.setArray(2, con.createArrayOf("bigint", propertyIds.toArray()));
+            statement.setArray(3, con.createArrayOf("bigint", views.toArray()));
+            return statement;
+        });
+    }
+
+    public List<ViewPeriodDto> findViewsPerPeriod(Long propertyId, String granularity,
+                                                  LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(VIEWS_PER_PERIOD,
+                (rs, row) -> new ViewPeriodDto(rs.getTimestamp("period_start").toLocalDateTime(), rs.getLong("views")),
+                granularity, propertyId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public List<PropertyViewCountDto> findMostViewed(LocalDateTime since, int limit) {
+        return jdbcTemplate.query(MOST_VIEWED,
+                (rs, row) -> new PropertyViewCountDto(rs.getLong("property_id"), rs.getLong("views")),
+                Timestamp.valueOf(since), limit);
+    }
+
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN, Timestamp.valueOf(cutoff));
+    }
+}
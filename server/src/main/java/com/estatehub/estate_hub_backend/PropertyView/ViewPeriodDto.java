@@ -0,0 +1,8 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import java.time.LocalDateTime;
+
+public record ViewPeriodDto(
+    LocalDateTime periodStart,
+    long views
+) {}
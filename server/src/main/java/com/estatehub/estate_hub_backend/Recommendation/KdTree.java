@@ -0,0 +1,153 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable k-d tree over fixed-length float vectors, built once and queried concurrently.
+ * Nodes are stored implicitly: the median of each range is the node, split on the axis with
+ * the largest spread.
+ */
+final class KdTree {
+
+    record Neighbour(long id, double distanceSquared) {}
+
+    private final long[] ids;
+    private final float[][] points;
+    private final int[] splitAxis;
+
+    private KdTree(long[] ids, float[][] points) {
+        this.ids = ids;
+        this.points = points;
+        this.splitAxis = new int[ids.length];
+        build(0, ids.length);
+    }
+
+    static KdTree build(List<Long> ids, List<float[]> vectors) {
+        long[] idArray = new long[ids.size()];
+        float[][] pointArray = new float[ids.size()][];
+        for (int i = 0; i < idArray.length; i++) {
+            idArray[i] = ids.get(i);
+            pointArray[i] = vectors.get(i);
+        }
+        return new KdTree(idArray, pointArray);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * The n points nearest to the query, nearest first, skipping ids rejected by the filter
+     */
+    List<Neighbour> nearest(float[] query, int n, LongPredicate accept) {
+        PriorityQueue<Neighbour> best = new PriorityQueue<>(n + 1,
+                Comparator.comparingDouble(Neighbour::distanceSquared).reversed());
+        search(0, ids.length, query, n, accept, best);
+        List<Neighbour> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbour::distanceSquared));
+        return result;
+    }
+
+    static double distanceSquared(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            double d = a[i] - b[i];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    private void search(int from, int to, float[] query, int n, LongPredicate accept, PriorityQueue<Neighbour> best) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (accept.test(ids[mid])) {
+            double distance = distanceSquared(points[mid], query);
+            if (best.size() < n) {
+                best.add(new Neighbour(ids[mid], distance));
+            } else if (distance < best.peek().distanceSquared()) {
+                best.poll();
+                best.add(new Neighbour(ids[mid], distance));
+            }
+        }
+        int axis = splitAxis[mid];
+        double delta = query[axis] - points[mid][axis];
+        boolean goLeft = delta < 0;
+        search(goLeft ? from : mid + 1, goLeft ? mid : to, query, n, accept, best);
+        if (best.size() < n || delta * delta < best.peek().distanceSquared()) {
+            search(goLeft ? mid + 1 : from, goLeft ? to : mid, query, n, accept, best);
+        }
+    }
+
+    private void build(int from, int to) {
+        if (to - from <= 1) {
+            if (from < to) {
+                splitAxis[from] = 0;
+            }
+            return;
+        }
+        int axis = widestAxis(from, to);
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, axis);
+        splitAxis[mid] = axis;
+        build(from, mid);
+        build(mid + 1, to);
+    }
+
+    private int widestAxis(int from, int to) {
+        int dimensions = points[from].length;
+        int widest = 0;
+        float widestSpread = -1;
+        for (int axis = 0; axis < dimensions; axis++) {
+            float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                float value = points[i][axis];
+                if (value < min) min = value;
+                if (value > max) max = value;
+            }
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widest = axis;
+            }
+        }
+        return widest;
+    }
+
+    /**
+     * Quickselect: places the k-th smallest point on the axis at index k
+     */
+    private void select(int left, int right, int k, int axis) {
+        while (left < right) {
+            float pivot = points[(left + right) >>> 1][axis];
+            int i = left, j = right;
+            while (i <= j) {
+                while (points[i][axis] < pivot) i++;
+                while (points[j][axis] > pivot) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float[] point = points[a];
+        points[a] = points[b];
+        points[b] = point;
+    }
+}
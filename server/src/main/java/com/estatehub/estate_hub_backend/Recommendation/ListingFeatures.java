@@ -0,0 +1,64 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.List;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+/**
+ * Maps a listing to the feature vector used by the similarity index.
+ * Every dimension is scaled so that one unit is roughly "one notable difference":
+ * ~30% price, one bedroom or bathroom, ~40% surface, 10 km, a different property type.
+ */
+final class ListingFeatures {
+
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double KM_PER_UNIT = 10.0;
+    private static final double PRICE_LOG_SCALE = 0.3;
+    private static final double SURFACE_LOG_SCALE = 0.4;
+    private static final int AMENITY_BUCKETS = 8;
+    private static final float AMENITY_WEIGHT = 0.5f;
+    private static final PropertyType[] TYPES = PropertyType.values();
+
+    static final int DIMENSIONS = 6 + TYPES.length + AMENITY_BUCKETS;
+
+    private ListingFeatures() {}
+
+    /**
+     * Null when the listing lacks the price or coordinates needed to compare it
+     */
+    static float[] of(ListingSnapshot listing) {
+        if (listing.pricePerMonth() == null || listing.latitude() == null || listing.longitude() == null) {
+            return null;
+        }
+        float[] vector = new float[DIMENSIONS];
+        int beds = listing.beds() != null ? listing.beds() : 1;
+        double price = Math.max(1.0, listing.pricePerMonth().doubleValue());
+        // Missing surfaces are estimated from the bedroom count rather than left at zero
+        double squareFeet = listing.squareFeet() != null && listing.squareFeet() > 0
+                ? listing.squareFeet()
+                : 450.0 + 350.0 * beds;
+
+        vector[0] = (float) (Math.log(price) / PRICE_LOG_SCALE);
+        vector[1] = beds;
+        vector[2] = listing.baths() != null ? listing.baths() : 1f;
+        vector[3] = (float) (Math.log(squareFeet) / SURFACE_LOG_SCALE);
+        vector[4] = (float) (listing.latitude() * KM_PER_DEGREE / KM_PER_UNIT);
+        vector[5] = (float) (listing.longitude() * KM_PER_DEGREE * Math.cos(Math.toRadians(listing.latitude())) / KM_PER_UNIT);
+
+        PropertyType type = listing.propertyType() != null ? listing.propertyType() : PropertyType.OTHER;
+        vector[6 + type.ordinal()] = (float) Math.sqrt(0.5); // two differing one-hot slots add up to one unit
+
+        int amenityOffset = 6 + TYPES.length;
+        List<String> amenities = listing.amenities();
+        if (amenities != null) {
+            for (String amenity : amenities) {
+                if (amenity != null && !amenity.isBlank()) {
+                    int bucket = Math.floorMod(amenity.trim().toLowerCase().hashCode(), AMENITY_BUCKETS);
+                    vector[amenityOffset + bucket] = AMENITY_WEIGHT;
+                }
+            }
+        }
+        return vector;
+    }
+}
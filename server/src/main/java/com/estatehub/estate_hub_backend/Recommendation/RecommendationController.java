@@ -0,0 +1,46 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Contrôleur REST pour les recommandations de propriétés similaires
+ */
+@RestController
+@RequestMapping("/api/properties")
+@Validated
+@CrossOrigin(origins = "*")
+public class RecommendationController {
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    /**
+     * Récupère les propriétés disponibles les plus proches d'une propriété
+     * (prix, chambres, salles de bain, superficie, type, commodités et localisation)
+     * Servi depuis l'index en mémoire
+     * 
+     * @param id ID de la propriété de référence
+     * @param limit Nombre de résultats (défaut: 10)
+     * @return Identifiants des propriétés similaires et leur distance, la plus proche d'abord
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarPropertyDto>> getSimilarProperties(
+            @PathVariable @Min(1) Long id,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+
+        return ResponseEntity.ok(recommendationService.getSimilarProperties(id, limit));
+    }
+}
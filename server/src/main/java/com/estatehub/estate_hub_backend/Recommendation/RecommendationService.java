@@ -0,0 +1,15 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.List;
+
+/**
+ * Service interface for "similar properties" recommendations
+ * Answered from the in-memory similarity index; the database is only read for listings not indexed
+ */
+public interface RecommendationService {
+
+    /**
+     * Available properties most similar to the given one, most similar first
+     */
+    List<SimilarPropertyDto> getSimilarProperties(Long propertyId, int limit);
+}
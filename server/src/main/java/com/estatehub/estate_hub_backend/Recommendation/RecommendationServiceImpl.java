@@ -0,0 +1,37 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final SimilarityIndex similarityIndex;
+    private final ListingSnapshotStore listingSnapshotStore;
+
+    public RecommendationServiceImpl(SimilarityIndex similarityIndex, ListingSnapshotStore listingSnapshotStore) {
+        this.similarityIndex = similarityIndex;
+        this.listingSnapshotStore = listingSnapshotStore;
+    }
+
+    @Override
+    public List<SimilarPropertyDto> getSimilarProperties(Long propertyId, int limit) {
+        float[] query = similarityIndex.vectorOf(propertyId);
+        if (query == null) {
+            // Unavailable or incomplete listings are not indexed but can still have neighbours
+            ListingSnapshot listing = listingSnapshotStore.findById(propertyId)
+                    .orElseThrow(() -> new RuntimeException("Property not found with ID: " + propertyId));
+            query = ListingFeatures.of(listing);
+            if (query == null) {
+                return List.of();
+            }
+        }
+        return similarityIndex.nearest(query, limit, propertyId).stream()
+                .map(neighbour -> new SimilarPropertyDto(neighbour.id(), Math.sqrt(neighbour.distanceSquared())))
+                .toList();
+    }
+}
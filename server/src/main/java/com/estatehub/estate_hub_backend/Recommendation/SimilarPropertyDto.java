@@ -0,0 +1,6 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+public record SimilarPropertyDto(
+    Long propertyId,
+    double distance
+) {}
@@ -0,0 +1,111 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory nearest-neighbour index over available listings.
+ * Readers work on an immutable snapshot: a k-d tree plus a small delta of listings
+ * written since it was built and the tree entries those writes made stale.
+ * Writers copy the delta, and fold everything into a new tree once it grows past a fraction of the tree.
+ */
+@Component
+public class SimilarityIndex {
+
+    private static final int MIN_REBUILD_THRESHOLD = 64;
+    private static final int REBUILD_DIVISOR = 10;
+
+    private record State(KdTree tree, Map<Long, float[]> delta, Set<Long> stale) {}
+
+    private final Map<Long, float[]> vectors = new ConcurrentHashMap<>();
+    private volatile State state = new State(KdTree.build(List.of(), List.of()), Map.of(), Set.of());
+
+    public int size() {
+        return vectors.size();
+    }
+
+    public float[] vectorOf(Long propertyId) {
+        return vectors.get(propertyId);
+    }
+
+    /**
+     * Replace the whole index, used for the initial load
+     */
+    public synchronized void load(Map<Long, float[]> initial) {
+        vectors.clear();
+        vectors.putAll(initial);
+        rebuild();
+    }
+
+    public synchronized void upsert(Long propertyId, float[] vector) {
+        State current = state;
+        float[] previous = vectors.put(propertyId, vector);
+        Map<Long, float[]> delta = new HashMap<>(current.delta());
+        delta.put(propertyId, vector);
+        Set<Long> stale = current.stale();
+        if (previous != null && !current.delta().containsKey(propertyId)) {
+            stale = new HashSet<>(stale);
+            stale.add(propertyId);
+        }
+        publish(current.tree(), delta, stale);
+    }
+
+    public synchronized void remove(Long propertyId) {
+        if (vectors.remove(propertyId) == null) {
+            return;
+        }
+        State current = state;
+        Map<Long, float[]> delta = current.delta();
+        if (delta.containsKey(propertyId)) {
+            delta = new HashMap<>(delta);
+            delta.remove(propertyId);
+        }
+        Set<Long> stale = new HashSet<>(current.stale());
+        stale.add(propertyId);
+        publish(current.tree(), delta, stale);
+    }
+
+    /**
+     * The n listings nearest to the query vector, nearest first, excluding one id (the listing itself)
+     */
+    List<KdTree.Neighbour> nearest(float[] query, int n, Long excludedId) {
+        State current = state;
+        long excluded = excludedId != null ? excludedId : Long.MIN_VALUE;
+        List<KdTree.Neighbour> candidates = new ArrayList<>(current.tree().nearest(query, n,
+                id -> id != excluded && !current.stale().contains(id)));
+        for (Map.Entry<Long, float[]> entry : current.delta().entrySet()) {
+            if (entry.getKey() != excluded) {
+                candidates.add(new KdTree.Neighbour(entry.getKey(), KdTree.distanceSquared(entry.getValue(), query)));
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(KdTree.Neighbour::distanceSquared));
+        return candidates.size() > n ? candidates.subList(0, n) : candidates;
+    }
+
+    private void publish(KdTree tree, Map<Long, float[]> delta, Set<Long> stale) {
+        int threshold = Math.max(MIN_REBUILD_THRESHOLD, tree.size() / REBUILD_DIVISOR);
+        if (delta.size() + stale.size() > threshold) {
+            rebuild();
+        } else {
+            state = new State(tree, delta, stale);
+        }
+    }
+
+    private void rebuild() {
+        List<Long> ids = new ArrayList<>(vectors.size());
+        List<float[]> points = new ArrayList<>(vectors.size());
+        vectors.forEach((id, vector) -> {
+            ids.add(id);
+            points.add(vector);
+        });
+        state = new State(KdTree.build(ids, points), Map.of(), Set.of());
+    }
+}
@@ -0,0 +1,84 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+
+/**
+ * Loads the similarity index at startup and keeps it in step with committed property writes.
+ * A write committed while the load is reading would be wiped when the loaded vectors replace the
+ * index: such writes are only noted during the load and re-read once the loaded vectors are in place.
+ */
+@Component
+public class SimilarityIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarityIndexListener.class);
+
+    private final SimilarityIndex similarityIndex;
+    private final ListingSnapshotStore listingSnapshotStore;
+    // Guarded by this; writes committed before the load starts are noted too
+    private boolean loading = true;
+    private final Set<Long> changedWhileLoading = new LinkedHashSet<>();
+
+    public SimilarityIndexListener(SimilarityIndex similarityIndex, ListingSnapshotStore listingSnapshotStore) {
+        this.similarityIndex = similarityIndex;
+        this.listingSnapshotStore = listingSnapshotStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, float[]> vectors = new HashMap<>();
+        listingSnapshotStore.forEachAvailable(listing -> {
+            float[] vector = ListingFeatures.of(listing);
+            if (vector != null) {
+                vectors.put(listing.id(), vector);
+            }
+        });
+        similarityIndex.load(vectors);
+
+        List<Long> replay;
+        synchronized (this) {
+            loading = false;
+            replay = List.copyOf(changedWhileLoading);
+            changedWhileLoading.clear();
+        }
+        replay.forEach(this::refresh);
+        log.info("Similarity index loaded with {} listings", similarityIndex.size());
+    }
+
+    @TransactionalEventListener
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        synchronized (this) {
+            if (loading) {
+                changedWhileLoading.add(event.propertyId());
+                return;
+            }
+        }
+        if (event.type() == PropertyChangedEvent.ChangeType.UNAVAILABLE) {
+            similarityIndex.remove(event.propertyId());
+            return;
+        }
+        refresh(event.propertyId());
+    }
+
+    private void refresh(Long propertyId) {
+        listingSnapshotStore.findById(propertyId)
+                .filter(listing -> listing.available())
+                .map(ListingFeatures::of)
+                .ifPresentOrElse(
+                        vector -> similarityIndex.upsert(propertyId, vector),
+                        () -> similarityIndex.remove(propertyId));
+    }
+}
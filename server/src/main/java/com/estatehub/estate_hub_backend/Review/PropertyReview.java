@@ -0,0 +1,101 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import com.estatehub.estate_hub_backend.Lease.Lease;
+import com.estatehub.estate_hub_backend.Property.Property;
+import com.estatehub.estate_hub_backend.Tenant.Tenant;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "property_reviews")
+public class PropertyReview {
+    // Properties
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Rating is required")
+    @Min(value = 1, message = "Rating must be between 1 and 5")
+    @Max(value = 5, message = "Rating must be between 1 and 5")
+    @Column(name = "rating", nullable = false)
+    private Integer rating;
+
+    @Size(max = 2000, message = "Review text must not exceed 2000 characters")
+    @Column(name = "review_text", columnDefinition = "TEXT")
+    private String reviewText;
+
+    @Column(name = "is_verified", nullable = false)
+    private Boolean isVerified = false;
+
+    // Set once the rating has been folded into the property's running aggregate
+    @Column(name = "aggregated", nullable = false, insertable = false, updatable = false)
+    private Boolean aggregated = false;
+
+    // Relations
+    @NotNull(message = "Property is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "property_id", nullable = false)
+    private Property property;
+
+    @NotNull(message = "Tenant is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_id", nullable = false)
+    private Tenant tenant;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lease_id")
+    private Lease lease;
+
+    // Audit fields
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public PropertyReview() {}
+
+    public PropertyReview(Integer rating, String reviewText, Property property, Tenant tenant) {
+        this.rating = rating;
+        this.reviewText = reviewText;
+        this.property = property;
+        this.tenant = tenant;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
+
+    public String getReviewText() { return reviewText; }
+    public void setReviewText(String reviewText) { this.reviewText = reviewText; }
+
+    public Boolean getIsVerified() { return isVerified; }
+    public void setIsVerified(Boolean isVerified) { this.isVerified = isVerified; }
+
+    public Boolean getAggregated() { return aggregated; }
+
+    public Property getProperty() { return property; }
+    public void setProperty(Property property) { this.property = property; }
+
+    public Tenant getTenant() { return tenant; }
+    public void setTenant(Tenant tenant) { this.tenant = tenant; }
+
+    public Lease getLease() { return lease; }
+    public void setLease(Lease lease) { this.lease = lease; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
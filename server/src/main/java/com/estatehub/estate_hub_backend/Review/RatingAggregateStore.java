@@ -0,0 +1,136 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC access for the running rating aggregate on properties (rating_sum, number_of_reviews,
+ * average_rating). A review is counted exactly once: its aggregated flag is claimed in the
+ * same transaction that adds it to the property. The full recompute locks the property row
+ * before reading, so it and a flush of the same property serialise instead of overwriting
+ * each other.
+ */
+@Repository
+public class RatingAggregateStore {
+
+    private static final String CLAIM_REVIEWS = """
+        UPDATE property_reviews SET aggregated = TRUE
+        WHERE id = ANY(?) AND NOT aggregated
+        RETURNING id
+        """;
+
+    private static final String APPLY_DELTA = """
+        UPDATE properties SET
+            rating_sum        = rating_sum + ?,
+            number_of_reviews = number_of_reviews + ?,
+            average_rating    = ROUND((rating_sum + ?)::numeric / NULLIF(number_of_reviews + ?, 0), 2)
+        WHERE id = ?
+        """;
+
+    private static final String FIND_UNAGGREGATED = """
+        SELECT id, property_id, rating FROM property_reviews
+        WHERE NOT aggregated
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    private static final String LOCK_PROPERTY = "SELECT id FROM properties WHERE id = ? FOR UPDATE";
+
+    private static final String RECOMPUTE = """
+        UPDATE properties p SET
+            rating_sum        = r.rating_sum,
+            number_of_reviews = r.review_count,
+            average_rating    = CASE WHEN r.review_count = 0 THEN 0
+                                     ELSE ROUND(r.rating_sum::numeric / r.review_count, 2) END
+        FROM (SELECT COALESCE(SUM(rating), 0) AS rating_sum, COUNT(*) AS review_count
+              FROM property_reviews
+              WHERE property_id = ? AND aggregated) r
+        WHERE p.id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RatingAggregateStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claim the buffered reviews and add the claimed ratings to their properties in one JDBC batch.
+     * Reviews already claimed elsewhere (another node, a recovery pass) are skipped.
+     *
+     * @param ratingsByProperty propertyId -> (reviewId -> rating), iterated in propertyId order
+     * @return number of reviews applied
+     */
+    @Transactional
+    public int applyDeltas(Map<Long, Map<Long, Integer>> ratingsByProperty) {
+        Long[] reviewIds = ratingsByProperty.values().stream()
+                .flatMap(ratings -> ratings.keySet().stream())
+                .toArray(Long[]::new);
+        Set<Long> claimed = claim(reviewIds);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batch = new ArrayList<>(ratingsByProperty.size());
+        ratingsByProperty.forEach((propertyId, ratings) -> {
+            long sum = 0;
+            int count = 0;
+            for (Map.Entry<Long, Integer> review : ratings.entrySet()) {
+                if (claimed.contains(review.getKey())) {
+                    sum += review.getValue();
+                    count++;
+                }
+            }
+            if (count > 0) {
+                batch.add(new Object[] { sum, count, sum, count, propertyId });
+            }
+        });
+        jdbcTemplate.batchUpdate(APPLY_DELTA, batch);
+        return claimed.size();
+    }
+
+    /**
+     * Recompute a property's aggregate from its already-aggregated reviews, repairing any drift.
+     * Reviews still buffered in RatingAggregator are left to their pending flush.
+     *
+     * The row lock comes first and the recompute reads in a later statement, hence a fresh snapshot
+     * (READ COMMITTED): a flush that updated the row before us has committed its claims and is counted;
+     * a flush that claimed reviews but has not reached the row yet waits for us and adds them on top.
+     *
+     * @return false if the property does not exist
+     */
+    @Transactional
+    public boolean recompute(Long propertyId) {
+        if (jdbcTemplate.queryForList(LOCK_PROPERTY, Long.class, propertyId).isEmpty()) {
+            return false;
+        }
+        jdbcTemplate.update(RECOMPUTE, propertyId, propertyId);
+        return true;
+    }
+
+    /**
+     * Reviews saved but never folded into their property (e.g. buffered on a node that crashed)
+     */
+    public List<ReviewSubmittedEvent> findUnaggregated(int limit) {
+        return jdbcTemplate.query(FIND_UNAGGREGATED,
+                (rs, row) -> new ReviewSubmittedEvent(rs.getLong("id"), rs.getLong("property_id"), rs.getInt("rating")),
+                limit);
+    }
+
+    private Set<Long> claim(Long[] reviewIds) {
+        List<Long> claimed = jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(CLAIM_REVIEWS);
+            Array ids = con.createArrayOf("bigint", reviewIds);
+            statement.setArray(1, ids);
+            return statement;
+        }, (rs, row) -> rs.getLong(1));
+        return Set.copyOf(claimed);
+    }
+}
@@ -0,0 +1,101 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Write-behind maintenance of property ratings.
+ * Committed reviews are buffered per property and folded into properties.rating_sum /
+ * number_of_reviews / average_rating by one batched flush per interval, so a popular
+ * listing takes one row update per interval instead of one per review.
+ * Crash safety comes from property_reviews.aggregated: anything lost from the buffer is
+ * picked up again by the recovery pass.
+ */
+@Component
+public class RatingAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingAggregator.class);
+
+    private final RatingAggregateStore store;
+    private final int recoveryBatchSize;
+
+    // propertyId -> (reviewId -> rating)
+    private final ConcurrentHashMap<Long, Map<Long, Integer>> pending = new ConcurrentHashMap<>();
+
+    public RatingAggregator(RatingAggregateStore store,
+                            @Value("${estatehub.ratings.recovery-batch-size:5000}") int recoveryBatchSize) {
+        this.store = store;
+        this.recoveryBatchSize = recoveryBatchSize;
+    }
+
+    @TransactionalEventListener
+    public void onReviewSubmitted(ReviewSubmittedEvent event) {
+        record(event);
+    }
+
+    @Scheduled(fixedDelayString = "${estatehub.ratings.flush-interval:PT10S}")
+    public void flush() {
+        Map<Long, Map<Long, Integer>> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int applied = store.applyDeltas(batch);
+            log.debug("Flushed {} review ratings across {} properties", applied, batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Rating flush failed, re-queuing {} properties", batch.size(), e);
+            batch.forEach((propertyId, ratings) -> ratings.forEach(
+                    (reviewId, rating) -> record(new ReviewSubmittedEvent(reviewId, propertyId, rating))));
+        }
+    }
+
+    /**
+     * Re-buffers reviews that were committed but never aggregated (node crash, failed flush on shutdown)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${estatehub.ratings.recovery-interval:PT5M}",
+               fixedDelayString = "${estatehub.ratings.recovery-interval:PT5M}")
+    public void recover() {
+        List<ReviewSubmittedEvent> orphans = store.findUnaggregated(recoveryBatchSize);
+        if (!orphans.isEmpty()) {
+            log.info("Recovering {} unaggregated reviews", orphans.size());
+            orphans.forEach(this::record);
+        }
+    }
+
+    private void record(ReviewSubmittedEvent event) {
+        // compute() is atomic with drain()'s remove(), so a rating never lands in a drained map
+        pending.compute(event.propertyId(), (id, ratings) -> {
+            Map<Long, Integer> target = ratings != null ? ratings : new HashMap<>();
+            target.put(event.reviewId(), event.rating());
+            return target;
+        });
+    }
+
+    /**
+     * Removes everything buffered so far; sorted by property id so concurrent flushes
+     * from several nodes lock property rows in the same order.
+     */
+    private Map<Long, Map<Long, Integer>> drain() {
+        Map<Long, Map<Long, Integer>> batch = new TreeMap<>();
+        for (Long propertyId : pending.keySet()) {
+            Map<Long, Integer> ratings = pending.remove(propertyId);
+            if (ratings != null) {
+                batch.put(propertyId, ratings);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,44 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+
+/**
+ * Contrôleur REST pour les avis des locataires
+ */
+@RestController
+@RequestMapping("/api/tenants/{tenantClerkId}")
+@Validated
+@CrossOrigin(origins = "*")
+public class ReviewController {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    /**
+     * Publie l'avis d'un locataire sur une propriété
+     * La note moyenne de la propriété est mise à jour par lots, quelques secondes plus tard
+     * 
+     * @param tenantClerkId ID Clerk du locataire
+     * @param reviewDto Propriété, note (1 à 5) et commentaire
+     * @return Avis créé
+     */
+    @PostMapping("/reviews")
+    public ResponseEntity<ReviewDto> createReview(
+            @PathVariable String tenantClerkId,
+            @Valid @RequestBody ReviewDto reviewDto) {
+
+        ReviewDto saved = reviewService.createReview(tenantClerkId, reviewDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+    }
+}
@@ -0,0 +1,25 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ReviewDto(
+    Long id,
+
+    @NotNull(message = "Property is required")
+    Long propertyId,
+
+    @NotNull(message = "Rating is required")
+    @Min(value = 1, message = "Rating must be between 1 and 5")
+    @Max(value = 5, message = "Rating must be between 1 and 5")
+    Integer rating,
+
+    @Size(max = 2000, message = "Review text must not exceed 2000 characters")
+    String reviewText,
+
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,8 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewRepository extends JpaRepository<PropertyReview, Long> {
+}
@@ -0,0 +1,13 @@
+package com.estatehub.estate_hub_backend.Review;
+
+/**
+ * Service interface for PropertyReview management operations
+ * Defines contract for review-related business logic
+ */
+public interface ReviewService {
+
+    /**
+     * Create a tenant's review; the property's rating is updated asynchronously in batches
+     */
+    ReviewDto createReview(String tenantClerkId, ReviewDto reviewDto);
+}
@@ -0,0 +1,57 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.estatehub.estate_hub_backend.Property.PropertyRepository;
+import com.estatehub.estate_hub_backend.Tenant.TenantIdCache;
+import com.estatehub.estate_hub_backend.Tenant.TenantRepository;
+
+@Service
+@Transactional
+public class ReviewServiceImpl implements ReviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewServiceImpl.class);
+
+    private final ReviewRepository reviewRepository;
+    private final PropertyRepository propertyRepository;
+    private final TenantRepository tenantRepository;
+    private final TenantIdCache tenantIdCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReviewServiceImpl(ReviewRepository reviewRepository, PropertyRepository propertyRepository,
+                             TenantRepository tenantRepository, TenantIdCache tenantIdCache,
+                             ApplicationEventPublisher eventPublisher) {
+        this.reviewRepository = reviewRepository;
+        this.propertyRepository = propertyRepository;
+        this.tenantRepository = tenantRepository;
+        this.tenantIdCache = tenantIdCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public ReviewDto createReview(String tenantClerkId, ReviewDto reviewDto) {
+        if (reviewDto.rating() == null || reviewDto.rating() < 1 || reviewDto.rating() > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+        Long tenantId = tenantIdCache.get(tenantClerkId, key -> tenantRepository.findIdByClerkId(key).orElse(null));
+        if (tenantId == null) {
+            throw new RuntimeException("Tenant not found with clerk ID: " + tenantClerkId);
+        }
+        if (reviewDto.propertyId() == null || !propertyRepository.existsById(reviewDto.propertyId())) {
+            throw new RuntimeException("Property not found with ID: " + reviewDto.propertyId());
+        }
+
+        PropertyReview review = new PropertyReview(reviewDto.rating(), reviewDto.reviewText(),
+                propertyRepository.getReferenceById(reviewDto.propertyId()), tenantRepository.getReferenceById(tenantId));
+        PropertyReview saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewSubmittedEvent(saved.getId(), reviewDto.propertyId(), saved.getRating()));
+        log.info("Created review {} for property {}", saved.getId(), reviewDto.propertyId());
+
+        return new ReviewDto(saved.getId(), reviewDto.propertyId(), saved.getRating(), saved.getReviewText(),
+                saved.getCreatedAt());
+    }
+}
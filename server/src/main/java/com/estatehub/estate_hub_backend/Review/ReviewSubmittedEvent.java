@@ -0,0 +1,6 @@
+package com.estatehub.estate_hub_backend.Review;
+
+/**
+ * Published when a review is saved; consumed after commit by RatingAggregator.
+ */
+public record ReviewSubmittedEvent(Long reviewId, Long propertyId, Integer rating) {}
@@ -0,0 +1,101 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Immutable centred interval tree answering stabbing queries: every closed interval
+ * [low, high] containing a point, in O(log n + matches). Unbounded ends are infinities.
+ */
+final class IntervalTree<T> {
+
+    record Interval<T>(double low, double high, T value) {}
+
+    private static final class Node<T> {
+        final double center;
+        final Interval<T>[] byLow;   // intervals containing center, ascending low
+        final Interval<T>[] byHigh;  // same intervals, descending high
+        final Node<T> left;
+        final Node<T> right;
+
+        Node(double center, Interval<T>[] byLow, Interval<T>[] byHigh, Node<T> left, Node<T> right) {
+            this.center = center;
+            this.byLow = byLow;
+            this.byHigh = byHigh;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private final Node<T> root;
+    private final int size;
+
+    IntervalTree(List<Interval<T>> intervals) {
+        this.root = build(intervals);
+        this.size = intervals.size();
+    }
+
+    int size() {
+        return size;
+    }
+
+    void stab(double point, Consumer<T> consumer) {
+        Node<T> node = root;
+        while (node != null) {
+            if (point < node.center) {
+                for (Interval<T> interval : node.byLow) {
+                    if (interval.low() > point) break;
+                    consumer.accept(interval.value());
+                }
+                node = node.left;
+            } else if (point > node.center) {
+                for (Interval<T> interval : node.byHigh) {
+                    if (interval.high() < point) break;
+                    consumer.accept(interval.value());
+                }
+                node = node.right;
+            } else {
+                for (Interval<T> interval : node.byLow) {
+                    consumer.accept(interval.value());
+                }
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(List<Interval<T>> intervals) {
+        if (intervals.isEmpty()) {
+            return null;
+        }
+        // The median endpoint belongs to some interval, so every node keeps at least one
+        double[] endpoints = new double[intervals.size() * 2];
+        for (int i = 0; i < intervals.size(); i++) {
+            endpoints[2 * i] = intervals.get(i).low();
+            endpoints[2 * i + 1] = intervals.get(i).high();
+        }
+        Arrays.sort(endpoints);
+        double center = endpoints[intervals.size()];
+
+        List<Interval<T>> left = new ArrayList<>();
+        List<Interval<T>> right = new ArrayList<>();
+        List<Interval<T>> here = new ArrayList<>();
+        for (Interval<T> interval : intervals) {
+            if (interval.high() < center) {
+                left.add(interval);
+            } else if (interval.low() > center) {
+                right.add(interval);
+            } else {
+                here.add(interval);
+            }
+        }
+        Interval<T>[] byLow = here.toArray(new Interval[0]);
+        Arrays.sort(byLow, Comparator.comparingDouble(Interval::low));
+        Interval<T>[] byHigh = here.toArray(new Interval[0]);
+        Arrays.sort(byHigh, Comparator.comparingDouble((Interval<T> interval) -> interval.high()).reversed());
+        return new Node<>(center, byLow, byHigh, build(left), build(right));
+    }
+}
@@ -0,0 +1,126 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import com.estatehub.estate_hub_backend.Tenant.Tenant;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "saved_searches")
+public class SavedSearch {
+    // Properties
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Search name is required")
+    @Size(max = 100, message = "Search name must not exceed 100 characters")
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @DecimalMin(value = "0.0", message = "Minimum price must be non-negative")
+    @Column(name = "min_price", precision = 10, scale = 2)
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0.0", message = "Maximum price must be non-negative")
+    @Column(name = "max_price", precision = 10, scale = 2)
+    private BigDecimal maxPrice;
+
+    @Min(value = 0, message = "Minimum beds must be non-negative")
+    @Column(name = "min_beds")
+    private Integer minBeds;
+
+    @Min(value = 0, message = "Maximum beds must be non-negative")
+    @Column(name = "max_beds")
+    private Integer maxBeds;
+
+    @Size(max = 100, message = "City must not exceed 100 characters")
+    @Column(name = "city", length = 100)
+    private String city;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "property_type", length = 20)
+    private PropertyType propertyType;
+
+    // Optional search area: a circle around a point
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "radius_km")
+    private Double radiusKm;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    // Relations
+    @NotNull(message = "Tenant is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tenant_id", nullable = false)
+    private Tenant tenant;
+
+    // Audit fields
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SavedSearch() {}
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public BigDecimal getMinPrice() { return minPrice; }
+    public void setMinPrice(BigDecimal minPrice) { this.minPrice = minPrice; }
+
+    public BigDecimal getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(BigDecimal maxPrice) { this.maxPrice = maxPrice; }
+
+    public Integer getMinBeds() { return minBeds; }
+    public void setMinBeds(Integer minBeds) { this.minBeds = minBeds; }
+
+    public Integer getMaxBeds() { return maxBeds; }
+    public void setMaxBeds(Integer maxBeds) { this.maxBeds = maxBeds; }
+
+    public String getCity() { return city; }
+    public void setCity(String city) { this.city = city; }
+
+    public PropertyType getPropertyType() { return propertyType; }
+    public void setPropertyType(PropertyType propertyType) { this.propertyType = propertyType; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public Double getRadiusKm() { return radiusKm; }
+    public void setRadiusKm(Double radiusKm) { this.radiusKm = radiusKm; }
+
+    public Boolean getIsActive() { return isActive; }
+    public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+
+    public Tenant getTenant() { return tenant; }
+    public void setTenant(Tenant tenant) { this.tenant = tenant; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
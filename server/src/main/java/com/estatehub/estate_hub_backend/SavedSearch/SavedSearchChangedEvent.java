@@ -0,0 +1,6 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+/**
+ * Published when a saved search is created or deactivated; criteria is null once it is inactive
+ */
+public record SavedSearchChangedEvent(Long savedSearchId, SavedSearchCriteria criteria) {}
@@ -0,0 +1,102 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Contrôleur REST pour les recherches sauvegardées des locataires
+ */
+@RestController
+@RequestMapping("/api/tenants/{tenantClerkId}")
+@Validated
+@CrossOrigin(origins = "*")
+public class SavedSearchController {
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    /**
+     * Sauvegarde une recherche (prix, chambres, ville, type, rayon autour d'un point)
+     * Les nouvelles annonces correspondantes sont enregistrées comme alertes
+     * 
+     * @param tenantClerkId ID Clerk du locataire
+     * @param savedSearchDto Critères de la recherche
+     * @return Recherche sauvegardée
+     */
+    @PostMapping("/saved-searches")
+    public ResponseEntity<SavedSearchDto> createSavedSearch(
+            @PathVariable String tenantClerkId,
+            @Valid @RequestBody SavedSearchDto savedSearchDto) {
+
+        SavedSearchDto saved = savedSearchService.createSavedSearch(tenantClerkId, savedSearchDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+    }
+
+    /**
+     * Récupère les recherches sauvegardées actives d'un locataire
+     * 
+     * @param tenantClerkId ID Clerk du locataire
+     * @return Liste des recherches sauvegardées
+     */
+    @GetMapping("/saved-searches")
+    public ResponseEntity<List<SavedSearchDto>> getSavedSearches(@PathVariable String tenantClerkId) {
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(tenantClerkId));
+    }
+
+    /**
+     * Supprime une recherche sauvegardée
+     * 
+     * @param tenantClerkId ID Clerk du locataire
+     * @param id ID de la recherche
+     * @return Réponse vide
+     */
+    @DeleteMapping("/saved-searches/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable String tenantClerkId, @PathVariable @Min(1) Long id) {
+        savedSearchService.deleteSavedSearch(tenantClerkId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Récupère les dernières annonces correspondant aux recherches sauvegardées
+     * 
+     * @param tenantClerkId ID Clerk du locataire
+     * @param limit Nombre de résultats (défaut: 50)
+     * @return Alertes, la plus récente d'abord
+     */
+    @GetMapping("/saved-search-matches")
+    public ResponseEntity<List<SavedSearchMatchDto>> getMatches(
+            @PathVariable String tenantClerkId,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit) {
+
+        return ResponseEntity.ok(savedSearchService.getMatches(tenantClerkId, limit));
+    }
+
+    /**
+     * Critères incohérents (minimum supérieur au maximum, rayon sans point ou trop grand) : 400 plutôt que 500
+     */
+    @ExceptionHandler({ IllegalArgumentException.class, ConstraintViolationException.class })
+    public void handleInvalidArgument(RuntimeException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
@@ -0,0 +1,76 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.Locale;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+
+/**
+ * In-memory form of an active saved search, as held by SavedSearchIndex.
+ * Unset bounds are infinities; city is lower-cased with Locale.ROOT; radiusKm is null unless the search is an area.
+ */
+public record SavedSearchCriteria(
+    Long id,
+    double minPrice,
+    double maxPrice,
+    double minBeds,
+    double maxBeds,
+    String city,
+    PropertyType propertyType,
+    Double latitude,
+    Double longitude,
+    Double radiusKm
+) {
+
+    public static SavedSearchCriteria of(SavedSearch search) {
+        return new SavedSearchCriteria(
+                search.getId(),
+                search.getMinPrice() != null ? search.getMinPrice().doubleValue() : Double.NEGATIVE_INFINITY,
+                search.getMaxPrice() != null ? search.getMaxPrice().doubleValue() : Double.POSITIVE_INFINITY,
+                search.getMinBeds() != null ? search.getMinBeds() : Double.NEGATIVE_INFINITY,
+                search.getMaxBeds() != null ? search.getMaxBeds() : Double.POSITIVE_INFINITY,
+                normaliseCity(search.getCity()),
+                search.getPropertyType(),
+                search.getLatitude(),
+                search.getLongitude(),
+                search.getRadiusKm());
+    }
+
+    static String normaliseCity(String city) {
+        return city == null || city.isBlank() ? null : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    boolean hasArea() {
+        return radiusKm != null && latitude != null && longitude != null;
+    }
+
+    /**
+     * Full predicate check, run on the candidates the index returns
+     */
+    boolean matches(ListingSnapshot listing) {
+        if (listing.pricePerMonth() == null) {
+            return false;
+        }
+        double price = listing.pricePerMonth().doubleValue();
+        if (price < minPrice || price > maxPrice) {
+            return false;
+        }
+        if (minBeds != Double.NEGATIVE_INFINITY || maxBeds != Double.POSITIVE_INFINITY) {
+            if (listing.beds() == null || listing.beds() < minBeds || listing.beds() > maxBeds) {
+                return false;
+            }
+        }
+        if (city != null && !city.equals(normaliseCity(listing.city()))) {
+            return false;
+        }
+        if (propertyType != null && propertyType != listing.propertyType()) {
+            return false;
+        }
+        if (hasArea()) {
+            return listing.latitude() != null && listing.longitude() != null
+                    && GeoHash.distanceKm(latitude, longitude, listing.latitude(), listing.longitude()) <= radiusKm;
+        }
+        return true;
+    }
+}
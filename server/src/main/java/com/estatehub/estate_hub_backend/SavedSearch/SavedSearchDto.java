@@ -0,0 +1,49 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record SavedSearchDto(
+    Long id,
+
+    @NotBlank(message = "Search name is required")
+    @Size(max = 100, message = "Search name must not exceed 100 characters")
+    String name,
+
+    @DecimalMin(value = "0.0", message = "Minimum price must be non-negative")
+    BigDecimal minPrice,
+
+    @DecimalMin(value = "0.0", message = "Maximum price must be non-negative")
+    BigDecimal maxPrice,
+
+    @Min(value = 0, message = "Minimum beds must be non-negative")
+    Integer minBeds,
+
+    @Min(value = 0, message = "Maximum beds must be non-negative")
+    Integer maxBeds,
+
+    @Size(max = 100, message = "City must not exceed 100 characters")
+    String city,
+
+    PropertyType propertyType,
+
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    Double latitude,
+
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    Double longitude,
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Radius must be positive")
+    @DecimalMax(value = "100.0", message = "Radius must not exceed 100 km")
+    Double radiusKm,
+
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,189 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+
+/**
+ * Inverted index over the saved searches themselves, so a listing is matched against
+ * only the searches that could accept it instead of re-running every search.
+ *
+ * Each search is filed under its most selective predicate: the geohash cells covering its
+ * area, else its city, else its property type, else a catch-all bucket. A listing probes
+ * the one cell it falls in plus its city, type and catch-all buckets; within a bucket a
+ * price interval tree returns the searches whose price range contains the listing's price,
+ * and the remaining predicates are checked on those candidates only.
+ */
+@Component
+public class SavedSearchIndex {
+
+    static final int CELL_PRECISION = 4;
+    static final double MAX_RADIUS_KM = 100.0;
+
+    private static final String ANY = "*";
+
+    private final Map<Long, List<String>> keysBySearch = new HashMap<>();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public synchronized int size() {
+        return keysBySearch.size();
+    }
+
+    public synchronized void put(SavedSearchCriteria criteria) {
+        remove(criteria.id());
+        List<String> keys = keysFor(criteria);
+        for (String key : keys) {
+            buckets.computeIfAbsent(key, k -> new Bucket()).add(criteria);
+        }
+        keysBySearch.put(criteria.id(), keys);
+    }
+
+    public synchronized void remove(Long savedSearchId) {
+        List<String> keys = keysBySearch.remove(savedSearchId);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null && bucket.remove(savedSearchId)) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Ids of the saved searches the listing satisfies
+     */
+    public Set<Long> match(ListingSnapshot listing) {
+        Set<Long> matched = new LinkedHashSet<>();
+        if (listing.pricePerMonth() == null) {
+            return matched;
+        }
+        double price = listing.pricePerMonth().doubleValue();
+        List<String> probes = new ArrayList<>(4);
+        if (listing.latitude() != null && listing.longitude() != null) {
+            probes.add("cell:" + GeoHash.encode(listing.latitude(), listing.longitude(), CELL_PRECISION));
+        }
+        String city = SavedSearchCriteria.normaliseCity(listing.city());
+        if (city != null) {
+            probes.add("city:" + city);
+        }
+        if (listing.propertyType() != null) {
+            probes.add("type:" + listing.propertyType().name());
+        }
+        probes.add(ANY);
+
+        for (String key : probes) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.stab(price, criteria -> {
+                    if (criteria.matches(listing)) {
+                        matched.add(criteria.id());
+                    }
+                });
+            }
+        }
+        return matched;
+    }
+
+    static List<String> keysFor(SavedSearchCriteria criteria) {
+        if (criteria.hasArea()) {
+            return coveringCells(criteria.latitude(), criteria.longitude(), criteria.radiusKm()).stream()
+                    .map(cell -> "cell:" + cell)
+                    .toList();
+        }
+        if (criteria.city() != null) {
+            return List.of("city:" + criteria.city());
+        }
+        if (criteria.propertyType() != null) {
+            return List.of("type:" + criteria.propertyType().name());
+        }
+        return List.of(ANY);
+    }
+
+    /**
+     * Geohash cells intersecting the bounding box of a circle
+     */
+    static Set<String> coveringCells(double latitude, double longitude, double radiusKm) {
+        return GeoHash.coveringCells(latitude, longitude, radiusKm, CELL_PRECISION);
+    }
+
+    /**
+     * Searches filed under one key: an immutable price interval tree plus the writes made
+     * since it was built, folded in once they outgrow a fraction of the tree.
+     * Mutated only under the index lock; read lock-free through the volatile view.
+     */
+    private static final class Bucket {
+
+        private static final int MIN_REBUILD_THRESHOLD = 32;
+
+        private record View(IntervalTree<SavedSearchCriteria> tree,
+                            List<SavedSearchCriteria> added,
+                            Set<Long> removed) {}
+
+        private final Map<Long, SavedSearchCriteria> members = new HashMap<>();
+        private volatile View view = new View(new IntervalTree<>(List.of()), List.of(), Set.of());
+
+        void add(SavedSearchCriteria criteria) {
+            members.put(criteria.id(), criteria);
+            View current = view;
+            List<SavedSearchCriteria> added = new ArrayList<>(current.added());
+            added.add(criteria);
+            publish(current.tree(), added, current.removed());
+        }
+
+        /**
+         * @return true once the bucket is empty
+         */
+        boolean remove(Long savedSearchId) {
+            members.remove(savedSearchId);
+            if (members.isEmpty()) {
+                return true;
+            }
+            View current = view;
+            List<SavedSearchCriteria> added = new ArrayList<>(current.added());
+            added.removeIf(criteria -> criteria.id().equals(savedSearchId));
+            Set<Long> removed = new HashSet<>(current.removed());
+            removed.add(savedSearchId);
+            publish(current.tree(), added, removed);
+            return false;
+        }
+
+        void stab(double price, Consumer<SavedSearchCriteria> consumer) {
+            View current = view;
+            current.tree().stab(price, criteria -> {
+                if (!current.removed().contains(criteria.id())) {
+                    consumer.accept(criteria);
+                }
+            });
+            for (SavedSearchCriteria criteria : current.added()) {
+                if (price >= criteria.minPrice() && price <= criteria.maxPrice()) {
+                    consumer.accept(criteria);
+                }
+            }
+        }
+
+        private void publish(IntervalTree<SavedSearchCriteria> tree, List<SavedSearchCriteria> added, Set<Long> removed) {
+            if (added.size() + removed.size() > Math.max(MIN_REBUILD_THRESHOLD, tree.size() / 10)) {
+                List<IntervalTree.Interval<SavedSearchCriteria>> intervals = new ArrayList<>(members.size());
+                for (SavedSearchCriteria criteria : members.values()) {
+                    intervals.add(new IntervalTree.Interval<>(criteria.minPrice(), criteria.maxPrice(), criteria));
+                }
+                view = new View(new IntervalTree<>(intervals), List.of(), Set.of());
+            } else {
+                view = new View(tree, added, removed);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.estatehub.estate_hub_backend.Outbox.OutboxEvent;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the saved-search index loaded and matches committed listing writes against it.
+ * Listing writes arrive through the outbox, and matches are inserted in the delivery's transaction,
+ * which commits before the event is marked published: a write is matched at least once even if
+ * this node stops right after the commit, and a redelivery inserts nothing new.
+ */
+@Component
+public class SavedSearchIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchIndexListener.class);
+
+    private final SavedSearchIndex savedSearchIndex;
+    private final SavedSearchStore savedSearchStore;
+    private final ListingSnapshotStore listingSnapshotStore;
+    private final ObjectMapper objectMapper;
+
+    public SavedSearchIndexListener(SavedSearchIndex savedSearchIndex, SavedSearchStore savedSearchStore,
+                                    ListingSnapshotStore listingSnapshotStore, ObjectMapper objectMapper) {
+        this.savedSearchIndex = savedSearchIndex;
+        this.savedSearchStore = savedSearchStore;
+        this.listingSnapshotStore = listingSnapshotStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        savedSearchStore.forEachActive(savedSearchIndex::put);
+        log.info("Saved-search index loaded with {} searches", savedSearchIndex.size());
+    }
+
+    @TransactionalEventListener
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        if (event.criteria() != null) {
+            savedSearchIndex.put(event.criteria());
+        } else {
+            savedSearchIndex.remove(event.savedSearchId());
+        }
+    }
+
+    @EventListener
+    public void onOutboxEvent(OutboxEvent outboxEvent) {
+        if (!PropertyChangedEvent.class.getSimpleName().equals(outboxEvent.eventType())) {
+            return;
+        }
+        PropertyChangedEvent event;
+        try {
+            event = objectMapper.treeToValue(outboxEvent.payload(), PropertyChangedEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable PropertyChangedEvent in outbox event " + outboxEvent.id(), e);
+        }
+        if (event.type() == PropertyChangedEvent.ChangeType.UNAVAILABLE) {
+            return;
+        }
+        listingSnapshotStore.findById(event.propertyId())
+                .filter(listing -> listing.available())
+                .ifPresent(listing -> {
+                    Set<Long> matched = savedSearchIndex.match(listing);
+                    if (!matched.isEmpty()) {
+                        List<Long> savedSearchIds = List.copyOf(matched);
+                        savedSearchStore.insertMatches(savedSearchIds,
+                                savedSearchIds.stream().map(id -> listing.id()).toList());
+                    }
+                });
+    }
+}
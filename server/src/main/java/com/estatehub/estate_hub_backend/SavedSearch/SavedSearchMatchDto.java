@@ -0,0 +1,10 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.time.LocalDateTime;
+
+public record SavedSearchMatchDto(
+    Long savedSearchId,
+    String savedSearchName,
+    Long propertyId,
+    LocalDateTime matchedAt
+) {}
@@ -0,0 +1,21 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    /**
+     * Active saved searches of a tenant, newest first
+     */
+    List<SavedSearch> findByTenantClerkIdAndIsActiveTrueOrderByCreatedAtDesc(String tenantClerkId);
+
+    /**
+     * Find a saved search owned by a tenant
+     */
+    Optional<SavedSearch> findByIdAndTenantClerkId(Long id, String tenantClerkId);
+}
@@ -0,0 +1,29 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.List;
+
+/**
+ * Service interface for tenant saved searches and their listing alerts
+ */
+public interface SavedSearchService {
+
+    /**
+     * Save a search for a tenant; matching listings created afterwards are recorded as alerts
+     */
+    SavedSearchDto createSavedSearch(String tenantClerkId, SavedSearchDto savedSearch);
+
+    /**
+     * Active saved searches of a tenant
+     */
+    List<SavedSearchDto> getSavedSearches(String tenantClerkId);
+
+    /**
+     * Deactivate a saved search (its past alerts are kept)
+     */
+    void deleteSavedSearch(String tenantClerkId, Long savedSearchId);
+
+    /**
+     * Most recent listings that matched the tenant's saved searches
+     */
+    List<SavedSearchMatchDto> getMatches(String tenantClerkId, int limit);
+}
@@ -0,0 +1,113 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.estatehub.estate_hub_backend.Tenant.TenantIdCache;
+import com.estatehub.estate_hub_backend.Tenant.TenantRepository;
+
+@Service
+@Transactional
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final TenantRepository tenantRepository;
+    private final TenantIdCache tenantIdCache;
+    private final SavedSearchStore savedSearchStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SavedSearchServiceImpl(SavedSearchRepository savedSearchRepository, TenantRepository tenantRepository,
+                                  TenantIdCache tenantIdCache, SavedSearchStore savedSearchStore,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.tenantRepository = tenantRepository;
+        this.tenantIdCache = tenantIdCache;
+        this.savedSearchStore = savedSearchStore;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public SavedSearchDto createSavedSearch(String tenantClerkId, SavedSearchDto dto) {
+        validate(dto);
+        Long tenantId = tenantIdCache.get(tenantClerkId, key -> tenantRepository.findIdByClerkId(key).orElse(null));
+        if (tenantId == null) {
+            throw new RuntimeException("Tenant not found with clerk ID: " + tenantClerkId);
+        }
+
+        SavedSearch search = new SavedSearch();
+        search.setName(dto.name());
+        search.setMinPrice(dto.minPrice());
+        search.setMaxPrice(dto.maxPrice());
+        search.setMinBeds(dto.minBeds());
+        search.setMaxBeds(dto.maxBeds());
+        search.setCity(dto.city());
+        search.setPropertyType(dto.propertyType());
+        search.setLatitude(dto.latitude());
+        search.setLongitude(dto.longitude());
+        search.setRadiusKm(dto.radiusKm());
+        search.setTenant(tenantRepository.getReferenceById(tenantId));
+
+        SavedSearch saved = savedSearchRepository.save(search);
+        eventPublisher.publishEvent(new SavedSearchChangedEvent(saved.getId(), SavedSearchCriteria.of(saved)));
+        return toDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedSearchDto> getSavedSearches(String tenantClerkId) {
+        return savedSearchRepository.findByTenantClerkIdAndIsActiveTrueOrderByCreatedAtDesc(tenantClerkId).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    public void deleteSavedSearch(String tenantClerkId, Long savedSearchId) {
+        SavedSearch search = savedSearchRepository.findByIdAndTenantClerkId(savedSearchId, tenantClerkId)
+                .orElseThrow(() -> new RuntimeException("Saved search not found with ID: " + savedSearchId));
+        if (Boolean.TRUE.equals(search.getIsActive())) {
+            search.setIsActive(false);
+            eventPublisher.publishEvent(new SavedSearchChangedEvent(savedSearchId, null));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedSearchMatchDto> getMatches(String tenantClerkId, int limit) {
+        return savedSearchStore.findMatchesForTenant(tenantClerkId, limit);
+    }
+
+    private void validate(SavedSearchDto dto) {
+        if (dto.minPrice() != null && dto.maxPrice() != null && dto.minPrice().compareTo(dto.maxPrice()) > 0) {
+            throw new IllegalArgumentException("Minimum price must not exceed maximum price");
+        }
+        if (dto.minBeds() != null && dto.maxBeds() != null && dto.minBeds() > dto.maxBeds()) {
+            throw new IllegalArgumentException("Minimum beds must not exceed maximum beds");
+        }
+        boolean hasPoint = dto.latitude() != null && dto.longitude() != null;
+        if (dto.radiusKm() != null && !hasPoint) {
+            throw new IllegalArgumentException("A search radius requires a latitude and longitude");
+        }
+        if (dto.radiusKm() != null && dto.radiusKm() > SavedSearchIndex.MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("Search radius must not exceed " + SavedSearchIndex.MAX_RADIUS_KM + " km");
+        }
+    }
+
+    private SavedSearchDto toDto(SavedSearch search) {
+        return new SavedSearchDto(
+                search.getId(),
+                search.getName(),
+                search.getMinPrice(),
+                search.getMaxPrice(),
+                search.getMinBeds(),
+                search.getMaxBeds(),
+                search.getCity(),
+                search.getPropertyType(),
+                search.getLatitude(),
+                search.getLongitude(),
+                search.getRadiusKm(),
+                search.getCreatedAt());
+    }
+}
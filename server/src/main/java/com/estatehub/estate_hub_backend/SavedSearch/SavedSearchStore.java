@@ -0,0 +1,107 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+/**
+ * JDBC access for the saved-search matching engine: index loading and batched match inserts.
+ */
+@Repository
+public class SavedSearchStore {
+
+    private static final String SELECT_ACTIVE = """
+        SELECT id, min_price, max_price, min_beds, max_beds, city, property_type,
+               latitude, longitude, radius_km
+        FROM saved_searches
+        WHERE is_active
+        """;
+
+    // A listing matching the same search again (e.g. after an update) is only recorded once
+    private static final String INSERT_MATCHES = """
+        INSERT INTO saved_search_matches (saved_search_id, property_id, matched_at)
+        SELECT t.saved_search_id, t.property_id, now()
+        FROM unnest(?, ?) AS t(saved_search_id, property_id)
+        JOIN saved_searches s ON s.id = t.saved_search_id AND s.is_active
+        ON CONFLICT (saved_search_id, property_id) DO NOTHING
+        """;
+
+    private static final String MATCHES_FOR_TENANT = """
+        SELECT m.saved_search_id, s.name, m.property_id, m.matched_at
+        FROM saved_search_matches m
+        JOIN saved_searches s ON s.id = m.saved_search_id
+        JOIN tenants t ON t.id = s.tenant_id
+        WHERE t.clerk_id = ?
+        ORDER BY m.matched_at DESC
+        LIMIT ?
+        """;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SavedSearchStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams every active saved search; transactional so the fetch size is honoured
+     */
+    @Transactional(readOnly = true)
+    public void forEachActive(Consumer<SavedSearchCriteria> consumer) {
+        jdbcTemplate.query(con -> {
+            var statement = con.prepareStatement(SELECT_ACTIVE);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            consumer.accept(map(rs));
+        });
+    }
+
+    /**
+     * Records all matches in a single statement
+     */
+    public int insertMatches(List<Long> savedSearchIds, List<Long> propertyIds) {
+        return jdbcTemplate.update(con -> {
+            var statement = con.prepareStatement(INSERT_MATCHES);
+            statement.setArray(1, con.createArrayOf("bigint", savedSearchIds.toArray()));
+            statement.setArray(2, con.createArrayOf("bigint", propertyIds.toArray()));
+            return statement;
+        });
+    }
+
+    public List<SavedSearchMatchDto> findMatchesForTenant(String tenantClerkId, int limit) {
+        return jdbcTemplate.query(MATCHES_FOR_TENANT, (rs, row) -> new SavedSearchMatchDto(
+                rs.getLong("saved_search_id"),
+                rs.getString("name"),
+                rs.getLong("property_id"),
+                rs.getTimestamp("matched_at").toLocalDateTime()), tenantClerkId, limit);
+    }
+
+    private static SavedSearchCriteria map(ResultSet rs) throws SQLException {
+        BigDecimal minPrice = rs.getBigDecimal("min_price");
+        BigDecimal maxPrice = rs.getBigDecimal("max_price");
+        Integer minBeds = rs.getObject("min_beds", Integer.class);
+        Integer maxBeds = rs.getObject("max_beds", Integer.class);
+        String type = rs.getString("property_type");
+        return new SavedSearchCriteria(
+                rs.getLong("id"),
+                minPrice != null ? minPrice.doubleValue() : Double.NEGATIVE_INFINITY,
+                maxPrice != null ? maxPrice.doubleValue() : Double.POSITIVE_INFINITY,
+                minBeds != null ? minBeds : Double.NEGATIVE_INFINITY,
+                maxBeds != null ? maxBeds : Double.POSITIVE_INFINITY,
+                SavedSearchCriteria.normaliseCity(rs.getString("city")),
+                type != null ? PropertyType.valueOf(type) : null,
+                rs.getObject("latitude", Double.class),
+                rs.getObject("longitude", Double.class),
+                rs.getObject("radius_km", Double.class));
+    }
+}
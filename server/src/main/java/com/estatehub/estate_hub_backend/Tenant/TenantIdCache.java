@@ -0,0 +1,28 @@
+package com.estatehub.estate_hub_backend.Tenant;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Node-local map of Clerk ID to tenant id, resolved on every tenant-scoped request.
+ * A Clerk ID never moves to another tenant, so entries are only dropped by size, TTL or a
+ * full flush; unknown Clerk IDs are not cached so a new sign-up resolves at once.
+ */
+@Component
+public class TenantIdCache extends LocalCache<String, Long> {
+
+    public static final String NAME = "tenant-id";
+
+    public TenantIdCache(MeterRegistry meterRegistry,
+                         @Value("${estatehub.cache.tenant-id.maximum-size:200000}") long maximumSize,
+                         @Value("${estatehub.cache.tenant-id.ttl:PT1H}") Duration timeToLive) {
+        super(NAME, maximumSize, timeToLive, Function.identity(), meterRegistry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.estatehub.estate_hub_backend.Tenant;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TenantRepository extends JpaRepository<Tenant, Long> {
+
+    /**
+     * Find tenant by Clerk ID
+     */
+    Optional<Tenant> findByClerkId(String clerkId);
+
+    /**
+     * Find only the tenant id for a Clerk ID, answered from the unique index
+     */
+    @Query("SELECT t.id FROM Tenant t WHERE t.clerkId = :clerkId")
+    Optional<Long> findIdByClerkId(@Param("clerkId") String clerkId);
+}
@@ -0,0 +1,67 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+/**
+ * Count-min sketch over long keys: fixed memory, never under-estimates.
+ * Not thread-safe; RegionTrendingSketch serialises access.
+ */
+class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final long[][] counts;
+    private final int width;
+
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length || width < 1) {
+            throw new IllegalArgumentException("Invalid count-min sketch dimensions");
+        }
+        this.counts = new long[depth][width];
+        this.width = width;
+    }
+
+    /**
+     * Adds weight to the key and returns its new estimate
+     */
+    long add(long key, long weight) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            int column = index(key, row);
+            counts[row][column] += weight;
+            estimate = Math.min(estimate, counts[row][column]);
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            estimate = Math.min(estimate, counts[row][index(key, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Exponential decay: halves every counter; returns true when the sketch is empty afterwards
+     */
+    boolean halve() {
+        boolean empty = true;
+        for (long[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+                empty &= row[i] == 0;
+            }
+        }
+        return empty;
+    }
+
+    private int index(long key, int row) {
+        long h = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        h *= 0x94D049BB133111EBL;
+        h ^= h >>> 29;
+        return (int) Math.floorMod(h, (long) width);
+    }
+}
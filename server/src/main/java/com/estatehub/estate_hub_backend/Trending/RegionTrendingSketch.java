@@ -0,0 +1,45 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import java.util.List;
+
+/**
+ * Heavy hitters of one geohash cell: a count-min sketch for frequencies and a top-K heap
+ * of the listings with the highest estimates. Each region has its own lock, so activity in
+ * one area never contends with another.
+ */
+class RegionTrendingSketch {
+
+    private final CountMinSketch sketch;
+    private final TopKHeap topK;
+    // Set once decay() finds the region empty; TrendingServiceImpl is dropping it from the map
+    private boolean retired;
+
+    RegionTrendingSketch(int depth, int width, int k) {
+        this.sketch = new CountMinSketch(depth, width);
+        this.topK = new TopKHeap(k);
+    }
+
+    /**
+     * @return false if the region was retired by decay(); the caller records into a fresh region
+     */
+    synchronized boolean record(long propertyId, long weight) {
+        if (retired) {
+            return false;
+        }
+        topK.offer(propertyId, sketch.add(propertyId, weight));
+        return true;
+    }
+
+    synchronized List<TopKHeap.Entry> top() {
+        return topK.entries();
+    }
+
+    /**
+     * @return true when the region has decayed to nothing and must be dropped; it accepts no more records
+     */
+    synchronized boolean decay() {
+        topK.halve();
+        retired = sketch.halve();
+        return retired;
+    }
+}
@@ -0,0 +1,112 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded indexed min-heap of the K highest-scoring keys.
+ * The root is the weakest candidate, so admission and eviction are O(log K)
+ * and reading the top K is O(K log K) at most. Not thread-safe.
+ */
+class TopKHeap {
+
+    record Entry(long key, long score) {}
+
+    private final int capacity;
+    private final long[] keys;
+    private final long[] scores;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.keys = new long[capacity];
+        this.scores = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Offers a key with its current (monotonically estimated) score
+     */
+    void offer(long key, long score) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            scores[position] = score;
+            siftDown(position);
+            siftUp(position);
+        } else if (size < capacity) {
+            keys[size] = key;
+            scores[size] = score;
+            positions.put(key, size);
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            positions.remove(keys[0]);
+            keys[0] = key;
+            scores[0] = score;
+            positions.put(key, 0);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Halves every score; the order is unchanged so the heap stays valid
+     */
+    void halve() {
+        for (int i = 0; i < size; i++) {
+            scores[i] >>= 1;
+        }
+    }
+
+    /**
+     * Entries with a positive score, highest first
+     */
+    List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (scores[i] > 0) {
+                entries.add(new Entry(keys[i], scores[i]));
+            }
+        }
+        entries.sort((a, b) -> Long.compare(b.score(), a.score()));
+        return entries;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (scores[i] >= scores[parent]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            int right = left + 1;
+            int smallest = i;
+            if (left < size && scores[left] < scores[smallest]) smallest = left;
+            if (right < size && scores[right] < scores[smallest]) smallest = right;
+            if (smallest == i) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        long score = scores[a];
+        keys[a] = keys[b];
+        scores[a] = scores[b];
+        keys[b] = key;
+        scores[b] = score;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+}
@@ -0,0 +1,31 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.estatehub.estate_hub_backend.Application.ApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyRepository;
+
+/**
+ * Feeds committed application submissions into the trending sketches
+ */
+@Component
+public class TrendingApplicationListener {
+
+    private final TrendingService trendingService;
+    private final PropertyRepository propertyRepository;
+
+    public TrendingApplicationListener(TrendingService trendingService, PropertyRepository propertyRepository) {
+        this.trendingService = trendingService;
+        this.propertyRepository = propertyRepository;
+    }
+
+    @TransactionalEventListener
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        if (event.previousStatus() != null) {
+            return;
+        }
+        propertyRepository.findCoordinatesById(event.propertyId()).ifPresent(coordinates ->
+                trendingService.recordApplication(event.propertyId(), coordinates.getLatitude(), coordinates.getLongitude()));
+    }
+}
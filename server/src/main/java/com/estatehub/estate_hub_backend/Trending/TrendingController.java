@@ -0,0 +1,48 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Contrôleur REST pour les annonces tendance
+ */
+@RestController
+@RequestMapping("/api/properties")
+@Validated
+@CrossOrigin(origins = "*")
+public class TrendingController {
+
+    @Autowired
+    private TrendingService trendingService;
+
+    /**
+     * Récupère les annonces tendance autour d'un point (vues et candidatures récentes)
+     * Servi entièrement depuis la mémoire
+     * 
+     * @param lat Latitude
+     * @param lng Longitude
+     * @param limit Nombre de résultats (défaut: 10)
+     * @return Identifiants des propriétés et leur score
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPropertyDto>> getTrendingProperties(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") Double lat,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") Double lng,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+
+        return ResponseEntity.ok(trendingService.getTrending(lat, lng, limit));
+    }
+}
@@ -0,0 +1,6 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+public record TrendingPropertyDto(
+    Long propertyId,
+    long score
+) {}
@@ -0,0 +1,25 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import java.util.List;
+
+/**
+ * Service interface for the "trending near you" feed
+ * Activity is kept in per-region streaming sketches; nothing is read from the database
+ */
+public interface TrendingService {
+
+    /**
+     * Record a property detail view
+     */
+    void recordView(Long propertyId, Double latitude, Double longitude);
+
+    /**
+     * Record an application submission (weighted higher than a view)
+     */
+    void recordApplication(Long propertyId, Double latitude, Double longitude);
+
+    /**
+     * Trending properties around a point, highest score first
+     */
+    List<TrendingPropertyDto> getTrending(double latitude, double longitude, int limit);
+}
@@ -0,0 +1,97 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+
+@Service
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingServiceImpl.class);
+
+    private final ConcurrentHashMap<String, RegionTrendingSketch> regions = new ConcurrentHashMap<>();
+
+    private final int precision;
+    private final int depth;
+    private final int width;
+    private final int k;
+    private final long viewWeight;
+    private final long applicationWeight;
+
+    public TrendingServiceImpl(@Value("${estatehub.trending.geohash-precision:5}") int precision,
+                               @Value("${estatehub.trending.sketch-depth:4}") int depth,
+                               @Value("${estatehub.trending.sketch-width:512}") int width,
+                               @Value("${estatehub.trending.top-k:50}") int k,
+                               @Value("${estatehub.trending.view-weight:1}") long viewWeight,
+                               @Value("${estatehub.trending.application-weight:10}") long applicationWeight) {
+        this.precision = precision;
+        this.depth = depth;
+        this.width = width;
+        this.k = k;
+        this.viewWeight = viewWeight;
+        this.applicationWeight = applicationWeight;
+    }
+
+    @Override
+    public void recordView(Long propertyId, Double latitude, Double longitude) {
+        record(propertyId, latitude, longitude, viewWeight);
+    }
+
+    @Override
+    public void recordApplication(Long propertyId, Double latitude, Double longitude) {
+        record(propertyId, latitude, longitude, applicationWeight);
+    }
+
+    /**
+     * Merges the top-K of the caller's cell and its neighbours: at most 9 * K entries
+     */
+    @Override
+    public List<TrendingPropertyDto> getTrending(double latitude, double longitude, int limit) {
+        Map<Long, Long> scores = new HashMap<>();
+        for (String cell : GeoHash.withNeighbours(GeoHash.encode(latitude, longitude, precision))) {
+            RegionTrendingSketch region = regions.get(cell);
+            if (region != null) {
+                region.top().forEach(entry -> scores.merge(entry.key(), entry.score(), Long::sum));
+            }
+        }
+
+        List<TrendingPropertyDto> trending = new ArrayList<>(scores.size());
+        scores.forEach((propertyId, score) -> trending.add(new TrendingPropertyDto(propertyId, score)));
+        trending.sort(Comparator.comparingLong(TrendingPropertyDto::score).reversed());
+        return trending.size() > limit ? trending.subList(0, limit) : trending;
+    }
+
+    /**
+     * Halves all counts once per half-life so the feed reflects recent activity
+     */
+    @Scheduled(fixedDelayString = "${estatehub.trending.half-life:PT1H}",
+               initialDelayString = "${estatehub.trending.half-life:PT1H}")
+    public void decay() {
+        regions.keySet().forEach(cell -> regions.computeIfPresent(cell, (key, region) -> region.decay() ? null : region));
+        log.debug("Decayed trending sketches, {} active regions", regions.size());
+    }
+
+    private void record(Long propertyId, Double latitude, Double longitude, long weight) {
+        if (propertyId == null || latitude == null || longitude == null) {
+            return;
+        }
+        String cell = GeoHash.encode(latitude, longitude, precision);
+        // A region retired by decay() between lookup and record refuses the write; its removal
+        // happens in the same computeIfPresent, so the retry finds or creates a live region
+        RegionTrendingSketch region;
+        do {
+            region = regions.computeIfAbsent(cell, key -> new RegionTrendingSketch(depth, width, k));
+        } while (!region.record(propertyId, weight));
+    }
+}
@@ -0,0 +1,184 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cross-node invalidation of LocalCache instances over Postgres NOTIFY.
+ *
+ * Invalidations requested inside a transaction are coalesced and sent as one pg_notify just
+ * before commit; Postgres delivers it to the other nodes only if, and when, the transaction
+ * commits. This node drops its own entries right after commit. Receiving nodes apply each
+ * batch of notifications in one pass (see CacheInvalidationListener).
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    // Also notified by the V16 manager and V17 account triggers
+    static final String CHANNEL = "estatehub_cache_invalidation";
+
+    // NOTIFY payloads are capped at 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<InvalidatableCache> caches;
+    private final Timer lagTimer;
+    private final Counter fullFlushCounter;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                ObjectProvider<InvalidatableCache> caches, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.caches = caches;
+        this.lagTimer = Timer.builder("estatehub.cache.invalidation.lag")
+                .description("Time from the sending node's commit to the invalidation being applied here")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.fullFlushCounter = Counter.builder("estatehub.cache.invalidation.full-flush")
+                .description("Full cache flushes (reconnects and oversized invalidation bursts)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Invalidate a key on every node once the current transaction commits (immediately without one)
+     */
+    public void invalidate(String cacheName, Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<String, Set<String>> keys = Map.of(cacheName, Set.of(String.valueOf(key)));
+            applyLocally(keys, List.of());
+            send(keys);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Set<String>> pending = (Map<String, Set<String>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<String, Set<String>> buffer = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(buffer);
+                }
+
+                @Override
+                public void afterCommit() {
+                    applyLocally(buffer, List.of());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.computeIfAbsent(cacheName, name -> new HashSet<>()).add(String.valueOf(key));
+    }
+
+    /**
+     * Apply a batch of received payloads, merged so a burst costs one pass per cache
+     */
+    void onNotifications(List<String> payloads) {
+        long now = System.currentTimeMillis();
+        Map<String, Set<String>> keys = new HashMap<>();
+        Set<String> flush = new HashSet<>();
+        List<Long> lags = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            CacheInvalidationMessage message;
+            try {
+                message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+            } catch (JsonProcessingException e) {
+                log.warn("Ignoring unreadable cache invalidation payload", e);
+                continue;
+            }
+            if (nodeId.equals(message.node())) {
+                continue;
+            }
+            message.keys().forEach((cache, cacheKeys) -> keys.computeIfAbsent(cache, c -> new HashSet<>()).addAll(cacheKeys));
+            flush.addAll(message.flush());
+            lags.add(Math.max(0, now - message.sentAt()));
+        }
+        applyLocally(keys, new ArrayList<>(flush));
+        lags.forEach(lag -> lagTimer.record(Duration.ofMillis(lag)));
+    }
+
+    /**
+     * Empty every cache on this node; used when notifications may have been missed
+     */
+    void flushAll() {
+        caches.orderedStream().forEach(InvalidatableCache::invalidateAll);
+        fullFlushCounter.increment();
+    }
+
+    private void applyLocally(Map<String, Set<String>> keys, List<String> flush) {
+        caches.orderedStream().forEach(cache -> {
+            if (flush.contains(cache.name())) {
+                cache.invalidateAll();
+                fullFlushCounter.increment();
+                return;
+            }
+            Set<String> cacheKeys = keys.get(cache.name());
+            if (cacheKeys != null) {
+                cacheKeys.forEach(cache::invalidate);
+            }
+        });
+    }
+
+    private void send(Map<String, Set<String>> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> listed = new LinkedHashMap<>();
+        keys.forEach((cache, cacheKeys) -> listed.put(cache, new ArrayList<>(cacheKeys)));
+        List<String> flush = new ArrayList<>();
+        String payload = toJson(listed, flush);
+        // Too many keys for one NOTIFY: flush the caches with the most keys instead of listing them
+        while (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES && !listed.isEmpty()) {
+            String largest = listed.entrySet().stream()
+                    .max(Comparator.comparingInt(entry -> entry.getValue().size()))
+                    .get().getKey();
+            listed.remove(largest);
+            flush.add(largest);
+            payload = toJson(listed, flush);
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CHANNEL, payload);
+    }
+
+    private String toJson(Map<String, List<String>> keys, List<String> flush) {
+        try {
+            return objectMapper.writeValueAsString(
+                    new CacheInvalidationMessage(nodeId, System.currentTimeMillis(), keys, flush));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise cache invalidation message", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Holds one pooled connection in LISTEN on the invalidation channel and hands each batch of
+ * notifications to CacheInvalidationBus. The connection is UNLISTENed before it returns to the pool.
+ *
+ * Notifications sent while this node is not listening are lost, so every (re)connect starts
+ * with a full flush of the local caches. Reconnects back off exponentially up to a cap.
+ */
+@Component
+public class CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final DataSource dataSource;
+    private final CacheInvalidationBus bus;
+    private final int pollTimeoutMillis;
+    private final Duration maxReconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public CacheInvalidationListener(DataSource dataSource, CacheInvalidationBus bus,
+                                     @Value("${estatehub.cache.invalidation.poll-timeout:PT5S}") Duration pollTimeout,
+                                     @Value("${estatehub.cache.invalidation.max-reconnect-delay:PT30S}") Duration maxReconnectDelay) {
+        this.dataSource = dataSource;
+        this.bus = bus;
+        this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        long delayMillis = 500;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+                    }
+                    bus.flushAll();
+                    log.info("Listening for cache invalidations");
+                    delayMillis = 500;
+
+                    while (running) {
+                        PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                        if (notifications != null && notifications.length > 0) {
+                            List<String> payloads = new ArrayList<>(notifications.length);
+                            for (PGNotification notification : notifications) {
+                                payloads.add(notification.getParameter());
+                            }
+                            bus.onNotifications(payloads);
+                        }
+                    }
+                } finally {
+                    unlisten(connection, pgConnection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms", delayMillis, e);
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                delayMillis = Math.min(delayMillis * 2, maxReconnectDelay.toMillis());
+            }
+        }
+    }
+
+    /**
+     * The connection goes back to the pool: stop it queueing notifications for whoever borrows it
+     * next, and drop those the driver already read. A connection that cannot UNLISTEN is aborted
+     * so the pool discards it.
+     */
+    private static void unlisten(Connection connection, PGConnection pgConnection) {
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("UNLISTEN *");
+            }
+            pgConnection.getNotifications();
+        } catch (SQLException | RuntimeException e) {
+            log.debug("UNLISTEN failed, aborting the listener connection", e);
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException | RuntimeException abortFailure) {
+                log.debug("Aborting the listener connection failed", abortFailure);
+            }
+        }
+    }
+}
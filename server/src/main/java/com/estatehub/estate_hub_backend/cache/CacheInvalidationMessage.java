@@ -0,0 +1,19 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payload of one NOTIFY on the cache invalidation channel
+ *
+ * @param node id of the sending node, which has already invalidated locally
+ * @param sentAt sender wall-clock time in epoch milliseconds, used for the lag metric
+ * @param keys keys to drop, per cache name
+ * @param flush caches to empty entirely (too many keys to list)
+ */
+public record CacheInvalidationMessage(
+    String node,
+    long sentAt,
+    Map<String, List<String>> keys,
+    List<String> flush
+) {}
@@ -0,0 +1,23 @@
+package com.estatehub.estate_hub_backend.cache;
+
+/**
+ * A node-local cache that CacheInvalidationBus can invalidate by name when another node
+ * (or this one) commits a change to the underlying data.
+ */
+public interface InvalidatableCache {
+
+    /**
+     * Name used in invalidation messages, unique across caches
+     */
+    String name();
+
+    /**
+     * Drop one entry, identified by the string form of its key
+     */
+    void invalidate(String key);
+
+    /**
+     * Drop every entry, used when invalidations may have been missed
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,155 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, node-local Caffeine cache kept coherent across nodes by CacheInvalidationBus.
+ * The TTL only bounds staleness for writes that bypass the bus; invalidation is the norm.
+ */
+public abstract class LocalCache<K, V> implements InvalidatableCache {
+
+    private final String name;
+    private final Function<String, K> keyParser;
+    private final Cache<K, V> cache;
+    // Bulk loads in progress, so an invalidation can flag exactly the keys it makes stale
+    private final Set<BulkLoad<K>> bulkLoads = ConcurrentHashMap.newKeySet();
+
+    protected LocalCache(String name, long maximumSize, Duration timeToLive,
+                         Function<String, K> keyParser, MeterRegistry meterRegistry) {
+        this(name, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .<K, V>build(), keyParser, meterRegistry);
+    }
+
+    /**
+     * Cache whose TTL depends on the value written, e.g. shorter for negative entries
+     */
+    protected LocalCache(String name, long maximumSize, BiFunction<K, V, Duration> timeToLive,
+                         Function<String, K> keyParser, MeterRegistry meterRegistry) {
+        this(name, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.writing(timeToLive))
+                .recordStats()
+                .build(), keyParser, meterRegistry);
+    }
+
+    private LocalCache(String name, Cache<K, V> cache, Function<String, K> keyParser, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.keyParser = keyParser;
+        this.cache = cache;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Cached value, loading it at most once per key when absent.
+     * An invalidation racing with the load waits for it, so a stale load cannot survive the invalidation.
+     */
+    public V get(K key, Function<K, V> loader) {
+        return cache.get(key, loader);
+    }
+
+    /**
+     * Cached values for all keys, loading the missing ones with a single call to the bulk loader.
+     * Keys the loader does not return are absent from the result.
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> result = new HashMap<>(cache.getAllPresent(keys));
+        Set<K> missing = new LinkedHashSet<>(keys);
+        missing.removeAll(result.keySet());
+        if (!missing.isEmpty()) {
+            BulkLoad<K> load = new BulkLoad<>(missing);
+            bulkLoads.add(load);
+            try {
+                Map<K, V> loaded = bulkLoader.apply(missing);
+                result.putAll(loaded);
+                cache.putAll(loaded);
+                // Keys invalidated during the load may have been read before the change: drop them, keep the rest
+                cache.invalidateAll(load.stale(loaded.keySet()));
+            } finally {
+                bulkLoads.remove(load);
+            }
+        }
+        return result;
+    }
+
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    public void evict(K key) {
+        // Flag before dropping: a load that checks in between still sees the flag
+        bulkLoads.forEach(load -> load.invalidated(key));
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        evict(keyParser.apply(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        bulkLoads.forEach(BulkLoad::invalidatedAll);
+        cache.invalidateAll();
+    }
+
+    /**
+     * Keys of one getAll load, and those invalidated while it ran
+     */
+    private static final class BulkLoad<K> {
+
+        private final Set<K> keys;
+        private final Set<K> invalidated = ConcurrentHashMap.newKeySet();
+        private volatile boolean invalidatedAll;
+
+        BulkLoad(Set<K> keys) {
+            this.keys = keys;
+        }
+
+        void invalidated(K key) {
+            if (keys.contains(key)) {
+                invalidated.add(key);
+            }
+        }
+
+        void invalidatedAll() {
+            invalidatedAll = true;
+        }
+
+        Set<K> stale(Set<K> loaded) {
+            if (invalidatedAll) {
+                return loaded;
+            }
+            Set<K> stale = new HashSet<>(invalidated);
+            stale.retainAll(loaded);
+            return stale;
+        }
+    }
+}
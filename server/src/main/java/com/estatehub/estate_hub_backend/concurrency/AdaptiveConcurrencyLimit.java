@@ -0,0 +1,122 @@
+package com.estatehub.estate_hub_backend.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows latency, in the style of a gradient limiter.
+ *
+ * Latencies are averaged over windows of completed requests. A slowly moving average of those
+ * windows is the baseline: when a window runs slower than the baseline allows, the limit shrinks
+ * in proportion, otherwise it grows by about its square root. A window holding a failed request
+ * backs off multiplicatively. The limit only grows while requests actually use it.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // How much slower than the baseline a window may run before the limit shrinks
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double SMOOTHING = 0.2;
+    // Weight of each window in the baseline, about 20 windows
+    private static final double BASELINE_WEIGHT = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double estimatedLimit;
+
+    // Window state, guarded by this
+    private int samples;
+    private long windowLatencyNanos;
+    private int windowMaxInFlight;
+    private boolean windowFailed;
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int windowSize) {
+        if (minLimit < 1 || maxLimit < minLimit || windowSize < 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds: min " + minLimit + ", max " + maxLimit
+                    + ", window " + windowSize);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = windowSize;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Take a slot if one is free; every successful call must be paired with release
+     */
+    public boolean tryAcquire() {
+        int limit = limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back a slot, with how long the request held it and whether it failed
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        record(latencyNanos, failed, inFlightBefore);
+    }
+
+    public int limit() {
+        return (int) estimatedLimit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Baseline latency in nanoseconds, 0 until the first window closes
+     */
+    public synchronized double baselineNanos() {
+        return baselineNanos;
+    }
+
+    private synchronized void record(long latencyNanos, boolean failed, int inFlightBefore) {
+        samples++;
+        windowLatencyNanos += Math.max(1, latencyNanos);
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+        windowFailed |= failed;
+        if (samples < windowSize) {
+            return;
+        }
+
+        double windowNanos = (double) windowLatencyNanos / samples;
+        baselineNanos = baselineNanos == 0 ? windowNanos : baselineNanos * (1 - BASELINE_WEIGHT) + windowNanos * BASELINE_WEIGHT;
+        // Under sustained overload the baseline drifts up with the load; pull it back down
+        if (baselineNanos / windowNanos > 2) {
+            baselineNanos *= 0.95;
+        }
+
+        double limit = estimatedLimit;
+        double next;
+        if (windowFailed) {
+            next = limit * BACKOFF_RATIO;
+        } else {
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * baselineNanos / windowNanos));
+            double target = limit * gradient + Math.sqrt(limit);
+            // Requests never came near the limit: latency says nothing about a larger one
+            if (windowMaxInFlight < limit / 2) {
+                target = Math.min(target, limit);
+            }
+            next = limit * (1 - SMOOTHING) + target * SMOOTHING;
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+
+        samples = 0;
+        windowLatencyNanos = 0;
+        windowMaxInFlight = 0;
+        windowFailed = false;
+    }
+}
@@ -0,0 +1,94 @@
+package com.estatehub.estate_hub_backend.concurrency;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds listing searches (GET /api/properties and GET /api/properties/search/**) beyond an
+ * adaptive concurrency limit, answering 429 with Retry-After instead of queueing them on
+ * Tomcat threads until the connection pool times out.
+ *
+ * Searches have their own budget, capped below the connection pool size: every other request,
+ * manager writes included, never waits behind it and always finds reserved connections.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "estatehub.concurrency.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SearchConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final String LISTINGS_PATH = "/api/properties";
+    private static final String SEARCH_PATH_PREFIX = "/api/properties/search/";
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Counter rejected;
+
+    public SearchConcurrencyFilter(MeterRegistry meterRegistry,
+                                   @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                   @Value("${estatehub.concurrency.search.reserved-connections:2}") int reservedConnections,
+                                   @Value("${estatehub.concurrency.search.min-limit:1}") int minLimit,
+                                   @Value("${estatehub.concurrency.search.window-size:50}") int windowSize) {
+        int maxLimit = Math.max(minLimit, poolSize - reservedConnections);
+        this.limit = new AdaptiveConcurrencyLimit(maxLimit, minLimit, maxLimit, windowSize);
+        this.rejected = Counter.builder("estatehub.concurrency.search.rejected")
+                .description("Listing searches shed with 429 by the adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("estatehub.concurrency.search.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("Current adaptive concurrency limit for listing searches")
+                .register(meterRegistry);
+        Gauge.builder("estatehub.concurrency.search.in-flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("Listing searches currently running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.equals(LISTINGS_PATH) && !path.startsWith(SEARCH_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many concurrent searches");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limit.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    // Roughly when a slot should free up again, never less than a second
+    private long retryAfterSeconds() {
+        long baselineSeconds = TimeUnit.NANOSECONDS.toSeconds((long) Math.ceil(limit.baselineNanos()));
+        return Math.max(1, baselineSeconds + 1);
+    }
+}
@@ -0,0 +1,12 @@
+package com.estatehub.estate_hub_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (reconciliation, flushes, cleanup)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,132 @@
+package com.estatehub.estate_hub_backend.config;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.util.StringUtils;
+
+import com.estatehub.estate_hub_backend.security.CachingJwtDecoder;
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+import com.estatehub.estate_hub_backend.security.ClerkPrincipal;
+import com.estatehub.estate_hub_backend.security.JwksKeySource;
+import com.estatehub.estate_hub_backend.security.PropertyOwnerAuthorizationManager;
+import com.estatehub.estate_hub_backend.security.VerifiedJwtCache;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+import jakarta.servlet.DispatcherType;
+
+/**
+ * Stateless bearer-token authentication with Clerk session tokens, verified locally against
+ * Clerk's cached signing keys. Listings are public to read; a listing is only changed, and its
+ * applications only read, by the manager who owns it; manager and tenant routes are reserved to
+ * the Clerk user they name.
+ */
+@Configuration
+@EnableWebSecurity
+public class SecurityConfig {
+
+    @Bean
+    public JwksKeySource jwksKeySource(@Value("${estatehub.security.jwt.jwks-uri}") URI jwksUri,
+                                       @Value("${estatehub.security.jwt.jwks-min-refresh-interval:PT30S}") Duration minRefreshInterval) {
+        return new JwksKeySource(jwksUri, minRefreshInterval, Clock.systemUTC());
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwksKeySource jwksKeySource, VerifiedJwtCache verifiedJwtCache,
+                                 @Value("${estatehub.security.jwt.issuer:}") String issuer,
+                                 @Value("${estatehub.security.jwt.authorized-parties:}") List<String> authorizedParties) {
+        return new CachingJwtDecoder(clerkJwtDecoder(jwksKeySource, issuer, authorizedParties), verifiedJwtCache,
+                Clock.systemUTC());
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder,
+                                                   ClerkAuthenticationConverter authenticationConverter,
+                                                   PropertyOwnerAuthorizationManager propertyOwner) throws Exception {
+        http
+            .csrf(AbstractHttpConfigurer::disable)
+            .cors(Customizer.withDefaults())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(requests -> requests
+                // Errors are rendered by a forward to /error: it must answer with the original status
+                .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                .requestMatchers("/error", "/actuator/health/**").permitAll()
+                .requestMatchers("/api/managers/{managerClerkId}/**").access(sameClerkId("managerClerkId", ClerkPrincipal.ROLE_MANAGER))
+                .requestMatchers("/api/applications/manager/{managerClerkId}/**").access(sameClerkId("managerClerkId", ClerkPrincipal.ROLE_MANAGER))
+                .requestMatchers("/api/properties/manager/{managerClerkId}/portfolio").access(sameClerkId("managerClerkId", ClerkPrincipal.ROLE_MANAGER))
+                .requestMatchers("/api/tenants/{tenantClerkId}/**").access(sameClerkId("tenantClerkId", ClerkPrincipal.ROLE_TENANT))
+                .requestMatchers(HttpMethod.GET, "/api/properties/{id}/applications").access(propertyOwner)
+                .requestMatchers(HttpMethod.GET, "/api/properties", "/api/properties/**").permitAll()
+                // Creation checks in the controller that the new listing is the caller's own
+                .requestMatchers(HttpMethod.POST, "/api/properties").hasRole("MANAGER")
+                .requestMatchers("/api/properties/{id}/**").access(propertyOwner)
+                .requestMatchers("/api/properties/**").denyAll()
+                .anyRequest().authenticated())
+            .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt
+                .decoder(jwtDecoder)
+                .jwtAuthenticationConverter(authenticationConverter)));
+        return http.build();
+    }
+
+    private static JwtDecoder clerkJwtDecoder(JwksKeySource jwksKeySource, String issuer, List<String> authorizedParties) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwksKeySource));
+        // Claims are checked by the Spring validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+        validators.add(new JwtTimestampValidator());
+        if (StringUtils.hasText(issuer)) {
+            validators.add(new JwtIssuerValidator(issuer));
+        }
+        // Clerk puts the origin the token was issued to in azp
+        if (!authorizedParties.isEmpty()) {
+            validators.add(new JwtClaimValidator<String>("azp", authorizedParties::contains));
+        }
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(validators));
+        return decoder;
+    }
+
+    // Only the Clerk user named in the path, holding the role, may use the route
+    private static AuthorizationManager<RequestAuthorizationContext> sameClerkId(String variable, String role) {
+        return (Supplier<Authentication> authentication, RequestAuthorizationContext context) -> {
+            Authentication current = authentication.get();
+            boolean granted = current != null && current.isAuthenticated()
+                    && Objects.equals(context.getVariables().get(variable), current.getName())
+                    && current.getAuthorities().stream().anyMatch(authority -> role.equals(authority.getAuthority()));
+            return new AuthorizationDecision(granted);
+        };
+    }
+}
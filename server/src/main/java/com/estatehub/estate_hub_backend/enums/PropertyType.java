@@ -1,5 +1,7 @@
 package com.estatehub.estate_hub_backend.enums;
 
+import java.util.Locale;
+
 public enum PropertyType {
     APARTMENT("Apartment"),
     HOUSE("House"),
@@ -15,6 +17,20 @@ public enum PropertyType {
         this.displayName = displayName;
     }
 
+    /**
+     * Parses a type name from a request, ignoring case and surrounding spaces.
+     * Case is folded with Locale.ROOT so that "villa" still parses under a Turkish default locale.
+     *
+     * @throws IllegalArgumentException for an unknown type
+     */
+    public static PropertyType parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown property type: " + name);
+        }
+    }
+
     public String getDisplayName() {
         return displayName;
     }
@@ -0,0 +1,166 @@
+package com.estatehub.estate_hub_backend.geo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Minimal geohash encoding (base32, interleaved longitude/latitude bits).
+ * Used to bucket listings and searches into fixed grid cells.
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] DECODE = new int[128];
+
+    static {
+        java.util.Arrays.fill(DECODE, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            DECODE[BASE32[i]] = i;
+        }
+    }
+
+    /**
+     * Bounding box of a cell, in degrees
+     */
+    public record Cell(String hash, double minLat, double maxLat, double minLng, double maxLng) {
+
+        public double centerLat() { return (minLat + maxLat) / 2; }
+
+        public double centerLng() { return (minLng + maxLng) / 2; }
+
+        public double heightDegrees() { return maxLat - minLat; }
+
+        public double widthDegrees() { return maxLng - minLng; }
+    }
+
+    private GeoHash() {}
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and 12");
+        }
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static Cell decode(String hash) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+        for (int i = 0; i < hash.length(); i++) {
+            char c = hash.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid geohash: " + hash);
+            }
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                boolean set = (value & mask) != 0;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) minLng = mid; else maxLng = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) minLat = mid; else maxLat = mid;
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new Cell(hash, minLat, maxLat, minLng, maxLng);
+    }
+
+    /**
+     * The cell itself followed by its (up to) 8 neighbours at the same precision.
+     * Cells beyond the poles are skipped; longitude wraps around the antimeridian.
+     */
+    public static List<String> withNeighbours(String hash) {
+        Cell cell = decode(hash);
+        List<String> cells = new ArrayList<>(9);
+        cells.add(hash);
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                if (dLat == 0 && dLng == 0) {
+                    continue;
+                }
+                double lat = cell.centerLat() + dLat * cell.heightDegrees();
+                if (lat > 90 || lat < -90) {
+                    continue;
+                }
+                double lng = cell.centerLng() + dLng * cell.widthDegrees();
+                lng = lng > 180 ? lng - 360 : (lng < -180 ? lng + 360 : lng);
+                String neighbour = encode(lat, lng, hash.length());
+                if (!cells.contains(neighbour)) {
+                    cells.add(neighbour);
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Cells of the given precision intersecting the bounding box of a circle
+     */
+    public static Set<String> coveringCells(double latitude, double longitude, double radiusKm, int precision) {
+        double latDelta = radiusKm / 111.32;
+        double lngDelta = radiusKm / (111.32 * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+        double minLng = longitude - lngDelta;
+        double maxLng = longitude + lngDelta;
+
+        Cell sample = decode(encode(latitude, longitude, precision));
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat = Math.min(maxLat, lat + sample.heightDegrees())) {
+            for (double lng = minLng; ; lng = Math.min(maxLng, lng + sample.widthDegrees())) {
+                double wrapped = lng > 180 ? lng - 360 : (lng < -180 ? lng + 360 : lng);
+                cells.add(encode(Math.min(lat, 89.999999), wrapped, precision));
+                if (lng >= maxLng) break;
+            }
+            if (lat >= maxLat) break;
+        }
+        return cells;
+    }
+
+    /**
+     * Great-circle distance in kilometres
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                 + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                 * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 6371.0088 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
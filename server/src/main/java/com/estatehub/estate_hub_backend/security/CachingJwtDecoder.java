@@ -0,0 +1,49 @@
+package com.estatehub.estate_hub_backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * JwtDecoder that verifies each distinct token once: later presentations of the same token are
+ * answered from VerifiedJwtCache until it expires. Rejected tokens are never cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final VerifiedJwtCache cache;
+    private final Clock clock;
+
+    public CachingJwtDecoder(JwtDecoder delegate, VerifiedJwtCache cache, Clock clock) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt jwt = cache.get(key, ignored -> delegate.decode(token));
+        if (jwt.getExpiresAt() != null && !jwt.getExpiresAt().isAfter(clock.instant())) {
+            // Past its expiry: the delegate decides, clock skew included, and rejects it soon enough
+            cache.evict(key);
+            return delegate.decode(token);
+        }
+        return jwt;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
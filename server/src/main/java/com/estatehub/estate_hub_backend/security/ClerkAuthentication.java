@@ -0,0 +1,35 @@
+package com.estatehub.estate_hub_backend.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Authentication of a request carrying a verified Clerk token; its name is the Clerk ID
+ */
+public class ClerkAuthentication extends AbstractAuthenticationToken {
+
+    private final ClerkPrincipal principal;
+    private final Jwt token;
+
+    public ClerkAuthentication(ClerkPrincipal principal, Jwt token) {
+        super(principal.authorities());
+        this.principal = principal;
+        this.token = token;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public ClerkPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Jwt getCredentials() {
+        return token;
+    }
+
+    @Override
+    public String getName() {
+        return principal.clerkId();
+    }
+}
@@ -0,0 +1,52 @@
+package com.estatehub.estate_hub_backend.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerIdCache;
+import com.estatehub.estate_hub_backend.Manager.ManagerRepository;
+import com.estatehub.estate_hub_backend.Tenant.TenantIdCache;
+import com.estatehub.estate_hub_backend.Tenant.TenantRepository;
+
+/**
+ * Turns a verified token into a ClerkAuthentication: the subject is the Clerk ID, resolved to
+ * manager and tenant ids through the node-local caches
+ */
+@Component
+public class ClerkAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final ClerkPrincipalCache principalCache;
+    private final ManagerIdCache managerIdCache;
+    private final TenantIdCache tenantIdCache;
+    private final ManagerRepository managerRepository;
+    private final TenantRepository tenantRepository;
+
+    public ClerkAuthenticationConverter(ClerkPrincipalCache principalCache,
+                                        ManagerIdCache managerIdCache,
+                                        TenantIdCache tenantIdCache,
+                                        ManagerRepository managerRepository,
+                                        TenantRepository tenantRepository) {
+        this.principalCache = principalCache;
+        this.managerIdCache = managerIdCache;
+        this.tenantIdCache = tenantIdCache;
+        this.managerRepository = managerRepository;
+        this.tenantRepository = tenantRepository;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        String clerkId = jwt.getSubject();
+        return new ClerkAuthentication(principalCache.get(clerkId, this::resolve), jwt);
+    }
+
+    /**
+     * Signed in with Clerk but no account yet: a principal without ids, authenticated without a role
+     */
+    private ClerkPrincipal resolve(String clerkId) {
+        Long managerId = managerIdCache.get(clerkId, key -> managerRepository.findIdByClerkId(key).orElse(null));
+        Long tenantId = tenantIdCache.get(clerkId, key -> tenantRepository.findIdByClerkId(key).orElse(null));
+        return new ClerkPrincipal(clerkId, managerId, tenantId);
+    }
+}
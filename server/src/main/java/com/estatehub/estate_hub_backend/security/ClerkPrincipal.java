@@ -0,0 +1,34 @@
+package com.estatehub.estate_hub_backend.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Authenticated Clerk user, with the manager and tenant accounts it owns (null when it has none)
+ */
+public record ClerkPrincipal(String clerkId, Long managerId, Long tenantId) {
+
+    public static final String ROLE_MANAGER = "ROLE_MANAGER";
+    public static final String ROLE_TENANT = "ROLE_TENANT";
+
+    /**
+     * Whether the user owns a manager or tenant account; without one it is signed in but has no role
+     */
+    public boolean hasAccount() {
+        return managerId != null || tenantId != null;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        if (managerId != null) {
+            authorities.add(new SimpleGrantedAuthority(ROLE_MANAGER));
+        }
+        if (tenantId != null) {
+            authorities.add(new SimpleGrantedAuthority(ROLE_TENANT));
+        }
+        return authorities;
+    }
+}
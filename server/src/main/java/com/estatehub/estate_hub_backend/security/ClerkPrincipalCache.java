@@ -0,0 +1,33 @@
+package com.estatehub.estate_hub_backend.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Node-local map of Clerk ID to resolved principal, so a request never reaches the database to
+ * learn who its caller is. Users without an account yet are cached too, as a principal without
+ * ids and under a short TTL; the V17 trigger evicts the entry on every node as soon as the user's
+ * manager or tenant row is created, so a new sign-up or a second role shows up at once.
+ */
+@Component
+public class ClerkPrincipalCache extends LocalCache<String, ClerkPrincipal> {
+
+    // Also named in the V17 account trigger
+    public static final String NAME = "clerk-principal";
+
+    public ClerkPrincipalCache(MeterRegistry meterRegistry,
+                               @Value("${estatehub.cache.clerk-principal.maximum-size:200000}") long maximumSize,
+                               @Value("${estatehub.cache.clerk-principal.ttl:PT5M}") Duration timeToLive,
+                               @Value("${estatehub.cache.clerk-principal.no-account-ttl:PT30S}") Duration noAccountTimeToLive) {
+        super(NAME, maximumSize,
+                (clerkId, principal) -> principal.hasAccount() ? timeToLive : noAccountTimeToLive,
+                Function.identity(), meterRegistry);
+    }
+}
@@ -0,0 +1,113 @@
+package com.estatehub.estate_hub_backend.security;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+/**
+ * Clerk's signing keys, held in memory and refreshed off the request path (see refresh).
+ * A token signed with a key id not yet known triggers one early refresh, for key rotation,
+ * at most once per minimum interval so that forged key ids cannot drive traffic to Clerk.
+ * A failed refresh keeps the keys already held. Only one refresh runs at a time and no lock is
+ * held during the fetch: a caller arriving while one is in flight skips it and uses the keys held.
+ */
+public class JwksKeySource implements JWKSource<SecurityContext> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeySource.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI jwksUri;
+    private final Duration minRefreshInterval;
+    private final HttpClient httpClient;
+    private final Clock clock;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile JWKSet keys = new JWKSet();
+    private volatile Instant lastRefresh = Instant.MIN;
+
+    public JwksKeySource(URI jwksUri, Duration minRefreshInterval, Clock clock) {
+        this.jwksUri = jwksUri;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = selector.select(keys);
+        if (!matches.isEmpty() || !refreshIfStale()) {
+            return matches;
+        }
+        return selector.select(keys);
+    }
+
+    /**
+     * Fetch the key set now, unless a refresh is already running; returns whether it was replaced
+     */
+    public boolean refresh() {
+        return refresh(false);
+    }
+
+    private boolean refreshIfStale() {
+        return !isFresh() && refresh(true);
+    }
+
+    private boolean refresh(boolean onlyIfStale) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            // Another caller may have completed a refresh between the staleness check and here
+            if (onlyIfStale && isFresh()) {
+                return false;
+            }
+            lastRefresh = clock.instant();
+            return fetch();
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private boolean isFresh() {
+        return lastRefresh.plus(minRefreshInterval).isAfter(clock.instant());
+    }
+
+    private boolean fetch() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri).timeout(REQUEST_TIMEOUT).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("JWKS refresh from {} answered {}; keeping {} known keys", jwksUri, response.statusCode(),
+                        keys.size());
+                return false;
+            }
+            keys = JWKSet.parse(response.body());
+            log.debug("Loaded {} signing keys from {}", keys.size(), jwksUri);
+            return true;
+        } catch (IOException | ParseException | IllegalArgumentException e) {
+            log.warn("JWKS refresh from {} failed; keeping {} known keys", jwksUri, keys.size(), e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.estatehub.estate_hub_backend.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps Clerk's signing keys current in the background, starting at startup, so that
+ * verifying a token never waits on Clerk
+ */
+@Component
+public class JwksRefreshJob {
+
+    private final JwksKeySource jwksKeySource;
+
+    public JwksRefreshJob(JwksKeySource jwksKeySource) {
+        this.jwksKeySource = jwksKeySource;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${estatehub.security.jwt.jwks-refresh:PT10M}")
+    public void refreshSigningKeys() {
+        jwksKeySource.refresh();
+    }
+}
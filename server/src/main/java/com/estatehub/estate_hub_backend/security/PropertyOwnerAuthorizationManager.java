@@ -0,0 +1,47 @@
+package com.estatehub.estate_hub_backend.security;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.Property.PropertyRepository;
+
+/**
+ * Grants a route on /api/properties/{id} only to the manager who owns that property. The caller's
+ * manager id comes with its ClerkPrincipal; the owner's is a single-column lookup by primary key.
+ * Unknown properties are denied like foreign ones.
+ */
+@Component
+public class PropertyOwnerAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final PropertyRepository propertyRepository;
+
+    public PropertyOwnerAuthorizationManager(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        if (!(authentication.get() instanceof ClerkAuthentication current) || current.getPrincipal().managerId() == null) {
+            return new AuthorizationDecision(false);
+        }
+        Long propertyId = parseId(context.getVariables().get("id"));
+        boolean owner = propertyId != null && propertyRepository.findManagerIdById(propertyId)
+                .map(managerId -> Objects.equals(managerId, current.getPrincipal().managerId()))
+                .orElse(false);
+        return new AuthorizationDecision(owner);
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return id != null ? Long.valueOf(id) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
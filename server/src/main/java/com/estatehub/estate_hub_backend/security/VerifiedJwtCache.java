@@ -0,0 +1,29 @@
+package com.estatehub.estate_hub_backend.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import com.estatehub.estate_hub_backend.cache.LocalCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Node-local cache of tokens whose signature and claims were already verified, keyed by the
+ * SHA-256 of the token so raw bearer tokens are never used as keys. The TTL is an upper bound:
+ * CachingJwtDecoder never serves an entry past the token's own expiry.
+ */
+@Component
+public class VerifiedJwtCache extends LocalCache<String, Jwt> {
+
+    public static final String NAME = "verified-jwt";
+
+    public VerifiedJwtCache(MeterRegistry meterRegistry,
+                            @Value("${estatehub.cache.verified-jwt.maximum-size:20000}") long maximumSize,
+                            @Value("${estatehub.cache.verified-jwt.ttl:PT5M}") Duration timeToLive) {
+        super(NAME, maximumSize, timeToLive, Function.identity(), meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+-- Transactional outbox: domain events written in the same transaction as the change,
+-- published by OutboxPoller. Partitioned by day so cleanup is DROP TABLE of old partitions;
+-- daily partitions are created ahead of time by OutboxPartitionMaintenance.
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             BIGSERIAL,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    event_type     VARCHAR(64) NOT NULL,
+    payload        JSONB       NOT NULL,
+    created_at     TIMESTAMP   NOT NULL DEFAULT now(),
+    published_at   TIMESTAMP,
+    PRIMARY KEY (created_at, id)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows if maintenance ever falls behind
+CREATE TABLE IF NOT EXISTS outbox_events_default PARTITION OF outbox_events DEFAULT;
+
+-- The poller only ever scans unpublished rows in id order
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished
+    ON outbox_events (id) WHERE published_at IS NULL;
+
+-- First week of daily partitions, so nothing lands in the default partition before
+-- OutboxPartitionMaintenance runs (a day cannot be split off once the default holds rows for it)
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR i IN 0..7 LOOP
+        day := current_date + i;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF outbox_events FOR VALUES FROM (%L) TO (%L)',
+                       'outbox_events_p' || to_char(day, 'YYYYMMDD'), day, day + 1);
+    END LOOP;
+END $$;
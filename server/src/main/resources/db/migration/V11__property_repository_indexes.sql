@@ -0,0 +1,25 @@
+-- PropertyRepository lookups that are not restricted to available listings,
+-- so the partial indexes of V7 cannot serve them. manager_id lookups use V2's index
+-- until V12 replaces it with (manager_id, id).
+CREATE INDEX IF NOT EXISTS idx_properties_location_id
+    ON properties (location_id);
+
+-- findAllByIsAvailable(false, ...): the unavailable side is the large one over time.
+-- Pages are ordered by id, so a page reads its rows in index order instead of
+-- walking the primary key and filtering out the available listings.
+CREATE INDEX IF NOT EXISTS idx_properties_is_available
+    ON properties (is_available, id);
+
+CREATE INDEX IF NOT EXISTS idx_properties_price_per_month
+    ON properties (price_per_month);
+
+-- beds >= ? AND baths >= ?: range on beds, baths filtered from the index
+CREATE INDEX IF NOT EXISTS idx_properties_beds_baths
+    ON properties (beds, baths);
+
+CREATE INDEX IF NOT EXISTS idx_locations_city_state
+    ON locations (city, state);
+
+-- ST_DWithin(coordinates, ST_MakePoint(...)::geography, metres) on the geography column
+CREATE INDEX IF NOT EXISTS idx_locations_coordinates_gist
+    ON locations USING GIST (coordinates);
@@ -0,0 +1,13 @@
+-- Manager portfolio pages: WHERE manager_id = ? [AND filters] ORDER BY <column>, id LIMIT ?
+-- One index per sortable column, so a page is read in order instead of sorting the whole portfolio
+CREATE INDEX IF NOT EXISTS idx_properties_manager_id_id
+    ON properties (manager_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_properties_manager_price
+    ON properties (manager_id, price_per_month, id);
+
+CREATE INDEX IF NOT EXISTS idx_properties_manager_posted_date
+    ON properties (manager_id, posted_date, id);
+
+-- (manager_id, id) serves every lookup the single-column index did
+DROP INDEX IF EXISTS idx_properties_manager_id;
@@ -0,0 +1,3 @@
+-- Expiry job: oldest PENDING applications first, WHERE status = 'PENDING' AND application_date < ?
+CREATE INDEX IF NOT EXISTS idx_applications_pending_date
+    ON applications (application_date, id) WHERE status = 'PENDING';
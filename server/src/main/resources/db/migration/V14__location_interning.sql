@@ -0,0 +1,45 @@
+-- One locations row per building: rows are interned on a normalized address key, computed by
+-- LocationKey in the application. The functions below must stay identical to LocationKey.of.
+-- Only ASCII is folded (A-Z lower-cased, runs of ASCII whitespace collapsed, spaces trimmed):
+-- lower() and \s would follow the database collation and ctype, which Java does not.
+CREATE OR REPLACE FUNCTION location_key_text(value text) RETURNS text
+    LANGUAGE sql IMMUTABLE STRICT AS $$
+    SELECT translate(btrim(regexp_replace(value, '[ \t\n\v\f\r]+', ' ', 'g'), ' '),
+                     'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz')
+$$;
+
+CREATE OR REPLACE FUNCTION location_address_key(address text, city text, state text, country text,
+                                                postal_code text, coordinates geography) RETURNS text
+    LANGUAGE sql IMMUTABLE AS $$
+    SELECT location_key_text(address) || '|'
+        || location_key_text(city) || '|'
+        || location_key_text(state) || '|'
+        || location_key_text(country) || '|'
+        || replace(location_key_text(postal_code), ' ', '') || '|'
+        -- Rows from before coordinates were required may lack them; the application always has them
+        || coalesce(round(ST_Y(coordinates::geometry)::numeric, 5) || ',' || round(ST_X(coordinates::geometry)::numeric, 5), '')
+$$;
+
+ALTER TABLE locations ADD COLUMN IF NOT EXISTS address_key TEXT;
+
+UPDATE locations SET address_key = location_address_key(address, city, state, country, postal_code, coordinates)
+WHERE address_key IS NULL;
+
+-- Fold existing duplicates into the oldest row of each key
+CREATE TEMPORARY TABLE location_merges ON COMMIT DROP AS
+SELECT id, min(id) OVER (PARTITION BY address_key) AS kept_id FROM locations;
+
+DELETE FROM location_merges WHERE id = kept_id;
+
+UPDATE properties p SET location_id = m.kept_id
+FROM location_merges m WHERE p.location_id = m.id;
+
+UPDATE properties_archive p SET location_id = m.kept_id
+FROM location_merges m WHERE p.location_id = m.id;
+
+DELETE FROM locations l USING location_merges m WHERE l.id = m.id;
+
+ALTER TABLE locations ALTER COLUMN address_key SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_locations_address_key
+    ON locations (address_key);
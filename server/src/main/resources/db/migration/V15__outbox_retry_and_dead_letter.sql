@@ -0,0 +1,15 @@
+-- Failed deliveries: counted per row, retried after a delay, set aside after too many attempts
+ALTER TABLE outbox_events
+    ADD COLUMN IF NOT EXISTS attempts         INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS last_failed_at   TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP;
+
+-- The poller scans rows still to deliver in id order; dead letters leave the index
+DROP INDEX IF EXISTS idx_outbox_events_unpublished;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (id) WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+-- Hold-back probe: is there an earlier failing row of the same aggregate?
+CREATE INDEX IF NOT EXISTS idx_outbox_events_failing
+    ON outbox_events (aggregate_type, aggregate_id, id)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL AND attempts > 0;
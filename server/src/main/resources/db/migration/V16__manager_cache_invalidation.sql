@@ -0,0 +1,31 @@
+-- Cached listings (PropertyCache, PropertyRadiusSearchCache) embed their manager's contact details.
+-- Managers are written outside this application, so the database announces the change itself:
+-- one message on CacheInvalidationBus.CHANNEL, in CacheInvalidationMessage format, delivered on commit.
+-- Node "database" matches no application node, so every node applies it, the writer's included.
+CREATE OR REPLACE FUNCTION notify_manager_listings_changed() RETURNS trigger AS $$
+DECLARE
+    listing_ids json;
+BEGIN
+    SELECT json_agg(id::text ORDER BY id) INTO listing_ids FROM properties WHERE manager_id = NEW.id;
+    IF listing_ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+    -- NOTIFY payloads are capped at 8000 bytes: list the ids twice, or flush both caches
+    PERFORM pg_notify('estatehub_cache_invalidation', json_build_object(
+        'node', 'database',
+        'sentAt', (extract(epoch FROM clock_timestamp()) * 1000)::bigint,
+        'keys', CASE WHEN octet_length(listing_ids::text) <= 3800
+                     THEN json_build_object('property', listing_ids, 'property-radius-search', listing_ids)
+                     ELSE '{}'::json END,
+        'flush', CASE WHEN octet_length(listing_ids::text) <= 3800
+                      THEN '[]'::json
+                      ELSE json_build_array('property', 'property-radius-search') END)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_managers_cache_invalidation
+    AFTER UPDATE OF name, email, phone_number ON managers
+    FOR EACH ROW
+    WHEN ((OLD.name, OLD.email, OLD.phone_number) IS DISTINCT FROM (NEW.name, NEW.email, NEW.phone_number))
+    EXECUTE FUNCTION notify_manager_listings_changed();
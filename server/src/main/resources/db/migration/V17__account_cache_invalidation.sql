@@ -0,0 +1,23 @@
+-- ClerkPrincipalCache keeps users without an account as a principal without ids.
+-- Managers and tenants are created outside this application, so the database evicts
+-- the new account's Clerk ID itself, on commit, in the same message format as V16.
+CREATE OR REPLACE FUNCTION notify_account_created() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('estatehub_cache_invalidation', json_build_object(
+        'node', 'database',
+        'sentAt', (extract(epoch FROM clock_timestamp()) * 1000)::bigint,
+        'keys', json_build_object('clerk-principal', json_build_array(NEW.clerk_id)),
+        'flush', '[]'::json)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_managers_account_created
+    AFTER INSERT ON managers
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_account_created();
+
+CREATE TRIGGER trg_tenants_account_created
+    AFTER INSERT ON tenants
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_account_created();
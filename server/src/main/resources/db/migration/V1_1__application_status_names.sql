@@ -0,0 +1,19 @@
+-- Application.status was stored as the ApplicationStatus ordinal until the entity mapped it with
+-- @Enumerated(EnumType.STRING). Rewrite it to the enum names before V2 and V13 index it: version 1.1
+-- runs after the baseline, so databases baselined at version 1 get it too. A column that already
+-- holds names is left alone, and an unknown ordinal fails the migration on NOT NULL.
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'applications' AND column_name = 'status') = 'smallint' THEN
+        -- Hibernate's schema generation adds CHECK (status BETWEEN 0 AND 4) to ordinal columns
+        ALTER TABLE applications DROP CONSTRAINT IF EXISTS applications_status_check;
+        ALTER TABLE applications ALTER COLUMN status TYPE VARCHAR(255) USING (CASE status
+            WHEN 0 THEN 'PENDING'
+            WHEN 1 THEN 'APPROVED'
+            WHEN 2 THEN 'REJECTED'
+            WHEN 3 THEN 'WITHDRAWN'
+            WHEN 4 THEN 'EXPIRED'
+        END);
+    END IF;
+END $$;
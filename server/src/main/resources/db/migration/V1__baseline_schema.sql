@@ -0,0 +1,108 @@
+-- Baseline schema, as it stood before versioned migrations existed.
+-- Databases created by hand are baselined at version 1 and skip this script;
+-- fresh databases get exactly this schema, then V2 onwards.
+CREATE EXTENSION IF NOT EXISTS postgis;
+
+CREATE TABLE IF NOT EXISTS managers (
+    id           BIGSERIAL PRIMARY KEY,
+    clerk_id     VARCHAR(255) NOT NULL UNIQUE,
+    name         VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL UNIQUE,
+    phone_number VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP NOT NULL,
+    updated_at   TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS tenants (
+    id           BIGSERIAL PRIMARY KEY,
+    clerk_id     VARCHAR(255) NOT NULL UNIQUE,
+    name         VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL UNIQUE,
+    phone_number VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP NOT NULL,
+    updated_at   TIMESTAMP
+);
+
+-- Radius queries compare coordinates with ST_MakePoint(...)::geography, in metres
+CREATE TABLE IF NOT EXISTS locations (
+    id          BIGSERIAL PRIMARY KEY,
+    address     VARCHAR(255) NOT NULL,
+    city        VARCHAR(255) NOT NULL,
+    state       VARCHAR(255) NOT NULL,
+    country     VARCHAR(255) NOT NULL,
+    postal_code VARCHAR(255) NOT NULL,
+    coordinates geography(Point, 4326),
+    created_at  TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP
+);
+
+-- property_type is the PropertyType ordinal
+CREATE TABLE IF NOT EXISTS properties (
+    id                  BIGSERIAL PRIMARY KEY,
+    name                VARCHAR(255) NOT NULL,
+    description         TEXT,
+    price_per_month     NUMERIC(10, 2) NOT NULL,
+    security_deposit    NUMERIC(10, 2),
+    application_fee     NUMERIC(10, 2),
+    is_pets_allowed     BOOLEAN,
+    is_parking_included BOOLEAN,
+    beds                INTEGER NOT NULL,
+    baths               REAL NOT NULL,
+    square_feet         INTEGER,
+    property_type       SMALLINT NOT NULL,
+    posted_date         TIMESTAMP NOT NULL,
+    average_rating      NUMERIC(3, 2),
+    number_of_reviews   INTEGER,
+    is_available        BOOLEAN NOT NULL,
+    location_id         BIGINT NOT NULL REFERENCES locations (id),
+    manager_id          BIGINT NOT NULL REFERENCES managers (id),
+    created_at          TIMESTAMP NOT NULL,
+    updated_at          TIMESTAMP
+);
+
+-- Element collections, folded into text[] columns by V5
+CREATE TABLE IF NOT EXISTS property_photos (
+    property_id BIGINT NOT NULL REFERENCES properties (id),
+    photo_url   VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS property_amenities (
+    property_id BIGINT NOT NULL REFERENCES properties (id),
+    amenity     VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS property_highlights (
+    property_id BIGINT NOT NULL REFERENCES properties (id),
+    highlight   VARCHAR(255)
+);
+
+-- status is the ApplicationStatus ordinal, rewritten to the enum names by V1_1
+CREATE TABLE IF NOT EXISTS applications (
+    id               BIGSERIAL PRIMARY KEY,
+    application_date TIMESTAMP NOT NULL,
+    status           SMALLINT NOT NULL,
+    property_id      BIGINT NOT NULL REFERENCES properties (id),
+    tenant_id        BIGINT NOT NULL REFERENCES tenants (id),
+    applicant_name   VARCHAR(255) NOT NULL,
+    applicant_email  VARCHAR(255) NOT NULL,
+    applicant_phone  VARCHAR(255) NOT NULL,
+    message          VARCHAR(255) NOT NULL,
+    lease_id         VARCHAR(255) NOT NULL,
+    created_at       TIMESTAMP NOT NULL,
+    updated_at       TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS leases (
+    id                 BIGSERIAL PRIMARY KEY,
+    start_date         DATE NOT NULL,
+    end_date           DATE NOT NULL,
+    monthly_rent       NUMERIC(10, 2) NOT NULL,
+    security_deposit   NUMERIC(10, 2),
+    lease_status       VARCHAR(255) NOT NULL,
+    lease_document_url VARCHAR(255),
+    property_id        BIGINT NOT NULL REFERENCES properties (id),
+    tenant_id          BIGINT NOT NULL REFERENCES tenants (id),
+    application_id     BIGINT UNIQUE REFERENCES applications (id),
+    created_at         TIMESTAMP NOT NULL,
+    updated_at         TIMESTAMP
+);
@@ -0,0 +1,7 @@
+-- Application inboxes: WHERE property_id = ? AND status = ? ORDER BY application_date DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_applications_property_status_date
+    ON applications (property_id, status, application_date DESC, id DESC);
+
+-- Manager inbox resolves the manager's properties before walking the index above
+CREATE INDEX IF NOT EXISTS idx_properties_manager_id
+    ON properties (manager_id);
@@ -0,0 +1,10 @@
+-- Per-manager dashboard counters, one primary-key read per dashboard load
+CREATE TABLE manager_dashboard_stats (
+    manager_id           BIGINT PRIMARY KEY REFERENCES managers (id) ON DELETE CASCADE,
+    total_properties     INTEGER NOT NULL DEFAULT 0,
+    available_properties INTEGER NOT NULL DEFAULT 0,
+    pending_applications INTEGER NOT NULL DEFAULT 0,
+    active_leases        INTEGER NOT NULL DEFAULT 0,
+    reconciled_at        TIMESTAMP,
+    updated_at           TIMESTAMP
+);
@@ -0,0 +1,23 @@
+-- Reviews, and the running rating aggregate they feed on properties
+CREATE TABLE IF NOT EXISTS property_reviews (
+    id          BIGSERIAL PRIMARY KEY,
+    rating      INTEGER NOT NULL CHECK (rating BETWEEN 1 AND 5),
+    review_text TEXT,
+    is_verified BOOLEAN NOT NULL DEFAULT FALSE,
+    aggregated  BOOLEAN NOT NULL DEFAULT FALSE,
+    property_id BIGINT NOT NULL REFERENCES properties (id),
+    tenant_id   BIGINT NOT NULL REFERENCES tenants (id),
+    lease_id    BIGINT REFERENCES leases (id),
+    created_at  TIMESTAMP NOT NULL,
+    updated_at  TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_property_reviews_property_id
+    ON property_reviews (property_id);
+
+-- Recovery scan for reviews not yet folded into their property
+CREATE INDEX IF NOT EXISTS idx_property_reviews_unaggregated
+    ON property_reviews (id) WHERE NOT aggregated;
+
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+UPDATE properties SET number_of_reviews = 0 WHERE number_of_reviews IS NULL;
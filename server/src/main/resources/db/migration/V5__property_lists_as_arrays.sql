@@ -0,0 +1,29 @@
+-- photoUrls, amenities and highlights move from element-collection tables to text[] columns
+ALTER TABLE properties
+    ADD COLUMN IF NOT EXISTS photo_urls text[],
+    ADD COLUMN IF NOT EXISTS amenities  text[],
+    ADD COLUMN IF NOT EXISTS highlights text[];
+
+-- Collection tables had no order column; physical order is the closest to insertion order
+UPDATE properties p SET photo_urls = c.items
+FROM (SELECT property_id, array_agg(photo_url ORDER BY ctid) AS items
+      FROM property_photos GROUP BY property_id) c
+WHERE c.property_id = p.id;
+
+UPDATE properties p SET amenities = c.items
+FROM (SELECT property_id, array_agg(amenity ORDER BY ctid) AS items
+      FROM property_amenities GROUP BY property_id) c
+WHERE c.property_id = p.id;
+
+UPDATE properties p SET highlights = c.items
+FROM (SELECT property_id, array_agg(highlight ORDER BY ctid) AS items
+      FROM property_highlights GROUP BY property_id) c
+WHERE c.property_id = p.id;
+
+DROP TABLE property_photos;
+DROP TABLE property_amenities;
+DROP TABLE property_highlights;
+
+-- Containment queries: amenities @> ARRAY['pool', 'gym']
+CREATE INDEX IF NOT EXISTS idx_properties_amenities_gin ON properties USING GIN (amenities);
+CREATE INDEX IF NOT EXISTS idx_properties_highlights_gin ON properties USING GIN (highlights);
@@ -0,0 +1,2 @@
+-- Optimistic locking / ETag for partial updates
+ALTER TABLE properties ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
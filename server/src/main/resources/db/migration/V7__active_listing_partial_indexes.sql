@@ -0,0 +1,23 @@
+-- Active-listing read path: most of properties will be unavailable over time,
+-- so the hot indexes only cover rows WHERE is_available
+CREATE INDEX IF NOT EXISTS idx_properties_active_id
+    ON properties (id) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS idx_properties_active_manager_id
+    ON properties (manager_id) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS idx_properties_active_location_id
+    ON properties (location_id) WHERE is_available;
+
+CREATE INDEX IF NOT EXISTS idx_properties_active_price
+    ON properties (price_per_month) WHERE is_available;
+
+-- Archival scan for long-dead listings
+CREATE INDEX IF NOT EXISTS idx_properties_inactive_updated_at
+    ON properties ((COALESCE(updated_at, created_at))) WHERE NOT is_available;
+
+-- Cold storage for archived listings. Same columns as properties, in the same order,
+-- followed by archived_at: a migration adding a column to properties must add it here too.
+CREATE TABLE IF NOT EXISTS properties_archive (LIKE properties INCLUDING DEFAULTS);
+ALTER TABLE properties_archive ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE properties_archive ADD PRIMARY KEY (id);
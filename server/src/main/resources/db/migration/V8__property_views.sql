@@ -0,0 +1,12 @@
+-- Hourly view buckets per listing (UTC), written by PropertyViewCounter's batched upsert.
+-- No foreign key: the flush must stay a single cheap statement and archival must not be blocked.
+CREATE TABLE IF NOT EXISTS property_views (
+    property_id  BIGINT    NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    views        BIGINT    NOT NULL,
+    PRIMARY KEY (property_id, bucket_start)
+);
+
+-- "Most viewed since" scans a time range across all listings
+CREATE INDEX IF NOT EXISTS idx_property_views_bucket_start
+    ON property_views (bucket_start) INCLUDE (property_id, views);
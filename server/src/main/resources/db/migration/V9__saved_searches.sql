@@ -0,0 +1,33 @@
+-- Tenant saved searches; active ones are held in memory by SavedSearchIndex
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id            BIGSERIAL PRIMARY KEY,
+    name          VARCHAR(100) NOT NULL,
+    min_price     NUMERIC(10, 2),
+    max_price     NUMERIC(10, 2),
+    min_beds      INTEGER,
+    max_beds      INTEGER,
+    city          VARCHAR(100),
+    property_type VARCHAR(20),
+    latitude      DOUBLE PRECISION,
+    longitude     DOUBLE PRECISION,
+    radius_km     DOUBLE PRECISION,
+    is_active     BOOLEAN NOT NULL DEFAULT TRUE,
+    tenant_id     BIGINT NOT NULL REFERENCES tenants (id),
+    created_at    TIMESTAMP NOT NULL,
+    updated_at    TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_searches_tenant_active
+    ON saved_searches (tenant_id, created_at DESC) WHERE is_active;
+
+-- Listing alerts, written in batches by SavedSearchMatchRecorder.
+-- No foreign key on property_id so archival is not blocked.
+CREATE TABLE IF NOT EXISTS saved_search_matches (
+    saved_search_id BIGINT    NOT NULL REFERENCES saved_searches (id),
+    property_id     BIGINT    NOT NULL,
+    matched_at      TIMESTAMP NOT NULL,
+    PRIMARY KEY (saved_search_id, property_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_saved_search_matches_matched_at
+    ON saved_search_matches (saved_search_id, matched_at DESC);
@@ -0,0 +1,57 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Request handling of ApplicationController; access rules are covered by SecurityConfigTest
+ */
+@WebMvcTest(ApplicationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ApplicationControllerTest.Metrics.class)
+class ApplicationControllerTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ApplicationService applicationService;
+    @MockitoBean
+    private ClerkAuthenticationConverter authenticationConverter;
+
+    @Test
+    void answersBadRequestForAMalformedCursor() throws Exception {
+        when(applicationService.getManagerInbox(eq("user_manager"), any(), eq("yesterday_42"), anyInt()))
+                .thenThrow(new IllegalArgumentException("Invalid inbox cursor: yesterday_42"));
+
+        mockMvc.perform(get("/api/applications/manager/user_manager").param("cursor", "yesterday_42"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,68 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+class ApplicationExpiryJobTest {
+
+    private final ApplicationStatusStore statusStore = mock(ApplicationStatusStore.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<Object> published = new ArrayList<>();
+
+    @Test
+    void expiresChunkByChunkUntilAChunkComesBackShort() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(statusStore.expireChunk(any(), eq(2)))
+                .thenReturn(rows(1, 2))
+                .thenReturn(rows(3, 4))
+                .thenReturn(rows(5, 5));
+        ApplicationExpiryJob job = new ApplicationExpiryJob(statusStore, new TransactionTemplate(transactionManager),
+                published::add, Duration.ofDays(30), 2);
+
+        job.expireStaleApplications();
+
+        verify(statusStore, times(3)).expireChunk(any(), eq(2));
+        // One transaction and one event per chunk
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(3, published.size());
+        BulkApplicationStatusChangedEvent last = (BulkApplicationStatusChangedEvent) published.get(2);
+        assertEquals(List.of(new ApplicationStatusChangedEvent(5L, 50L, 7L, ApplicationStatus.PENDING, ApplicationStatus.EXPIRED)),
+                last.changes());
+    }
+
+    @Test
+    void stopsAfterAnEmptyChunk() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(statusStore.expireChunk(any(), eq(2))).thenReturn(List.of());
+        ApplicationExpiryJob job = new ApplicationExpiryJob(statusStore, new TransactionTemplate(transactionManager),
+                published::add, Duration.ofDays(30), 2);
+
+        job.expireStaleApplications();
+
+        verify(statusStore, times(1)).expireChunk(any(), eq(2));
+        assertEquals(List.of(), published);
+    }
+
+    private static List<ApplicationStatusStore.Transitioned> rows(long firstId, long lastId) {
+        return LongStream.rangeClosed(firstId, lastId)
+                .mapToObj(id -> new ApplicationStatusStore.Transitioned(id, id * 10, 7L))
+                .toList();
+    }
+}
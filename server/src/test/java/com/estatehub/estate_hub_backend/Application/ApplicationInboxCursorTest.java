@@ -0,0 +1,39 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class ApplicationInboxCursorTest {
+
+    @Test
+    void encodedCursorsParseBackToTheSamePosition() {
+        for (LocalDateTime date : new LocalDateTime[] {
+                LocalDateTime.of(2026, 10, 19, 12, 0),
+                LocalDateTime.of(2026, 10, 19, 12, 0, 7),
+                LocalDateTime.of(2026, 10, 19, 12, 0, 7, 123_456_000) }) {
+            ApplicationInboxCursor cursor = new ApplicationInboxCursor(date, 42L);
+
+            assertEquals(cursor, ApplicationInboxCursor.parse(cursor.encode()));
+        }
+    }
+
+    @Test
+    void noCursorStartsBeforeTheFirstRow() {
+        assertSame(ApplicationInboxCursor.START, ApplicationInboxCursor.parse(null));
+        assertSame(ApplicationInboxCursor.START, ApplicationInboxCursor.parse(" "));
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String cursor : new String[] { "42", "_42", "yesterday_42", "2026-10-19T12:00_x", "2026-10-19T12:00_" }) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> ApplicationInboxCursor.parse(cursor));
+            assertEquals("Invalid inbox cursor: " + cursor, e.getMessage());
+        }
+    }
+}
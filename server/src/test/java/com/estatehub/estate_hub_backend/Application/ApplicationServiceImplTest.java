@@ -0,0 +1,118 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import com.estatehub.estate_hub_backend.Application.BulkStatusResult.Outcome;
+import com.estatehub.estate_hub_backend.Manager.ManagerService;
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+class ApplicationServiceImplTest {
+
+    private static final Long MANAGER_ID = 7L;
+
+    private final ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+    private final ApplicationStatusStore statusStore = mock(ApplicationStatusStore.class);
+    private final ManagerService managerService = mock(ManagerService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ApplicationServiceImpl service = new ApplicationServiceImpl(
+            applicationRepository, statusStore, managerService, eventPublisher);
+
+    @Test
+    void reportsAnOutcomePerRequestedIdInRequestOrder() {
+        when(managerService.findManagerIdByClerkId("user_manager")).thenReturn(MANAGER_ID);
+        when(statusStore.transitionPending(MANAGER_ID, List.of(3L, 1L, 2L, 9L), ApplicationStatus.APPROVED))
+                .thenReturn(List.of(new ApplicationStatusStore.Transitioned(1L, 40L, MANAGER_ID)));
+        // 9 belongs to another manager: the store's ownership filter leaves it out, like an unknown id
+        when(statusStore.findCurrentStatuses(MANAGER_ID, List.of(3L, 2L, 9L)))
+                .thenReturn(List.of(new ApplicationStatusStore.CurrentStatus(2L, ApplicationStatus.REJECTED)));
+
+        List<BulkStatusResult> results = service.transitionApplications(
+                "user_manager", List.of(3L, 1L, 2L, 1L, 9L), ApplicationStatus.APPROVED);
+
+        assertEquals(List.of(
+                new BulkStatusResult(3L, Outcome.NOT_FOUND, null),
+                new BulkStatusResult(1L, Outcome.UPDATED, ApplicationStatus.APPROVED),
+                new BulkStatusResult(2L, Outcome.NOT_PENDING, ApplicationStatus.REJECTED),
+                new BulkStatusResult(9L, Outcome.NOT_FOUND, null)), results);
+    }
+
+    @Test
+    void publishesOneEventForTheWholeTransition() {
+        when(managerService.findManagerIdByClerkId("user_manager")).thenReturn(MANAGER_ID);
+        when(statusStore.transitionPending(MANAGER_ID, List.of(1L, 2L), ApplicationStatus.REJECTED)).thenReturn(List.of(
+                new ApplicationStatusStore.Transitioned(1L, 40L, MANAGER_ID),
+                new ApplicationStatusStore.Transitioned(2L, 41L, MANAGER_ID)));
+
+        service.transitionApplications("user_manager", List.of(1L, 2L), ApplicationStatus.REJECTED);
+
+        verify(eventPublisher).publishEvent(new BulkApplicationStatusChangedEvent(List.of(
+                new ApplicationStatusChangedEvent(1L, 40L, MANAGER_ID, ApplicationStatus.PENDING, ApplicationStatus.REJECTED),
+                new ApplicationStatusChangedEvent(2L, 41L, MANAGER_ID, ApplicationStatus.PENDING, ApplicationStatus.REJECTED))));
+        verify(statusStore, never()).findCurrentStatuses(any(), any());
+    }
+
+    @Test
+    void publishesNothingWhenNothingMoved() {
+        when(managerService.findManagerIdByClerkId("user_manager")).thenReturn(MANAGER_ID);
+        when(statusStore.transitionPending(MANAGER_ID, List.of(1L), ApplicationStatus.APPROVED)).thenReturn(List.of());
+        when(statusStore.findCurrentStatuses(MANAGER_ID, List.of(1L))).thenReturn(List.of());
+
+        service.transitionApplications("user_manager", List.of(1L), ApplicationStatus.APPROVED);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void rejectsTargetsOtherThanApprovalOrRejection() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.transitionApplications("user_manager", List.of(1L), ApplicationStatus.EXPIRED));
+        verifyNoInteractions(statusStore);
+    }
+
+    @Test
+    void aFullPageAndOneMoreRowHandsOutTheLastRowAsCursor() {
+        LocalDateTime date = LocalDateTime.of(2026, 10, 19, 12, 0);
+        when(applicationRepository.findManagerInbox("user_manager", ApplicationStatus.PENDING,
+                ApplicationInboxCursor.START.applicationDate(), ApplicationInboxCursor.START.id(), PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(9L, date), summary(8L, date), summary(7L, date.minusDays(1))));
+
+        ApplicationInboxPage page = service.getManagerInbox("user_manager", ApplicationStatus.PENDING, null, 2);
+
+        assertEquals(List.of(9L, 8L), page.content().stream().map(ApplicationSummary::id).toList());
+        assertEquals(new ApplicationInboxCursor(date, 8L), ApplicationInboxCursor.parse(page.nextCursor()));
+    }
+
+    @Test
+    void theLastPageHasNoCursor() {
+        LocalDateTime date = LocalDateTime.of(2026, 10, 19, 12, 0);
+        ApplicationInboxCursor after = new ApplicationInboxCursor(date, 8L);
+        when(applicationRepository.findManagerInbox("user_manager", ApplicationStatus.PENDING,
+                date, 8L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(7L, date.minusDays(1)), summary(6L, date.minusDays(2))));
+
+        ApplicationInboxPage page = service.getManagerInbox("user_manager", ApplicationStatus.PENDING, after.encode(), 2);
+
+        assertEquals(List.of(7L, 6L), page.content().stream().map(ApplicationSummary::id).toList());
+        assertNull(page.nextCursor());
+    }
+
+    private static ApplicationSummary summary(Long id, LocalDateTime applicationDate) {
+        return new ApplicationSummary(id, applicationDate, ApplicationStatus.PENDING,
+                "Tenant", "tenant@example.com", "555-0101", 40L, "Loft", 3L);
+    }
+}
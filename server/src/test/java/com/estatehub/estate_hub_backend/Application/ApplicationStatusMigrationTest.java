@@ -0,0 +1,66 @@
+package com.estatehub.estate_hub_backend.Application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * V1_1: applications written while status was stored as an ordinal keep their status once the
+ * column holds enum names, and the later status indexes migrate on top of it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ApplicationStatusMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SEED = """
+            INSERT INTO managers (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'manager_1', 'Manager', 'manager@example.com', '555-0100', now());
+            INSERT INTO tenants (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'tenant_1', 'Tenant', 'tenant@example.com', '555-0101', now());
+            INSERT INTO locations (id, address, city, state, country, postal_code, created_at)
+            VALUES (1, '1 Main Street', 'Montreal', 'QC', 'Canada', 'H2X 1Y1', now());
+            INSERT INTO properties (id, name, price_per_month, beds, baths, property_type, posted_date,
+                                    is_available, location_id, manager_id, created_at)
+            VALUES (1, 'Loft', 1200, 1, 1, 0, now(), true, 1, 1, now());
+            INSERT INTO applications (id, application_date, status, property_id, tenant_id, applicant_name,
+                                      applicant_email, applicant_phone, message, lease_id, created_at)
+            SELECT s, now(), s - 1, 1, 1, 'Tenant', 'tenant@example.com', '+15550101', 'Hello', 'none', now()
+            FROM generate_series(1, 5) AS s;
+            """;
+
+    @Test
+    void convertsOrdinalsToEnumNames() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        flyway("1").migrate();
+        jdbcTemplate.execute(SEED);
+
+        flyway("latest").migrate();
+
+        assertEquals(List.of("PENDING", "APPROVED", "REJECTED", "WITHDRAWN", "EXPIRED"),
+                jdbcTemplate.queryForList("SELECT status FROM applications ORDER BY id", String.class));
+        assertTrue(Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_applications_pending_date')",
+                Boolean.class)));
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .target(target)
+                .load();
+    }
+}
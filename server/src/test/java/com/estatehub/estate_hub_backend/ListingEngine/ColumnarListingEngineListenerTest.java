@@ -0,0 +1,82 @@
+package com.estatehub.estate_hub_backend.ListingEngine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.estatehub.estate_hub_backend.Property.PropertyFilter;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ColumnarListingEngineListenerTest {
+
+    private static final PropertyFilter ANY = new PropertyFilter(null, null, null, null, null, null);
+
+    private final ColumnarListingEngine engine = new ColumnarListingEngine(new SimpleMeterRegistry());
+    private final ListingSnapshotStore store = mock(ListingSnapshotStore.class);
+    private final ColumnarListingEngineListener listener = new ColumnarListingEngineListener(engine, store);
+
+    @Test
+    void searchesFallBackToTheDatabaseUntilLoaded() {
+        assertFalse(engine.supports(PageRequest.of(0, 20)));
+
+        listener.load();
+
+        assertTrue(engine.supports(PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void writesCommittedDuringTheLoadAreAppliedAfterIt() {
+        // The load streams listing 1 as it was, while 1 is repriced, 2 created and 3 withdrawn meanwhile
+        doAnswer(invocation -> {
+            Consumer<ListingSnapshot> consumer = invocation.getArgument(0);
+            consumer.accept(listing(1, "1000.00"));
+            listener.onPropertyChanged(new PropertyChangedEvent(1L, 7L, ChangeType.UPDATED));
+            listener.onPropertyChanged(new PropertyChangedEvent(2L, 7L, ChangeType.CREATED));
+            consumer.accept(listing(3, "900.00"));
+            listener.onPropertyChanged(new PropertyChangedEvent(3L, 7L, ChangeType.UNAVAILABLE));
+            return null;
+        }).when(store).forEachAvailable(any());
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, "1100.00")));
+        when(store.findById(2L)).thenReturn(Optional.of(listing(2, "1500.00")));
+        when(store.findById(3L)).thenReturn(Optional.empty());
+
+        listener.load();
+
+        assertEquals(List.of(1L, 2L), engine.search(ANY, PageRequest.of(0, 20)).getContent());
+        PropertyFilter atLeast1100 = new PropertyFilter(new BigDecimal("1100.00"), null, null, null, null, null);
+        assertEquals(List.of(1L, 2L), engine.search(atLeast1100, PageRequest.of(0, 20)).getContent());
+    }
+
+    @Test
+    void writesAfterTheLoadApplyDirectly() {
+        listener.load();
+        when(store.findById(4L)).thenReturn(Optional.of(listing(4, "800.00")));
+
+        listener.onPropertyChanged(new PropertyChangedEvent(4L, 7L, ChangeType.CREATED));
+
+        assertEquals(List.of(4L), engine.search(ANY, PageRequest.of(0, 20)).getContent());
+    }
+
+    private static ListingSnapshot listing(long id, String price) {
+        return new ListingSnapshot(id, 7L, new BigDecimal(price), 2, 1f, 800, PropertyType.APARTMENT, true,
+                45.5, -73.6, "Montreal", List.of());
+    }
+}
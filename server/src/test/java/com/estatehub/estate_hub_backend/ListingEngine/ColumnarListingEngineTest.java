@@ -0,0 +1,126 @@
+package com.estatehub.estate_hub_backend.ListingEngine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.PropertyFilter;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ColumnarListingEngineTest {
+
+    private static final String[] CITIES = {"Montreal", "Laval", "Quebec", "Gatineau"};
+
+    @Test
+    void searchAgreesWithFilteringEveryListingThroughWrites() {
+        Random random = new Random(3);
+        ColumnarListingEngine engine = new ColumnarListingEngine(new SimpleMeterRegistry());
+        Map<Long, ListingSnapshot> listings = new LinkedHashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            listings.put(id, randomListing(id, random));
+        }
+        engine.load(listings.values());
+
+        // Enough writes to go through several delta rebuilds
+        for (int i = 0; i < 1500; i++) {
+            long id = 1 + random.nextInt(2500);
+            if (random.nextInt(3) == 0) {
+                listings.remove(id);
+                engine.remove(id);
+            } else {
+                ListingSnapshot listing = randomListing(id, random);
+                listings.put(id, listing);
+                engine.upsert(listing);
+            }
+            if (i % 100 == 0) {
+                assertSearchesAgree(engine, listings, random);
+            }
+        }
+        assertEquals(listings.size(), engine.memoryReport().listings());
+    }
+
+    @Test
+    void pagesByPriceDescending() {
+        ColumnarListingEngine engine = new ColumnarListingEngine(new SimpleMeterRegistry());
+        engine.load(List.of(listing(1, "1200.00", 2, 1f, "Laval"), listing(2, "950.50", 1, 1f, "Laval"),
+                listing(3, "2100.00", 3, 2f, "Laval"), listing(4, "1500.00", 2, 1.5f, "Montreal")));
+
+        PropertyFilter inLaval = new PropertyFilter(null, null, null, null, null, "Laval");
+        Page<Long> first = engine.search(inLaval, PageRequest.of(0, 2, Sort.by("pricePerMonth").descending()));
+        Page<Long> second = engine.search(inLaval, PageRequest.of(1, 2, Sort.by("pricePerMonth").descending()));
+
+        assertEquals(List.of(3L, 1L), first.getContent());
+        assertEquals(List.of(2L), second.getContent());
+        assertEquals(3, first.getTotalElements());
+    }
+
+    private static void assertSearchesAgree(ColumnarListingEngine engine, Map<Long, ListingSnapshot> listings, Random random) {
+        for (int q = 0; q < 50; q++) {
+            PropertyFilter filter = randomFilter(random);
+            boolean byPrice = random.nextBoolean();
+            Sort sort = byPrice ? Sort.by("pricePerMonth").ascending() : Sort.by("id").descending();
+
+            List<ListingSnapshot> expected = new ArrayList<>();
+            for (ListingSnapshot listing : listings.values()) {
+                if (matches(filter, listing)) {
+                    expected.add(listing);
+                }
+            }
+            Page<Long> page = engine.search(filter, PageRequest.of(0, 5000, sort));
+
+            assertEquals(expected.size(), page.getTotalElements());
+            if (byPrice) {
+                List<BigDecimal> prices = page.getContent().stream().map(id -> listings.get(id).pricePerMonth()).toList();
+                assertEquals(expected.stream().map(ListingSnapshot::pricePerMonth).sorted().toList(), prices);
+            } else {
+                assertEquals(expected.stream().map(ListingSnapshot::id).sorted(Comparator.reverseOrder()).toList(),
+                        page.getContent());
+            }
+        }
+    }
+
+    private static boolean matches(PropertyFilter filter, ListingSnapshot listing) {
+        return (filter.minPrice() == null || listing.pricePerMonth().compareTo(filter.minPrice()) >= 0)
+                && (filter.maxPrice() == null || listing.pricePerMonth().compareTo(filter.maxPrice()) <= 0)
+                && (filter.minBeds() == null || listing.beds() >= filter.minBeds())
+                && (filter.minBaths() == null || listing.baths() >= filter.minBaths())
+                && (filter.propertyType() == null || listing.propertyType() == filter.propertyType())
+                && (filter.city() == null || listing.city().equals(filter.city()));
+    }
+
+    private static PropertyFilter randomFilter(Random random) {
+        BigDecimal minPrice = random.nextBoolean() ? null : BigDecimal.valueOf(500 + random.nextInt(150000), 2);
+        BigDecimal maxPrice = random.nextBoolean() ? null : BigDecimal.valueOf(100000 + random.nextInt(300000), 2);
+        return new PropertyFilter(minPrice, maxPrice,
+                random.nextBoolean() ? null : random.nextInt(5),
+                random.nextBoolean() ? null : 1 + random.nextInt(5) * 0.5f,
+                random.nextInt(3) == 0 ? PropertyType.values()[random.nextInt(3)] : null,
+                random.nextInt(3) == 0 ? CITIES[random.nextInt(CITIES.length)] : null);
+    }
+
+    private static ListingSnapshot randomListing(long id, Random random) {
+        return new ListingSnapshot(id, 1L, BigDecimal.valueOf(50000 + random.nextInt(350000), 2),
+                random.nextInt(6), 1 + random.nextInt(6) * 0.5f, 400 + random.nextInt(2000),
+                PropertyType.values()[random.nextInt(3)], true, 45.5, -73.6,
+                CITIES[random.nextInt(CITIES.length)], List.of());
+    }
+
+    private static ListingSnapshot listing(long id, String price, int beds, float baths, String city) {
+        return new ListingSnapshot(id, 1L, new BigDecimal(price), beds, baths, 800, PropertyType.APARTMENT, true,
+                45.5, -73.6, city, List.of());
+    }
+}
@@ -0,0 +1,274 @@
+package com.estatehub.estate_hub_backend.ListingStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+class ListingStreamBroadcasterTest {
+
+    private static final ListingSubscriber.Filter MONTREAL = ListingSubscriber.Filter.viewport(45.0, 46.0, -74.0, -73.0);
+    private static final ListingSubscriber.Filter QUEBEC = ListingSubscriber.Filter.viewport(46.5, 47.0, -71.5, -71.0);
+    private static final ListingSubscriber.Filter TORONTO = ListingSubscriber.Filter.viewport(43.5, 44.0, -79.7, -79.2);
+
+    private final ListingSnapshotStore store = mock(ListingSnapshotStore.class);
+    private final ListingStreamBroadcaster broadcaster = new ListingStreamBroadcaster(store, Duration.ofMinutes(30), 4, 2);
+
+    @AfterEach
+    void shutdown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void aChangeReachesOnlyTheViewportsContainingIt() throws Exception {
+        RecordingEmitter montreal = subscribe(MONTREAL);
+        RecordingEmitter toronto = subscribe(TORONTO);
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, 45.5, -73.6, true)));
+
+        broadcaster.dispatch(new PropertyChangedEvent(1L, 7L, ChangeType.UPDATED));
+
+        ListingChangeDto change = montreal.nextChange();
+        assertEquals(1L, change.propertyId());
+        assertEquals(new BigDecimal("1200.00"), change.pricePerMonth());
+        toronto.assertNothingSent();
+    }
+
+    @Test
+    void aViewportCrossingTheAntimeridianMatchesBothSides() throws Exception {
+        RecordingEmitter pacific = subscribe(ListingSubscriber.Filter.viewport(-20.0, -10.0, 170.0, -170.0));
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, -15.0, 175.0, true)));
+        when(store.findById(2L)).thenReturn(Optional.of(listing(2, -15.0, -175.0, true)));
+        when(store.findById(3L)).thenReturn(Optional.of(listing(3, -15.0, 0.0, true)));
+
+        broadcaster.dispatch(new PropertyChangedEvent(1L, 7L, ChangeType.CREATED));
+        broadcaster.dispatch(new PropertyChangedEvent(2L, 7L, ChangeType.CREATED));
+        broadcaster.dispatch(new PropertyChangedEvent(3L, 7L, ChangeType.CREATED));
+
+        assertEquals(1L, pacific.nextChange().propertyId());
+        assertEquals(2L, pacific.nextChange().propertyId());
+        pacific.assertNothingSent();
+    }
+
+    @Test
+    void aManagerHearsAboutAllOfTheirListingsAndNoOthers() throws Exception {
+        RecordingEmitter manager = subscribe(ListingSubscriber.Filter.manager(7L));
+        RecordingEmitter otherManager = subscribe(ListingSubscriber.Filter.manager(8L));
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, 45.5, -73.6, true)));
+        when(store.findById(2L)).thenReturn(Optional.empty());
+
+        broadcaster.dispatch(new PropertyChangedEvent(1L, 7L, ChangeType.UPDATED));
+        broadcaster.dispatch(new PropertyChangedEvent(2L, 7L, ChangeType.UNAVAILABLE));
+
+        assertEquals(1L, manager.nextChange().propertyId());
+        assertEquals(2L, manager.nextChange().propertyId());
+        otherManager.assertNothingSent();
+    }
+
+    @Test
+    void heartbeatsReachEverySubscriber() throws Exception {
+        RecordingEmitter montreal = subscribe(MONTREAL);
+        RecordingEmitter manager = subscribe(ListingSubscriber.Filter.manager(7L));
+
+        broadcaster.heartbeat();
+
+        assertSame(RecordingEmitter.HEARTBEAT, montreal.next());
+        assertSame(RecordingEmitter.HEARTBEAT, manager.next());
+    }
+
+    @Test
+    void aDeadConnectionIsDroppedOnTheNextSend() throws Exception {
+        RecordingEmitter alive = subscribe(MONTREAL);
+        RecordingEmitter dead = subscribe(ListingSubscriber.Filter.manager(7L));
+        dead.breakConnection();
+        assertEquals(2, broadcaster.subscriberCount());
+
+        broadcaster.heartbeat();
+
+        assertSame(RecordingEmitter.HEARTBEAT, alive.next());
+        awaitSubscriberCount(1);
+    }
+
+    @Test
+    void aSubscriberThatFallsBehindIsDisconnected() throws Exception {
+        // The sender is stuck on the first message, so the buffer of 4 overflows
+        BlockingEmitter slow = new BlockingEmitter();
+        broadcaster.subscribe(MONTREAL, slow);
+        for (int i = 0; i < 10; i++) {
+            broadcaster.heartbeat();
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+
+        // Other subscribers keep being served while the slow one's sender is still stuck
+        RecordingEmitter other = subscribe(TORONTO);
+        broadcaster.heartbeat();
+        assertSame(RecordingEmitter.HEARTBEAT, other.next());
+        slow.release();
+    }
+
+    @Test
+    void aListingMovingOutOfAViewportIsStillSentToIt() throws Exception {
+        loadPositions(listing(1, 45.5, -73.6, true));
+        RecordingEmitter montreal = subscribe(MONTREAL);
+        RecordingEmitter quebec = subscribe(QUEBEC);
+        RecordingEmitter toronto = subscribe(TORONTO);
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, 46.8, -71.2, true)));
+
+        broadcaster.dispatch(new PropertyChangedEvent(1L, 7L, ChangeType.UPDATED));
+
+        assertEquals(46.8, montreal.nextChange().latitude());
+        assertEquals(46.8, quebec.nextChange().latitude());
+        toronto.assertNothingSent();
+    }
+
+    @Test
+    void aWithdrawnOrDeletedListingIsSentToTheViewportThatShowedIt() throws Exception {
+        loadPositions(listing(1, 45.5, -73.6, true), listing(2, 45.6, -73.5, true));
+        RecordingEmitter montreal = subscribe(MONTREAL);
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, 45.5, -73.6, false)));
+        when(store.findById(2L)).thenReturn(Optional.empty());
+
+        broadcaster.dispatch(new PropertyChangedEvent(1L, 7L, ChangeType.UNAVAILABLE));
+        broadcaster.dispatch(new PropertyChangedEvent(2L, 7L, ChangeType.UNAVAILABLE));
+
+        assertEquals(Boolean.FALSE, montreal.nextChange().isAvailable());
+        ListingChangeDto deleted = montreal.nextChange();
+        assertEquals(2L, deleted.propertyId());
+        assertNull(deleted.latitude());
+    }
+
+    @Test
+    void positionsFollowDispatchedChanges() throws Exception {
+        RecordingEmitter montreal = subscribe(MONTREAL);
+        when(store.findById(3L))
+                .thenReturn(Optional.of(listing(3, 45.5, -73.6, true)))
+                .thenReturn(Optional.of(listing(3, 43.7, -79.4, true)));
+
+        // Created inside the viewport, then moved out of it: both changes reach it
+        broadcaster.dispatch(new PropertyChangedEvent(3L, 7L, ChangeType.CREATED));
+        broadcaster.dispatch(new PropertyChangedEvent(3L, 7L, ChangeType.UPDATED));
+
+        assertEquals(45.5, montreal.nextChange().latitude());
+        assertEquals(43.7, montreal.nextChange().latitude());
+    }
+
+    private void awaitSubscriberCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, broadcaster.subscriberCount());
+    }
+
+    private void loadPositions(ListingSnapshot... listings) {
+        doAnswer(invocation -> {
+            Consumer<ListingSnapshot> consumer = invocation.getArgument(0);
+            for (ListingSnapshot listing : listings) {
+                consumer.accept(listing);
+            }
+            return null;
+        }).when(store).forEachAvailable(any());
+        broadcaster.rememberPositions();
+    }
+
+    private RecordingEmitter subscribe(ListingSubscriber.Filter filter) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(filter, emitter);
+        return emitter;
+    }
+
+    private static ListingSnapshot listing(long id, double latitude, double longitude, boolean available) {
+        return new ListingSnapshot(id, 7L, new BigDecimal("1200.00"), 2, 1f, 800, PropertyType.APARTMENT, available,
+                latitude, longitude, "Montreal", List.of());
+    }
+
+    /**
+     * Holds the sender on its first message until released
+     */
+    private static final class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    /**
+     * Records what the broadcaster sends instead of writing to a response
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        static final Object HEARTBEAT = new Object();
+
+        private final BlockingQueue<Object> sent = new LinkedBlockingQueue<>();
+        private volatile boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Client went away");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof ListingChangeDto change) {
+                    sent.add(change);
+                } else if (part.getData() instanceof String text && text.startsWith(":heartbeat")) {
+                    sent.add(HEARTBEAT);
+                }
+            }
+        }
+
+        void breakConnection() {
+            broken = true;
+        }
+
+        Object next() throws InterruptedException {
+            Object next = sent.poll(5, TimeUnit.SECONDS);
+            if (next == null) {
+                throw new AssertionError("Nothing was sent");
+            }
+            return next;
+        }
+
+        ListingChangeDto nextChange() throws InterruptedException {
+            return (ListingChangeDto) next();
+        }
+
+        void assertNothingSent() throws InterruptedException {
+            assertNull(sent.poll(200, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.estatehub.estate_hub_backend.ListingStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerService;
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Request handling of ListingStreamController; access rules are covered by SecurityConfigTest
+ */
+@WebMvcTest(ListingStreamController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(ListingStreamControllerTest.Metrics.class)
+class ListingStreamControllerTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ListingStreamBroadcaster listingStreamBroadcaster;
+    @MockitoBean
+    private ManagerService managerService;
+    @MockitoBean
+    private ClerkAuthenticationConverter authenticationConverter;
+
+    @Test
+    void answersBadRequestWithoutAViewportOrManager() throws Exception {
+        mockMvc.perform(get("/api/properties/stream").param("minLat", "45.0").param("maxLat", "46.0"))
+                .andExpect(status().isBadRequest());
+
+        verify(listingStreamBroadcaster, never()).subscribe(any());
+    }
+
+    @Test
+    void answersBadRequestForAnInvertedViewport() throws Exception {
+        mockMvc.perform(get("/api/properties/stream")
+                        .param("minLat", "46.0").param("maxLat", "45.0")
+                        .param("minLng", "-74.0").param("maxLng", "-73.0"))
+                .andExpect(status().isBadRequest());
+
+        verify(listingStreamBroadcaster, never()).subscribe(any());
+    }
+
+    @Test
+    void answersBadRequestForOutOfRangeCoordinates() throws Exception {
+        mockMvc.perform(get("/api/properties/stream")
+                        .param("minLat", "-91.0").param("maxLat", "45.0")
+                        .param("minLng", "-74.0").param("maxLng", "-73.0"))
+                .andExpect(status().isBadRequest());
+    }
+}
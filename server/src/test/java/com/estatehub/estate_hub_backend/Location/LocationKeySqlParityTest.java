@@ -0,0 +1,71 @@
+package com.estatehub.estate_hub_backend.Location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * LocationKey.of and V14's location_address_key must agree on every input, or the interning
+ * migration and the application key the same building differently.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LocationKeySqlParityTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final GeometryFactory WGS84 = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @Test
+    void sqlAndJavaComputeTheSameKey() {
+        List<Location> locations = List.of(
+                location("1200  Rue Sainte-Catherine ", "Montréal", "QC", "Canada", "H3B 1K9", 45.501234, -73.567891),
+                location("\t1200 rue\r\nSainte-Catherine\f", " MONTRÉAL\u000B", "qc", "canada", "h3b\t1k9", 45.5012341, -73.5678912),
+                location("1 RUE D'İSTANBUL ", "QUÉBEC", "QC", "Canada", "G1R 4P5", 46.81, -71.21),
+                location("Straße 5 ", "MÜNCHEN", "BY", "DEUTSCHLAND", "80331", 48.137154, 11.576124),
+                location("1 Bay", "Tofino", "BC", "Canada", "V0R 2Z0", -0.000005, 0.000004),
+                location(" ", "x", "y", "z", " ", 0, 0));
+
+        for (Location location : locations) {
+            String sqlKey = jdbcTemplate.queryForObject("""
+                    SELECT location_address_key(?, ?, ?, ?, ?, ST_SetSRID(ST_MakePoint(?, ?), 4326)::geography)
+                    """, String.class,
+                    location.getAddress(), location.getCity(), location.getState(), location.getCountry(),
+                    location.getPostalCode(), location.getCoordinates().getX(), location.getCoordinates().getY());
+
+            assertEquals(LocationKey.of(location), sqlKey);
+        }
+    }
+
+    private static Location location(String address, String city, String state, String country, String postalCode,
+                                     double latitude, double longitude) {
+        return new Location(address, city, state, country, postalCode,
+                WGS84.createPoint(new Coordinate(longitude, latitude)));
+    }
+}
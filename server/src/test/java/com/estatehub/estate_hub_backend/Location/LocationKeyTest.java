@@ -0,0 +1,62 @@
+package com.estatehub.estate_hub_backend.Location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+class LocationKeyTest {
+
+    private static final GeometryFactory WGS84 = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    void unitsOfOneBuildingShareAKey() {
+        Location unitA = location("1200  Rue Sainte-Catherine ", "Montréal", "QC", "Canada", "H3B 1K9", 45.501234, -73.567891);
+        Location unitB = location("1200 rue\tsainte-catherine", " MONTRéAL", "qc", "canada", "h3b1k9", 45.5012341, -73.5678912);
+
+        assertEquals(LocationKey.of(unitA), LocationKey.of(unitB));
+        assertEquals("1200 rue sainte-catherine|montréal|qc|canada|h3b1k9|45.50123,-73.56789", LocationKey.of(unitA));
+    }
+
+    @Test
+    void foldsOnlyAsciiWhateverTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Non-ASCII letters and spaces are kept as they are, as in the V14 SQL on any collation
+            Location location = location("1 RUE D'İSTANBUL\u00A0", "QUÉBEC", "QC", "Canada", "G1R 4P5", 46.81, -71.21);
+
+            assertEquals("1 rue d'İstanbul\u00A0|quÉbec|qc|canada|g1r4p5|46.81000,-71.21000", LocationKey.of(location));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void neighbouringBuildingsKeepTheirOwnKeys() {
+        Location building = location("10 Main Street", "Laval", "QC", "Canada", "H7N 1A1", 45.55, -73.70);
+        Location nextDoor = location("12 Main Street", "Laval", "QC", "Canada", "H7N 1A1", 45.55, -73.70);
+        Location acrossTown = location("10 Main Street", "Laval", "QC", "Canada", "H7N 1A1", 45.56, -73.70);
+
+        assertNotEquals(LocationKey.of(building), LocationKey.of(nextDoor));
+        assertNotEquals(LocationKey.of(building), LocationKey.of(acrossTown));
+    }
+
+    @Test
+    void roundsCoordinatesHalfAwayFromZeroLikePostgres() {
+        Location location = location("1 Bay", "Tofino", "BC", "Canada", "V0R 2Z0", -0.000005, 0.000004);
+
+        assertEquals("1 bay|tofino|bc|canada|v0r2z0|-0.00001,0.00000", LocationKey.of(location));
+    }
+
+    private static Location location(String address, String city, String state, String country, String postalCode,
+                                     double latitude, double longitude) {
+        return new Location(address, city, state, country, postalCode,
+                WGS84.createPoint(new Coordinate(longitude, latitude)));
+    }
+}
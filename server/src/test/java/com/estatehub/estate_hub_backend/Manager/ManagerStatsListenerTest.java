@@ -0,0 +1,86 @@
+package com.estatehub.estate_hub_backend.Manager;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.estatehub.estate_hub_backend.Application.ApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Application.BulkApplicationStatusChangedEvent;
+import com.estatehub.estate_hub_backend.Manager.ManagerDashboardStatsRepository.PropertyActivity;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.estatehub.estate_hub_backend.Property.PropertyManagerChangedEvent;
+import com.estatehub.estate_hub_backend.enums.ApplicationStatus;
+
+class ManagerStatsListenerTest {
+
+    private final ManagerDashboardStatsRepository statsRepository = mock(ManagerDashboardStatsRepository.class);
+    private final ManagerStatsListener listener = new ManagerStatsListener(statsRepository);
+
+    @Test
+    void bulkTransitionsUpdateEachManagerOnceInIdOrder() {
+        listener.onBulkApplicationStatusChanged(new BulkApplicationStatusChangedEvent(List.of(
+                expired(1L, 9L), expired(2L, 4L), expired(3L, 9L), expired(4L, 9L))));
+
+        InOrder order = inOrder(statsRepository);
+        order.verify(statsRepository).applyDelta(4L, 0, 0, -1, 0);
+        order.verify(statsRepository).applyDelta(9L, 0, 0, -3, 0);
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void bulkTransitionsThatCancelOutWriteNothing() {
+        listener.onBulkApplicationStatusChanged(new BulkApplicationStatusChangedEvent(List.of(
+                expired(1L, 9L),
+                new ApplicationStatusChangedEvent(2L, 20L, 9L, null, ApplicationStatus.PENDING))));
+
+        verify(statsRepository, never()).applyDelta(anyLong(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void aReassignedListingTakesItsCountersToTheNewManager() {
+        when(statsRepository.countPropertyActivity(5L)).thenReturn(activity(2, 1));
+
+        listener.onPropertyManagerChanged(new PropertyManagerChangedEvent(5L, 9L, 4L, true));
+        listener.onPropertyChanged(new PropertyChangedEvent(5L, 4L, ChangeType.UPDATED));
+
+        InOrder order = inOrder(statsRepository);
+        order.verify(statsRepository).applyDelta(4L, 1, 1, 2, 1);
+        order.verify(statsRepository).applyDelta(9L, -1, -1, -2, -1);
+        verify(statsRepository, never()).applyDelta(4L, 1, 1, 0, 0);
+    }
+
+    @Test
+    void anUnavailableListingMovesOnlyItsTotal() {
+        when(statsRepository.countPropertyActivity(5L)).thenReturn(activity(0, 0));
+
+        listener.onPropertyManagerChanged(new PropertyManagerChangedEvent(5L, 4L, 9L, false));
+
+        verify(statsRepository).applyDelta(4L, -1, 0, 0, 0);
+        verify(statsRepository).applyDelta(9L, 1, 0, 0, 0);
+    }
+
+    private static PropertyActivity activity(int pendingApplications, int activeLeases) {
+        return new PropertyActivity() {
+            @Override
+            public int getPendingApplications() { return pendingApplications; }
+
+            @Override
+            public int getActiveLeases() { return activeLeases; }
+        };
+    }
+
+    private static ApplicationStatusChangedEvent expired(Long applicationId, Long managerId) {
+        return new ApplicationStatusChangedEvent(applicationId, applicationId * 10, managerId,
+                ApplicationStatus.PENDING, ApplicationStatus.EXPIRED);
+    }
+}
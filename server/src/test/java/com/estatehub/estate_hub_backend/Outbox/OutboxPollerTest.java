@@ -0,0 +1,107 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+class OutboxPollerTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 3, 1, 12, 0);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final OutboxStore store = mock(OutboxStore.class);
+    private final List<Long> delivered = new ArrayList<>();
+    private Set<Long> failing = Set.of();
+    private OutboxPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(store.tryLock(anyLong())).thenReturn(true);
+        poller = new OutboxPoller(store, event -> {
+            OutboxEvent outboxEvent = (OutboxEvent) event;
+            if (failing.contains(outboxEvent.id())) {
+                throw new IllegalStateException("listener down");
+            }
+            delivered.add(outboxEvent.id());
+        }, new TransactionTemplate(transactionManager), 3, RETRY_DELAY, 5);
+    }
+
+    @Test
+    void deliversInIdOrderAndMarksTheBatchPublished() {
+        when(store.findUnpublished(RETRY_DELAY, 3))
+                .thenReturn(List.of(event(1, "property", 10, 0), event(2, "lease", 20, 1), event(3, "property", 10, 2)))
+                .thenReturn(List.of());
+
+        poller.poll();
+
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        verify(store).markPublished(List.of(1L, 2L, 3L), T0);
+    }
+
+    @Test
+    void aFailureHoldsBackItsAggregateOnly() {
+        failing = Set.of(1L);
+        when(store.findUnpublished(RETRY_DELAY, 3))
+                .thenReturn(List.of(event(1, "property", 10, 0), event(2, "lease", 20, 1), event(3, "property", 10, 2)))
+                .thenReturn(List.of());
+
+        poller.poll();
+
+        // Event 3 must not overtake event 1 of the same listing
+        assertEquals(List.of(2L), delivered);
+        verify(store).recordFailure(event(1, "property", 10, 0), 5);
+        verify(store).markPublished(List.of(2L), T0);
+    }
+
+    @Test
+    void keepsReadingPastABatchWithHeldBackEvents() {
+        failing = Set.of(1L);
+        when(store.findUnpublished(RETRY_DELAY, 3))
+                .thenReturn(List.of(event(1, "property", 10, 0), event(2, "property", 10, 1), event(3, "property", 10, 2)))
+                .thenReturn(List.of(event(4, "lease", 20, 3)));
+
+        poller.poll();
+
+        // The store leaves the held-back events out of the second read, so other aggregates still get through
+        assertEquals(List.of(4L), delivered);
+        verify(store, times(2)).findUnpublished(RETRY_DELAY, 3);
+        verify(store, never()).markPublished(eq(List.of()), any());
+    }
+
+    @Test
+    void doesNothingWithoutTheLock() {
+        when(store.tryLock(anyLong())).thenReturn(false);
+
+        poller.poll();
+
+        verify(store, never()).findUnpublished(any(), anyInt());
+    }
+
+    private static OutboxEvent event(long id, String aggregateType, long aggregateId, int secondsAfterT0) {
+        return new OutboxEvent(id, aggregateType, aggregateId, "PropertyChangedEvent",
+                JsonNodeFactory.instance.objectNode(), T0.plusSeconds(secondsAfterT0));
+    }
+}
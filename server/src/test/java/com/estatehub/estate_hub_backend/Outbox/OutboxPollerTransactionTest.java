@@ -0,0 +1,121 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the poller through the JpaTransactionManager the application runs with, which has no
+ * savepoints: deliveries must still commit, and a failing listener must undo only its own writes.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OutboxPollerTransactionTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    private OutboxStore store;
+    private Set<Long> failing = Set.of();
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setPackagesToScan(OutboxPollerTransactionTest.class.getPackageName());
+        entityManagerFactory.afterPropertiesSet();
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory.getObject()));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE delivery_log (property_id BIGINT NOT NULL)");
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.destroy();
+    }
+
+    @BeforeEach
+    void emptyOutbox() {
+        jdbcTemplate.execute("TRUNCATE outbox_events, delivery_log");
+        store = new OutboxStore(jdbcTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void deliversAndMarksPublished() {
+        store.insertAll(List.of(changed(1), changed(2)));
+
+        newPoller().poll();
+
+        assertEquals(List.of(1L, 2L), jdbcTemplate.queryForList(
+                "SELECT property_id FROM delivery_log ORDER BY property_id", Long.class));
+        assertEquals(0, count("published_at IS NULL"));
+        assertEquals(0, count("attempts > 0"));
+    }
+
+    @Test
+    void aFailingListenerRollsBackOnlyItsOwnDelivery() {
+        failing = Set.of(1L);
+        store.insertAll(List.of(changed(1), changed(2)));
+
+        newPoller().poll();
+
+        // The failed delivery's write is undone, the other one is kept and published
+        assertEquals(List.of(2L), jdbcTemplate.queryForList("SELECT property_id FROM delivery_log", Long.class));
+        assertEquals(1, count("published_at IS NULL AND attempts = 1 AND dead_lettered_at IS NULL"));
+        assertEquals(1, count("published_at IS NOT NULL"));
+    }
+
+    private OutboxPoller newPoller() {
+        return new OutboxPoller(store, event -> {
+            long propertyId = ((OutboxEvent) event).aggregateId();
+            jdbcTemplate.update("INSERT INTO delivery_log (property_id) VALUES (?)", propertyId);
+            if (failing.contains(propertyId)) {
+                throw new IllegalStateException("listener down");
+            }
+        }, transactionTemplate, 10, Duration.ofSeconds(30), 5);
+    }
+
+    private static int count(String condition) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE " + condition, Integer.class);
+    }
+
+    private static OutboxStore.PendingEvent changed(long propertyId) {
+        return new OutboxStore.PendingEvent("property", propertyId,
+                new PropertyChangedEvent(propertyId, 7L, ChangeType.UPDATED));
+    }
+}
@@ -0,0 +1,109 @@
+package com.estatehub.estate_hub_backend.Outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs the poller's queries against the migrated outbox table: id order, hold-back of a
+ * failing aggregate and the dead-letter cut-off.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OutboxStoreTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static JdbcTemplate jdbcTemplate;
+    private OutboxStore store;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @BeforeEach
+    void emptyOutbox() {
+        jdbcTemplate.execute("TRUNCATE outbox_events");
+        store = new OutboxStore(jdbcTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void readsUnpublishedEventsInWriteOrder() {
+        store.insertAll(List.of(changed(1), changed(2), changed(1)));
+
+        List<OutboxEvent> batch = store.findUnpublished(Duration.ZERO, 10);
+
+        assertEquals(List.of(1L, 2L, 1L), batch.stream().map(OutboxEvent::aggregateId).toList());
+        assertTrue(batch.get(0).id() < batch.get(1).id() && batch.get(1).id() < batch.get(2).id());
+    }
+
+    @Test
+    void aFailingEventHoldsBackOnlyItsOwnAggregate() {
+        store.insertAll(List.of(changed(1), changed(1), changed(2)));
+        List<OutboxEvent> first = store.findUnpublished(Duration.ZERO, 10);
+
+        assertFalse(store.recordFailure(first.get(0), 3));
+
+        // Within the retry delay neither the failed event nor the one queued behind it is read
+        assertEquals(List.of(first.get(2).id()), ids(store.findUnpublished(Duration.ofMinutes(1), 10)));
+        // Once the delay has passed the failed event comes back, still ahead of its successor
+        assertEquals(List.of(first.get(0).id(), first.get(2).id()), ids(store.findUnpublished(Duration.ZERO, 10)));
+    }
+
+    @Test
+    void deadLettersAfterMaxAttemptsAndReleasesTheAggregate() {
+        store.insertAll(List.of(changed(1), changed(1)));
+        List<OutboxEvent> first = store.findUnpublished(Duration.ZERO, 10);
+
+        assertFalse(store.recordFailure(first.get(0), 2));
+        assertTrue(store.recordFailure(first.get(0), 2));
+
+        assertEquals(List.of(first.get(1).id()), ids(store.findUnpublished(Duration.ZERO, 10)));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events WHERE dead_lettered_at IS NOT NULL", Integer.class));
+    }
+
+    @Test
+    void publishedEventsAreNotReadAgain() {
+        store.insertAll(List.of(changed(1), changed(2)));
+        List<OutboxEvent> first = store.findUnpublished(Duration.ZERO, 10);
+
+        store.markPublished(List.of(first.get(0).id()), first.get(0).createdAt());
+
+        assertEquals(List.of(first.get(1).id()), ids(store.findUnpublished(Duration.ZERO, 10)));
+    }
+
+    private static OutboxStore.PendingEvent changed(long propertyId) {
+        return new OutboxStore.PendingEvent("property", propertyId,
+                new PropertyChangedEvent(propertyId, 7L, ChangeType.UPDATED));
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::id).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerDashboardStatsRepository;
+
+/**
+ * The archival insert against the migrated schema: its column list covers both tables and
+ * every value lands in its own column.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PropertyArchivalJobTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SEED = """
+            INSERT INTO managers (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'manager_1', 'Manager', 'manager@example.com', '555-0100', now());
+            INSERT INTO locations (id, address, city, state, country, postal_code, address_key, created_at)
+            VALUES (1, '1 Main Street', 'Montreal', 'QC', 'Canada', 'H2X 1Y1', 'seed', now());
+            INSERT INTO properties (id, name, description, price_per_month, security_deposit, beds, baths,
+                                    square_feet, property_type, posted_date, is_available, location_id,
+                                    manager_id, created_at, updated_at, amenities, version)
+            VALUES (1, 'Loft', 'Long gone', 1200, 600, 2, 1.5, 750, 3, now(), false, 1, 1,
+                    now() - interval '1 year', now() - interval '1 year', ARRAY['pool'], 4);
+            """;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute(SEED);
+    }
+
+    @Test
+    void archivedColumnsAreEveryColumnOfBothTables() {
+        Set<String> archived = new HashSet<>(Arrays.asList(PropertyArchivalJob.ARCHIVED_COLUMNS.split(",\\s*")));
+
+        assertEquals(columns("properties"), archived);
+        archived.add("archived_at");
+        assertEquals(columns("properties_archive"), archived);
+    }
+
+    @Test
+    void movesAnExpiredListingValueForValue() {
+        ManagerDashboardStatsRepository statsRepository = mock(ManagerDashboardStatsRepository.class);
+        new PropertyArchivalJob(jdbcTemplate, transactionTemplate, statsRepository, Duration.ofDays(180), 10)
+                .archiveDeadListings();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT name, description, beds, square_feet, property_type, manager_id, version,
+                       amenities::text AS amenities
+                FROM properties_archive WHERE id = 1
+                """);
+        assertEquals("Loft", row.get("name"));
+        assertEquals("Long gone", row.get("description"));
+        assertEquals(2, ((Number) row.get("beds")).intValue());
+        assertEquals(750, ((Number) row.get("square_feet")).intValue());
+        assertEquals(3, ((Number) row.get("property_type")).intValue());
+        assertEquals(1L, ((Number) row.get("manager_id")).longValue());
+        assertEquals(4L, ((Number) row.get("version")).longValue());
+        assertEquals("{pool}", row.get("amenities"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM properties", Integer.class));
+        verify(statsRepository).applyDelta(1L, -1, 0, 0, 0);
+    }
+
+    private static Set<String> columns(String table) {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT column_name FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = ?
+                """, String.class, table);
+        return new HashSet<>(names);
+    }
+}
@@ -0,0 +1,236 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.estatehub.estate_hub_backend.Application.ApplicationService;
+import com.estatehub.estate_hub_backend.PropertyView.PropertyViewCounter;
+import com.estatehub.estate_hub_backend.Trending.TrendingService;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Request handling of PropertyController; access rules are covered by SecurityConfigTest
+ */
+@WebMvcTest(PropertyController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(PropertyControllerTest.Metrics.class)
+class PropertyControllerTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static final String MERGE_PATCH = "application/merge-patch+json";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private PropertyService propertyService;
+    @MockitoBean
+    private PropertyMapper propertyMapper;
+    @MockitoBean
+    private PropertyCache propertyCache;
+    @MockitoBean
+    private PropertyRadiusSearchCache radiusSearchCache;
+    @MockitoBean
+    private ApplicationService applicationService;
+    @MockitoBean
+    private PropertyViewCounter propertyViewCounter;
+    @MockitoBean
+    private TrendingService trendingService;
+    @MockitoBean
+    private ClerkAuthenticationConverter authenticationConverter;
+
+    @Test
+    void filtersByPropertyTypeIgnoringCase() throws Exception {
+        when(propertyService.findProperties(any(), anyBoolean(), any())).thenReturn(Page.empty());
+        when(propertyMapper.toDtoPage(any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/properties").param("propertyType", " villa ")).andExpect(status().isOk());
+
+        verify(propertyService).findProperties(eq(new PropertyFilter(null, null, null, null, PropertyType.VILLA, null)),
+                anyBoolean(), any());
+    }
+
+    @Test
+    void sparseFieldsetsApplyTheSameFilters() throws Exception {
+        when(propertyService.findPropertyFieldsByAvailability(any(), any(), anyBoolean(), any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/properties")
+                        .param("fields", "id,pricePerMonth")
+                        .param("minPrice", "500000")
+                        .param("beds", "2")
+                        .param("city", " Montreal "))
+                .andExpect(status().isOk());
+
+        verify(propertyService).findPropertyFieldsByAvailability(
+                eq(PropertyField.parse("id,pricePerMonth")),
+                eq(new PropertyFilter(BigDecimal.valueOf(500000.0), null, 2, null, null, "Montreal")),
+                eq(true), any());
+    }
+
+    @Test
+    void readingAListingCountsAView() throws Exception {
+        when(propertyCache.get(eq(5L), any())).thenReturn(dto(5L));
+
+        mockMvc.perform(get("/api/properties/5")).andExpect(status().isOk());
+
+        verify(propertyViewCounter).recordView(5L);
+    }
+
+    @Test
+    void amenitySearchTakesEveryRepeatedAmenity() throws Exception {
+        when(propertyService.searchByAmenities(List.of("pool", "gym"))).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/properties/search/amenities").param("amenities", "pool", "gym"))
+                .andExpect(status().isOk());
+
+        verify(propertyService).searchByAmenities(List.of("pool", "gym"));
+    }
+
+    @Test
+    void amenitySearchWithoutAmenitiesIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/properties/search/amenities")).andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyService);
+    }
+
+    @Test
+    void answersBadRequestForAnUnknownPropertyType() throws Exception {
+        mockMvc.perform(get("/api/properties").param("propertyType", "castle")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void patchReturnsTheNewVersionAsETag() throws Exception {
+        when(propertyService.patchProperty(eq(5L), any(), eq(3L)))
+                .thenReturn(new PropertyPatchResult(5L, 4L, LocalDateTime.of(2026, 10, 19, 12, 0)));
+
+        mockMvc.perform(patch("/api/properties/5").contentType(MERGE_PATCH).content("{\"beds\": 2}")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void patchAtAStaleVersionIsAPreconditionFailure() throws Exception {
+        when(propertyService.patchProperty(eq(5L), any(), eq(3L)))
+                .thenThrow(new OptimisticLockingFailureException("Property 5 was modified concurrently"));
+
+        mockMvc.perform(patch("/api/properties/5").contentType(MERGE_PATCH).content("{\"beds\": 2}")
+                        .header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void patchWithoutIfMatchSkipsTheVersionCheck() throws Exception {
+        when(propertyService.patchProperty(eq(5L), any(), isNull()))
+                .thenReturn(new PropertyPatchResult(5L, 9L, LocalDateTime.of(2026, 10, 19, 12, 0)));
+
+        mockMvc.perform(patch("/api/properties/5").contentType(MERGE_PATCH).content("{\"beds\": 2}")
+                        .header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void answersBadRequestForAnInvalidPatch() throws Exception {
+        mockMvc.perform(patch("/api/properties/5").contentType(MERGE_PATCH).content("{\"beds\": 2}")
+                        .header(HttpHeaders.IF_MATCH, "\"latest\""))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(propertyService);
+
+        when(propertyService.patchProperty(eq(5L), any(), any()))
+                .thenThrow(new IllegalArgumentException("Field cannot be patched: averageRating"));
+        mockMvc.perform(patch("/api/properties/5").contentType(MERGE_PATCH).content("{\"averageRating\": 5}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchReturnsPropertiesInRequestOrderAndListsMissingIds() throws Exception {
+        Property one = property(1L);
+        Property three = property(3L);
+        // 5 is cached; the rest goes to the loader, which answers in its own order
+        when(propertyCache.getAll(any(), any())).thenAnswer(invocation -> {
+            Set<Long> missing = new LinkedHashSet<>(invocation.<List<Long>>getArgument(0));
+            missing.remove(5L);
+            Function<Set<Long>, Map<Long, PropertyDto>> loader = invocation.getArgument(1);
+            Map<Long, PropertyDto> found = new HashMap<>(loader.apply(missing));
+            found.put(5L, dto(5L));
+            return found;
+        });
+        when(propertyService.findPropertiesByIds(Set.of(3L, 1L, 2L))).thenReturn(List.of(one, three));
+        when(propertyMapper.toDto(any(Property.class))).thenAnswer(invocation -> dto(invocation.<Property>getArgument(0).getId()));
+
+        mockMvc.perform(get("/api/properties/batch").param("ids", "3,5,1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.properties[*].id").value(contains(3, 5, 1)))
+                .andExpect(jsonPath("$.missingIds").value(contains(2)));
+        verify(propertyCache).getAll(eq(List.of(3L, 5L, 1L, 2L)), any());
+    }
+
+    @Test
+    void batchRefusesMoreThanTwoHundredIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, 201).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/api/properties/batch").param("ids", ids)).andExpect(status().isBadRequest());
+        verify(propertyCache, never()).getAll(any(), any());
+    }
+
+    private static Property property(Long id) {
+        Property property = new Property();
+        property.setId(id);
+        return property;
+    }
+
+    private PropertyDto dto(Long id) throws Exception {
+        return objectMapper.readValue("{\"id\": %d, \"name\": \"Listing %d\"}".formatted(id, id), PropertyDto.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * photoUrls, amenities and highlights as text[] columns: Hibernate reads and writes them with
+ * the row, and amenity search matches listings offering every requested amenity.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PropertyListColumnsTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SEED = """
+            INSERT INTO managers (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'manager_1', 'Manager', 'manager@example.com', '555-0100', now());
+            INSERT INTO locations (id, address, city, state, country, postal_code, address_key, created_at)
+            VALUES (1, '1 Main Street', 'Montreal', 'QC', 'Canada', 'H2X 1Y1', 'seed', now());
+            INSERT INTO properties (id, name, price_per_month, beds, baths, property_type, posted_date,
+                                    is_available, location_id, manager_id, created_at,
+                                    photo_urls, amenities, highlights)
+            VALUES (1, 'Loft', 1200, 1, 1, 0, now(), true, 1, 1, now(),
+                    ARRAY['https://cdn.example.com/1/front.jpg', 'https://cdn.example.com/1/kitchen.jpg'],
+                    ARRAY['pool', 'gym', 'parking'], ARRAY['quiet']),
+                   (2, 'Studio', 900, 0, 1, 0, now(), true, 1, 1, now(), NULL, ARRAY['pool'], NULL),
+                   (3, 'Condo', 1500, 2, 1, 0, now(), false, 1, 1, now(), NULL, ARRAY['pool', 'gym'], NULL);
+            """;
+
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static PropertyRepository repository;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        DataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setPackagesToScan("com.estatehub.estate_hub_backend");
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        entityManagerFactory.afterPropertiesSet();
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory.getObject()));
+        repository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(
+                entityManagerFactory.getObject())).getRepository(PropertyRepository.class);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.destroy();
+    }
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE properties, locations, managers CASCADE");
+        jdbcTemplate.execute(SEED);
+    }
+
+    @Test
+    void listsAreReadInOrderWithTheRow() {
+        Property loft = repository.findById(1L).orElseThrow();
+
+        assertEquals(List.of("https://cdn.example.com/1/front.jpg", "https://cdn.example.com/1/kitchen.jpg"),
+                loft.getPhotoUrls());
+        assertEquals(List.of("pool", "gym", "parking"), loft.getAmenities());
+        assertEquals(List.of("quiet"), loft.getHighlights());
+    }
+
+    @Test
+    void replacingAListRewritesTheColumn() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Property loft = repository.findById(1L).orElseThrow();
+            loft.setAmenities(List.of("sauna", "pool"));
+        });
+
+        assertEquals(List.of("sauna", "pool"), jdbcTemplate.queryForObject(
+                "SELECT amenities FROM properties WHERE id = 1",
+                (rs, rowNum) -> strings(rs.getArray(1))));
+        assertEquals(List.of("quiet"), jdbcTemplate.queryForObject(
+                "SELECT highlights FROM properties WHERE id = 1",
+                (rs, rowNum) -> strings(rs.getArray(1))));
+    }
+
+    @Test
+    void amenitySearchNeedsEveryAmenityOnAnAvailableListing() {
+        assertEquals(List.of(1L), ids(repository.findAvailableByAmenitiesContainingAll(new String[] { "pool", "gym" })));
+        assertEquals(List.of(1L, 2L), ids(repository.findAvailableByAmenitiesContainingAll(new String[] { "pool" })));
+        assertEquals(List.of(), ids(repository.findAvailableByAmenitiesContainingAll(new String[] { "pool", "sauna" })));
+    }
+
+    private static List<Long> ids(List<Property> properties) {
+        return properties.stream().map(Property::getId).sorted().toList();
+    }
+
+    private static List<String> strings(Array array) throws SQLException {
+        return Arrays.asList((String[]) array.getArray());
+    }
+}
@@ -0,0 +1,92 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * V5: photos, amenities and highlights move from their element-collection tables into text[]
+ * columns on properties, in the order they were written, and the old tables go away.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PropertyListsMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SEED = """
+            INSERT INTO managers (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'manager_1', 'Manager', 'manager@example.com', '555-0100', now());
+            INSERT INTO locations (id, address, city, state, country, postal_code, created_at)
+            VALUES (1, '1 Main Street', 'Montreal', 'QC', 'Canada', 'H2X 1Y1', now());
+            INSERT INTO properties (id, name, price_per_month, beds, baths, property_type, posted_date,
+                                    is_available, location_id, manager_id, created_at)
+            VALUES (1, 'Loft', 1200, 1, 1, 0, now(), true, 1, 1, now()),
+                   (2, 'Studio', 900, 0, 1, 0, now(), true, 1, 1, now());
+            INSERT INTO property_photos (property_id, photo_url)
+            VALUES (1, 'https://cdn.example.com/1/front.jpg'), (1, 'https://cdn.example.com/1/kitchen.jpg');
+            INSERT INTO property_amenities (property_id, amenity)
+            VALUES (1, 'pool'), (2, 'parking'), (1, 'gym');
+            INSERT INTO property_highlights (property_id, highlight)
+            VALUES (1, 'quiet');
+            """;
+
+    @Test
+    void foldsTheCollectionTablesIntoArrays() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        flyway("4").migrate();
+        jdbcTemplate.execute(SEED);
+
+        flyway("latest").migrate();
+
+        assertEquals(List.of("https://cdn.example.com/1/front.jpg", "https://cdn.example.com/1/kitchen.jpg"),
+                column(jdbcTemplate, "photo_urls", 1));
+        assertEquals(List.of("pool", "gym"), column(jdbcTemplate, "amenities", 1));
+        assertEquals(List.of("quiet"), column(jdbcTemplate, "highlights", 1));
+        assertEquals(List.of("parking"), column(jdbcTemplate, "amenities", 2));
+        // A listing with nothing in a table keeps a null list, as the empty collection read before
+        assertNull(column(jdbcTemplate, "photo_urls", 2));
+
+        assertEquals(List.of(), jdbcTemplate.queryForList("""
+                SELECT table_name FROM information_schema.tables
+                WHERE table_name IN ('property_photos', 'property_amenities', 'property_highlights')
+                """, String.class));
+        assertEquals(List.of("idx_properties_amenities_gin", "idx_properties_highlights_gin"),
+                jdbcTemplate.queryForList("""
+                        SELECT indexname FROM pg_indexes
+                        WHERE indexname IN ('idx_properties_amenities_gin', 'idx_properties_highlights_gin')
+                        ORDER BY indexname
+                        """, String.class));
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .target(target)
+                .load();
+    }
+
+    private static List<String> column(JdbcTemplate jdbcTemplate, String column, long propertyId) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM properties WHERE id = ?",
+                (rs, rowNum) -> strings(rs.getArray(1)), propertyId);
+    }
+
+    private static List<String> strings(Array array) throws SQLException {
+        return array == null ? null : Arrays.asList((String[]) array.getArray());
+    }
+}
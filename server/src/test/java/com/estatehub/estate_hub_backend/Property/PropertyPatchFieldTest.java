@@ -0,0 +1,69 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PropertyPatchFieldTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void convertsValuesToTheirColumnTypes() {
+        assertEquals(new BigDecimal("1500.5"), PropertyPatchField.PRICE_PER_MONTH.toColumnValue(json("1500.5")));
+        assertEquals(2, PropertyPatchField.BEDS.toColumnValue(json("2")));
+        assertEquals(1.5f, PropertyPatchField.BATHS.toColumnValue(json("1.5")));
+        assertEquals(PropertyType.VILLA.ordinal(), PropertyPatchField.PROPERTY_TYPE.toColumnValue(json("\"villa\"")));
+        assertArrayEquals(new String[] { "pool", "gym" },
+                (String[]) PropertyPatchField.AMENITIES.toColumnValue(json("[\"pool\", \"gym\"]")));
+    }
+
+    @Test
+    void nullClearsOnlyOptionalColumns() {
+        assertNull(PropertyPatchField.DESCRIPTION.toColumnValue(json("null")));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PropertyPatchField.PRICE_PER_MONTH.toColumnValue(json("null")));
+        assertEquals("pricePerMonth cannot be removed", e.getMessage());
+    }
+
+    @Test
+    void rejectsValuesTheEntityConstraintsWouldReject() {
+        assertRejected(PropertyPatchField.NAME, "\"  \"", "Property name must be between 1 and 255 characters");
+        assertRejected(PropertyPatchField.PRICE_PER_MONTH, "0", "Price must be greater than 0");
+        assertRejected(PropertyPatchField.BEDS, "-1", "Number of beds must be non-negative");
+        assertRejected(PropertyPatchField.BEDS, "2.5", "beds must be an integer");
+        assertRejected(PropertyPatchField.IS_AVAILABLE, "\"yes\"", "isAvailable must be a boolean");
+        assertRejected(PropertyPatchField.HIGHLIGHTS, "[\"quiet\", 3]", "highlights[] must be a string");
+        assertRejected(PropertyPatchField.PROPERTY_TYPE, "\"castle\"", "Unknown property type: castle");
+    }
+
+    @Test
+    void onlyListedFieldsCanBePatched() {
+        assertEquals(PropertyPatchField.SQUARE_FEET, PropertyPatchField.fromJsonName("squareFeet"));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PropertyPatchField.fromJsonName("averageRating"));
+        assertEquals("Field cannot be patched: averageRating", e.getMessage());
+    }
+
+    private static void assertRejected(PropertyPatchField field, String value, String message) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> field.toColumnValue(json(value)));
+        assertEquals(message, e.getMessage());
+    }
+
+    private static JsonNode json(String value) {
+        try {
+            return MAPPER.readTree(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
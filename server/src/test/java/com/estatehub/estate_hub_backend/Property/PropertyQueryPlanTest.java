@@ -0,0 +1,332 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Runs every PropertyRepository query through Hibernate against the migrated schema, captures
+ * the statements it issues with their bound parameters, and plans them again with sequential
+ * scans disabled. Each statement must be served by the index written for it: avoiding a
+ * "Seq Scan" is not enough, a primary-key scan plus a Filter avoids one too.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PropertyQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    /**
+     * findAll(Pageable) reads every row by design and findByPropertyType filters on a handful
+     * of values; neither is expected to be index-driven.
+     */
+    private static final Set<String> NOT_INDEXED = Set.of("findAll", "findByPropertyType");
+
+    private static final Pattern INDEX_NODE = Pattern.compile("Index (?:Only )?Scan(?: Backward)? (?:using|on) (\\w+)");
+
+    // Location.coordinates has no spatial mapping in Hibernate, so only odd-numbered locations get
+    // coordinates and the queries fetching locations below load even-numbered ones.
+    private static final String SEED = """
+            INSERT INTO managers (clerk_id, name, email, phone_number, created_at)
+            SELECT 'manager_' || i, 'Manager ' || i, 'manager' || i || '@example.com', '555-0100', now()
+            FROM generate_series(1, 200) i;
+
+            INSERT INTO locations (address, city, state, country, postal_code, coordinates, address_key, created_at)
+            SELECT i || ' Main Street', 'City ' || (i % 100), 'State ' || (i % 10), 'Canada', 'H2X 1Y' || (i % 10),
+                   CASE WHEN i % 2 = 1
+                        THEN ST_MakePoint(-73.57 + (random() - 0.5) * 4, 45.50 + (random() - 0.5) * 4)::geography
+                   END,
+                   'location ' || i, now()
+            FROM generate_series(1, 5000) i;
+
+            INSERT INTO properties (name, description, price_per_month, beds, baths, property_type, posted_date,
+                                    is_available, location_id, manager_id, created_at, amenities, highlights)
+            SELECT 'Property ' || i, 'Seeded listing', 500 + (i % 300) * 10, 1 + i % 5, 1 + (i % 3) * 0.5, i % 6,
+                   now(), i % 4 = 0, i, 1 + i % 200, now(),
+                   CASE WHEN i % 7 = 0 THEN ARRAY['pool', 'gym'] ELSE ARRAY['parking'] END, ARRAY['quiet']
+            FROM generate_series(1, 5000) i;
+            """;
+
+    private static final List<CapturedStatement> captured = new CopyOnWriteArrayList<>();
+
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private static PropertyRepository repository;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute(SEED);
+            // Vacuumed as well as analyzed, so that index-only scans are costed as such
+            statement.execute("VACUUM ANALYZE");
+        }
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(capturing(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())));
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setPackagesToScan("com.estatehub.estate_hub_backend");
+        // The naming strategies and padding the application runs with
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.query.in_clause_parameter_padding", "true"));
+        entityManagerFactory.afterPropertiesSet();
+        repository = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(
+                entityManagerFactory.getObject())).getRepository(PropertyRepository.class);
+    }
+
+    @AfterAll
+    static void close() {
+        entityManagerFactory.destroy();
+    }
+
+    /**
+     * Each query with the indexes its statements must use, in the order Hibernate issues them
+     * (a page of more than one page's worth of rows is followed by its count query). An expected
+     * index is a pattern where several indexes serve a statement equally well.
+     */
+    static Stream<Arguments> repositoryQueries() {
+        PageRequest byId = PageRequest.of(0, 10, Sort.by("id"));
+        PageRequest byPriceDescending = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "pricePerMonth", "id"));
+
+        return Stream.of(
+                query("findById", properties -> properties.findById(42L),
+                        List.of("properties_pkey")),
+                query("findWithLocationAndManagerById", properties -> properties.findWithLocationAndManagerById(42L),
+                        List.of("properties_pkey")),
+                query("findManagerIdById", properties -> properties.findManagerIdById(42L),
+                        List.of("properties_pkey")),
+                query("findAllWithLocationAndManagerByIdIn",
+                        properties -> properties.findAllWithLocationAndManagerByIdIn(List.of(4L, 14L, 16L, 92L)),
+                        List.of("properties_pkey")),
+                query("findCoordinatesById", properties -> properties.findCoordinatesById(42L),
+                        List.of("properties_pkey")),
+                query("findByManagerClerkId", properties -> properties.findByManagerClerkId("manager_7"),
+                        List.of("managers_clerk_id_key", "idx_properties_manager_\\w+")),
+                query("findAvailableByManagerClerkId",
+                        properties -> properties.findAvailableByManagerClerkId("manager_7"),
+                        List.of("managers_clerk_id_key", "idx_properties_active_manager_id")),
+                query("findPortfolio", properties -> properties.findPortfolio(
+                                7L, null, null, null, null, null, null, null, byPriceDescending),
+                        List.of("idx_properties_manager_price"),
+                        List.of("idx_properties_manager_\\w+")),
+                // Every partial index WHERE is_available holds exactly the rows asked for
+                query("findByIsAvailableTrue", PropertyRepository::findByIsAvailableTrue,
+                        List.of("idx_properties_active_\\w+")),
+                query("findAllByIsAvailable", properties -> properties.findAllByIsAvailable(true, byId),
+                        List.of("idx_properties_active_id"),
+                        List.of("idx_properties_active_id")),
+                query("findAllByIsAvailable (unavailable)", properties -> properties.findAllByIsAvailable(false, byId),
+                        List.of("idx_properties_is_available"),
+                        List.of("idx_properties_is_available")),
+                query("findFiltered", properties -> properties.findFiltered(
+                                true, new BigDecimal("1000"), new BigDecimal("1050"), 2, null, null, null, byId),
+                        List.of("idx_properties_active_price"),
+                        List.of("idx_properties_active_price")),
+                query("findByPricePerMonthBetween",
+                        properties -> properties.findByPricePerMonthBetween(new BigDecimal("1000"), new BigDecimal("1050")),
+                        List.of("idx_properties_price_per_month")),
+                query("findByBedsGreaterThanEqualAndBathsGreaterThanEqual",
+                        properties -> properties.findByBedsGreaterThanEqualAndBathsGreaterThanEqual(5, 2f),
+                        List.of("idx_properties_beds_baths")),
+                query("findByLocationCityAndLocationState",
+                        properties -> properties.findByLocationCityAndLocationState("City 42", "State 2"),
+                        List.of("idx_locations_city_state", "idx_properties_location_id")),
+                query("findPropertiesWithinRadius", properties -> properties.findPropertiesWithinRadius(45.50, -73.57, 2.0),
+                        List.of("idx_locations_coordinates_gist", "idx_properties_location_id")),
+                query("findAvailableIdsWithinRadius",
+                        properties -> properties.findAvailableIdsWithinRadius(45.50, -73.57, 2.0),
+                        List.of("idx_locations_coordinates_gist", "idx_properties_active_location_id")),
+                query("findAvailableByAmenitiesContainingAll",
+                        properties -> properties.findAvailableByAmenitiesContainingAll(new String[] { "pool", "gym" }),
+                        List.of("idx_properties_amenities_gin")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void queryIsServedByItsIndexes(String name, Consumer<PropertyRepository> call, List<List<String>> expectedIndexes)
+            throws SQLException {
+        captured.clear();
+        call.accept(repository);
+        List<CapturedStatement> statements = List.copyOf(captured);
+
+        assertEquals(expectedIndexes.size(), statements.size(), () -> name + " issued " + statements);
+        for (int i = 0; i < statements.size(); i++) {
+            CapturedStatement statement = statements.get(i);
+            List<String> plan = explain(statement);
+            String described = name + " plans\n" + statement.sql() + "\nas\n" + String.join("\n", plan);
+            Set<String> indexes = plan.stream()
+                    .map(INDEX_NODE::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> matcher.group(1))
+                    .collect(Collectors.toSet());
+
+            assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan")),
+                    () -> "Sequential scan: " + described);
+            for (String expected : expectedIndexes.get(i)) {
+                assertTrue(indexes.stream().anyMatch(index -> index.matches(expected)),
+                        () -> "No index matching " + expected + ": " + described);
+            }
+        }
+    }
+
+    @Test
+    void everyRepositoryQueryIsPlanned() {
+        Set<String> declared = Arrays.stream(PropertyRepository.class.getDeclaredMethods())
+                .map(Method::getName)
+                .filter(method -> !NOT_INDEXED.contains(method))
+                .collect(Collectors.toSet());
+        Set<String> planned = repositoryQueries()
+                .map(arguments -> ((String) arguments.get()[0]).split(" ")[0])
+                .collect(Collectors.toSet());
+
+        assertEquals(declared, planned);
+    }
+
+    @SafeVarargs
+    private static Arguments query(String name, Consumer<PropertyRepository> call, List<String>... indexes) {
+        return Arguments.of(name, call, List.of(indexes));
+    }
+
+    private static List<String> explain(CapturedStatement statement) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = connect(); Statement settings = connection.createStatement()) {
+            settings.execute("SET enable_seqscan = off");
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+                for (Binding binding : statement.bindings()) {
+                    binding.applyTo(explain);
+                }
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        plan.add(rows.getString(1));
+                    }
+                }
+            }
+        }
+        return plan;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    /** A statement Hibernate executed, with the parameters it bound. */
+    private record CapturedStatement(String sql, List<Binding> bindings) {
+    }
+
+    /** One PreparedStatement setter call, replayed on the EXPLAIN statement. */
+    private record Binding(Method setter, Object[] arguments) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, arguments);
+            } catch (InvocationTargetException e) {
+                throw (SQLException) e.getCause();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return setter.getName() + Arrays.toString(arguments);
+        }
+    }
+
+    private static DataSource capturing(DataSource dataSource) {
+        return proxy(DataSource.class, (method, arguments) -> {
+            Object result = invoke(dataSource, method, arguments);
+            return result instanceof Connection connection ? capturing(connection) : result;
+        });
+    }
+
+    private static Connection capturing(Connection connection) {
+        return proxy(Connection.class, (method, arguments) -> {
+            Object result = invoke(connection, method, arguments);
+            return method.getName().equals("prepareStatement")
+                    ? capturing((PreparedStatement) result, (String) arguments[0])
+                    : result;
+        });
+    }
+
+    private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, (method, arguments) -> {
+            // Parameter setters are declared on PreparedStatement, fetch size and timeouts on Statement
+            if (method.getDeclaringClass() == PreparedStatement.class && method.getName().startsWith("set")) {
+                bindings.add(new Binding(method, arguments));
+            } else if (method.getName().startsWith("execute")) {
+                captured.add(new CapturedStatement(sql, List.copyOf(bindings)));
+            }
+            return invoke(statement, method, arguments);
+        });
+    }
+
+    private interface Handler {
+
+        Object handle(Method method, Object[] arguments) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(PropertyQueryPlanTest.class.getClassLoader(),
+                new Class<?>[] { type }, (proxy, method, arguments) -> handler.handle(method, arguments)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.estatehub.estate_hub_backend.Location.LocationDto;
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PropertyRadiusSearchCacheTest {
+
+    @Test
+    void searchAgreesWithScanningEveryListing() {
+        Random random = new Random(5);
+        List<PropertyDto> listings = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            listings.add(listing(id, 45.5 + (random.nextDouble() - 0.5) * 0.8, -73.6 + (random.nextDouble() - 0.5) * 1.2));
+        }
+        AtomicInteger loads = new AtomicInteger();
+        PropertyRadiusSearchCache cache = newCache();
+
+        for (int i = 0; i < 500; i++) {
+            // Viewports cluster around a few centres, as they do around popular neighbourhoods
+            double lat = 45.5 + (random.nextInt(3) - 1) * 0.05 + random.nextDouble() * 1e-4;
+            double lng = -73.6 + (random.nextInt(3) - 1) * 0.05 + random.nextDouble() * 1e-4;
+            double radiusKm = 0.5 + random.nextInt(20);
+
+            List<PropertyDto> result = cache.search(lat, lng, radiusKm, (centerLat, centerLng, reach) -> {
+                loads.incrementAndGet();
+                return within(listings, centerLat, centerLng, reach);
+            });
+            assertEquals(ids(within(listings, lat, lng, radiusKm)), ids(result));
+        }
+        assertTrue(loads.get() < 100, "expected most searches to hit the cache, loaded " + loads.get());
+    }
+
+    @Test
+    void keysCoveringAListingIncludeEverySearchThatCanReturnIt() {
+        Random random = new Random(9);
+        for (int i = 0; i < 2000; i++) {
+            double lat = 45.5 + (random.nextDouble() - 0.5) * 0.5;
+            double lng = -73.6 + (random.nextDouble() - 0.5) * 0.5;
+            Set<String> keys = PropertyRadiusSearchCache.keysCovering(lat, lng);
+
+            double radiusKm = 0.1 + random.nextDouble() * 49.9;
+            double queryLat = lat + (random.nextDouble() - 0.5) * radiusKm / 60;
+            double queryLng = lng + (random.nextDouble() - 0.5) * radiusKm / 40;
+            if (GeoHash.distanceKm(queryLat, queryLng, lat, lng) <= radiusKm) {
+                int tier = PropertyRadiusSearchCache.tierOf(radiusKm);
+                String key = GeoHash.encode(queryLat, queryLng, PropertyRadiusSearchCache.precisionOf(tier)) + "/" + tier;
+                assertTrue(keys.contains(key), "missing key " + key);
+            }
+        }
+    }
+
+    @Test
+    void writeInvalidatesOldAndNewLocationsOfAMovedListing() {
+        List<PropertyDto> listings = new ArrayList<>(List.of(listing(1L, 45.50, -73.60), listing(2L, 45.51, -73.60)));
+        AtomicInteger loads = new AtomicInteger();
+        PropertyRadiusSearchCache.RadiusLoader loader = (centerLat, centerLng, reach) -> {
+            loads.incrementAndGet();
+            return within(listings, centerLat, centerLng, reach);
+        };
+        PropertyRadiusSearchCache cache = newCache();
+
+        cache.search(45.50, -73.60, 2, loader);
+        cache.search(46.80, -71.20, 2, loader);
+        assertEquals(2, loads.get());
+
+        // Listing 1 moves from Montreal to Quebec City
+        listings.set(0, listing(1L, 46.80, -71.20));
+        cache.invalidate("1@46.8,-71.2");
+
+        assertEquals(Set.of(2L), ids(cache.search(45.50, -73.60, 2, loader)));
+        assertEquals(Set.of(1L), ids(cache.search(46.80, -71.20, 2, loader)));
+        assertEquals(4, loads.get());
+
+        // A write far away leaves both entries alone
+        cache.invalidate("3@48.85,2.35");
+        cache.search(45.50, -73.60, 2, loader);
+        assertEquals(4, loads.get());
+    }
+
+    private static PropertyRadiusSearchCache newCache() {
+        return new PropertyRadiusSearchCache(null, null, new SimpleMeterRegistry(), 100_000, Duration.ofMinutes(5));
+    }
+
+    private static List<PropertyDto> within(List<PropertyDto> listings, double lat, double lng, double radiusKm) {
+        return listings.stream()
+                .filter(p -> GeoHash.distanceKm(lat, lng, p.location().latitude(), p.location().longitude()) <= radiusKm)
+                .toList();
+    }
+
+    private static Set<Long> ids(List<PropertyDto> listings) {
+        Set<Long> ids = new TreeSet<>();
+        listings.forEach(p -> ids.add(p.id()));
+        return ids;
+    }
+
+    private static PropertyDto listing(long id, double lat, double lng) {
+        return new PropertyDto(id, "Listing " + id, null, null, null, null, null, null, null, null, null,
+                1, 1f, null, null, null, null, null, true,
+                new LocationDto(id, "1 Main Street", "City", "State", "Country", "H0H 0H0", lat, lng), null);
+    }
+}
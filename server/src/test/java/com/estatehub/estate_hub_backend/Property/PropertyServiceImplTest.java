@@ -0,0 +1,148 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.estatehub.estate_hub_backend.Location.LocationService;
+import com.estatehub.estate_hub_backend.Manager.Manager;
+import com.estatehub.estate_hub_backend.Manager.ManagerService;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.estatehub.estate_hub_backend.Review.RatingAggregateStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PropertyServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
+    private final PropertyPatchStore patchStore = mock(PropertyPatchStore.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    @SuppressWarnings("unchecked")
+    private final PropertyServiceImpl service = new PropertyServiceImpl(propertyRepository, patchStore,
+            mock(PropertyProjectionStore.class), eventPublisher, mock(ObjectProvider.class),
+            mock(ManagerService.class), mock(LocationService.class), mock(RatingAggregateStore.class));
+
+    @Test
+    void patchesOnlyTheSentColumnsAtTheExpectedVersion() {
+        when(patchStore.apply(5L, Map.of(PropertyPatchField.PRICE_PER_MONTH, new BigDecimal("1400"),
+                PropertyPatchField.IS_AVAILABLE, false), 3L))
+                .thenReturn(Optional.of(new PropertyPatchStore.Outcome(5L, 4L, NOW, 7L, true, false)));
+
+        PropertyPatchResult result = service.patchProperty(5L,
+                json("{\"pricePerMonth\": 1400, \"isAvailable\": false}"), 3L);
+
+        assertEquals(new PropertyPatchResult(5L, 4L, NOW), result);
+        verify(eventPublisher).publishEvent(new PropertyChangedEvent(5L, 7L, ChangeType.UNAVAILABLE));
+    }
+
+    @Test
+    void aStaleVersionIsAConflictNotAMissingListing() {
+        when(patchStore.apply(anyLong(), any(), any())).thenReturn(Optional.empty());
+        when(propertyRepository.existsById(5L)).thenReturn(true);
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> service.patchProperty(5L, json("{\"beds\": 2}"), 3L));
+        RuntimeException missing = assertThrows(RuntimeException.class,
+                () -> service.patchProperty(6L, json("{\"beds\": 2}"), 3L));
+        assertEquals("Property not found with ID: 6", missing.getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void rejectsAnEmptyOrUnknownPatchBeforeWriting() {
+        assertThrows(IllegalArgumentException.class, () -> service.patchProperty(5L, json("{}"), null));
+        assertThrows(IllegalArgumentException.class, () -> service.patchProperty(5L, json("{\"rating\": 5}"), null));
+        verifyNoInteractions(patchStore);
+    }
+
+    @Test
+    void reassigningAListingAnnouncesBothManagers() {
+        Property existing = listing(9L);
+        existing.setIsAvailable(true);
+        when(propertyRepository.findWithLocationAndManagerById(5L)).thenReturn(Optional.of(existing));
+        when(propertyRepository.save(existing)).thenReturn(existing);
+
+        service.updateProperty(5L, listing(4L));
+
+        InOrder order = inOrder(eventPublisher);
+        order.verify(eventPublisher).publishEvent(new PropertyManagerChangedEvent(5L, 9L, 4L, true));
+        order.verify(eventPublisher).publishEvent(new PropertyChangedEvent(5L, 4L, ChangeType.UPDATED));
+    }
+
+    @Test
+    void keepingTheManagerAnnouncesOnlyTheUpdate() {
+        Property existing = listing(9L);
+        when(propertyRepository.findWithLocationAndManagerById(5L)).thenReturn(Optional.of(existing));
+        when(propertyRepository.save(existing)).thenReturn(existing);
+
+        service.updateProperty(5L, listing(9L));
+
+        verify(eventPublisher).publishEvent(new PropertyChangedEvent(5L, 9L, ChangeType.UPDATED));
+        verify(eventPublisher, never()).publishEvent(any(PropertyManagerChangedEvent.class));
+    }
+
+    @Test
+    void updatingAListReplacesItWhole() {
+        Property existing = listing(9L);
+        existing.setAmenities(List.of("pool", "gym"));
+        Property updated = listing(9L);
+        updated.setAmenities(List.of("parking"));
+        when(propertyRepository.findWithLocationAndManagerById(5L)).thenReturn(Optional.of(existing));
+        when(propertyRepository.save(existing)).thenReturn(existing);
+
+        service.updateProperty(5L, updated);
+
+        assertEquals(List.of("parking"), existing.getAmenities());
+    }
+
+    @Test
+    void amenitySearchAsksForEveryAmenityAtOnce() {
+        service.searchByAmenities(List.of("pool", "gym"));
+
+        verify(propertyRepository).findAvailableByAmenitiesContainingAll(new String[] { "pool", "gym" });
+    }
+
+    @Test
+    void amenitySearchNeedsAnAmenity() {
+        assertThrows(IllegalArgumentException.class, () -> service.searchByAmenities(List.of()));
+        verifyNoInteractions(propertyRepository);
+    }
+
+    private static Property listing(Long managerId) {
+        Manager manager = new Manager();
+        manager.setId(managerId);
+        Property property = new Property();
+        property.setId(5L);
+        property.setManager(manager);
+        return property;
+    }
+
+    private static JsonNode json(String value) {
+        try {
+            return new ObjectMapper().readTree(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.estatehub.estate_hub_backend.Property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SparsePropertyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parseAlwaysIncludesIdAndExpandsNestedObjects() {
+        EnumSet<PropertyField> fields = PropertyField.parse("name, location.latitude,manager");
+
+        assertEquals(EnumSet.of(PropertyField.ID, PropertyField.NAME, PropertyField.LOCATION_LATITUDE,
+                PropertyField.MANAGER_ID, PropertyField.MANAGER_NAME, PropertyField.MANAGER_EMAIL,
+                PropertyField.MANAGER_PHONE_NUMBER), fields);
+        assertThrows(IllegalArgumentException.class, () -> PropertyField.parse("name,passwordHash"));
+    }
+
+    @Test
+    void serialisesOnlyRequestedFieldsInPropertyDtoShape() throws Exception {
+        PropertyField[] fields = SparseProperty.ordered(
+                PropertyField.parse("pricePerMonth,location.latitude,location.longitude,manager.name"));
+        SparseProperty property = new SparseProperty(fields,
+                new Object[] {7L, new BigDecimal("1250.00"), 45.5, -73.6, "Alice"});
+
+        assertEquals("{\"id\":7,\"pricePerMonth\":1250.00,"
+                + "\"location\":{\"latitude\":45.5,\"longitude\":-73.6},"
+                + "\"manager\":{\"name\":\"Alice\"}}", objectMapper.writeValueAsString(property));
+    }
+}
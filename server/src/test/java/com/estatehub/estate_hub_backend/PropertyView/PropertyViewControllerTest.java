@@ -0,0 +1,108 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Request handling of PropertyViewController; access rules are covered by SecurityConfigTest
+ */
+@WebMvcTest(PropertyViewController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(PropertyViewControllerTest.Metrics.class)
+class PropertyViewControllerTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PropertyViewService propertyViewService;
+    @MockitoBean
+    private ClerkAuthenticationConverter authenticationConverter;
+
+    @Test
+    void viewsDefaultToDailyPeriodsOverTheLastWeek() throws Exception {
+        mockMvc.perform(get("/api/properties/5/views")).andExpect(status().isOk());
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(propertyViewService).getViewsPerPeriod(eq(5L), eq("day"), from.capture(), to.capture());
+        assertEquals(to.getValue().minusDays(7), from.getValue());
+    }
+
+    @Test
+    void viewsAreListedPerPeriod() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2026, 10, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 10, 3, 0, 0);
+        when(propertyViewService.getViewsPerPeriod(5L, "hour", from, to))
+                .thenReturn(List.of(new ViewPeriodDto(LocalDateTime.of(2026, 10, 1, 9, 0), 12)));
+
+        mockMvc.perform(get("/api/properties/5/views")
+                        .param("granularity", "hour")
+                        .param("from", "2026-10-01T00:00:00")
+                        .param("to", "2026-10-03T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].periodStart").value("2026-10-01T09:00:00"))
+                .andExpect(jsonPath("$[0].views").value(12));
+    }
+
+    @Test
+    void answersBadRequestForAnUnknownGranularity() throws Exception {
+        when(propertyViewService.getViewsPerPeriod(eq(5L), eq("decade"), any(), any()))
+                .thenThrow(new IllegalArgumentException("Granularity must be one of [hour, day, week, month]"));
+
+        mockMvc.perform(get("/api/properties/5/views").param("granularity", "decade"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void mostViewedRefusesMoreThanAHundredResults() throws Exception {
+        mockMvc.perform(get("/api/properties/most-viewed").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyViewService);
+    }
+
+    @Test
+    void mostViewedDefaultsToTwentyOverSevenDays() throws Exception {
+        when(propertyViewService.getMostViewed(7, 20)).thenReturn(List.of(new PropertyViewCountDto(3L, 42)));
+
+        mockMvc.perform(get("/api/properties/most-viewed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].propertyId").value(3))
+                .andExpect(jsonPath("$[0].views").value(42));
+    }
+}
@@ -0,0 +1,137 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class PropertyViewCounterTest {
+
+    private final PropertyViewStore store = mock(PropertyViewStore.class);
+    private final PropertyViewCounter counter = new PropertyViewCounter(store);
+
+    @Test
+    void concurrentViewsAreFlushedAsOneBatch() throws Exception {
+        int threads = 8;
+        int viewsPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                long otherListing = 100L + t;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < viewsPerThread; i++) {
+                            counter.recordView(1L);
+                        }
+                        counter.recordView(otherListing);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+        counter.flush();
+
+        Map<Long, Long> expected = new HashMap<>();
+        expected.put(1L, (long) threads * viewsPerThread);
+        for (int t = 0; t < threads; t++) {
+            expected.put(100L + t, 1L);
+        }
+        Flush flush = onlyFlush();
+        assertEquals(expected, flush.views());
+        // Hourly UTC bucket, read when the flush ran
+        assertEquals(flush.bucket().truncatedTo(ChronoUnit.HOURS), flush.bucket());
+        assertTrue(!flush.bucket().isBefore(before));
+    }
+
+    @Test
+    void aFlushResetsTheCounters() {
+        counter.recordView(1L);
+        counter.flush();
+
+        counter.flush();
+
+        verify(store, times(1)).addViews(any(), any(), any());
+    }
+
+    @Test
+    void nothingViewedWritesNothing() {
+        counter.flush();
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void aFailedFlushKeepsItsDeltasForTheNextOne() {
+        counter.recordView(1L);
+        counter.recordView(1L);
+        counter.recordView(2L);
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .doNothing()
+                .when(store).addViews(any(), any(), any());
+        counter.flush();
+
+        counter.recordView(1L);
+        counter.flush();
+
+        ArgumentCaptor<List<Long>> propertyIds = listCaptor();
+        ArgumentCaptor<List<Long>> views = listCaptor();
+        verify(store, times(2)).addViews(any(), propertyIds.capture(), views.capture());
+        assertEquals(Map.of(1L, 3L, 2L, 1L), zip(propertyIds.getValue(), views.getValue()));
+    }
+
+    private Flush onlyFlush() {
+        ArgumentCaptor<LocalDateTime> bucket = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<List<Long>> propertyIds = listCaptor();
+        ArgumentCaptor<List<Long>> views = listCaptor();
+        verify(store).addViews(bucket.capture(), propertyIds.capture(), views.capture());
+        return new Flush(bucket.getValue(), zip(propertyIds.getValue(), views.getValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Long>> listCaptor() {
+        return ArgumentCaptor.forClass((Class<List<Long>>) (Class<?>) List.class);
+    }
+
+    private static Map<Long, Long> zip(List<Long> propertyIds, List<Long> views) {
+        assertEquals(propertyIds.size(), views.size());
+        Map<Long, Long> zipped = new HashMap<>();
+        for (int i = 0; i < propertyIds.size(); i++) {
+            zipped.put(propertyIds.get(i), views.get(i));
+        }
+        return zipped;
+    }
+
+    private record Flush(LocalDateTime bucket, Map<Long, Long> views) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PropertyViewServiceImplTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 10, 12, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 10, 19, 0, 0);
+
+    private final PropertyViewStore store = mock(PropertyViewStore.class);
+    private final PropertyViewServiceImpl service = new PropertyViewServiceImpl(store, 400);
+
+    @Test
+    void rejectsAnUnknownGranularityOrAnEmptyRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.getViewsPerPeriod(5L, "decade", FROM, TO));
+        assertThrows(IllegalArgumentException.class, () -> service.getViewsPerPeriod(5L, "day", TO, FROM));
+        assertThrows(IllegalArgumentException.class, () -> service.getViewsPerPeriod(5L, "day", TO, TO));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void mostViewedCountsBackFromNowInUtc() {
+        LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).minusDays(7);
+
+        service.getMostViewed(7, 20);
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(store).findMostViewed(since.capture(), eq(20));
+        assertTrue(!since.getValue().isBefore(before)
+                && !since.getValue().isAfter(LocalDateTime.now(ZoneOffset.UTC).minusDays(7)));
+    }
+
+    @Test
+    void expiredBucketsAreOlderThanTheRetention() {
+        LocalDateTime before = LocalDateTime.now(ZoneOffset.UTC).minusDays(400);
+
+        service.deleteExpiredBuckets();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(store).deleteOlderThan(cutoff.capture());
+        assertTrue(!cutoff.getValue().isBefore(before)
+                && !cutoff.getValue().isAfter(LocalDateTime.now(ZoneOffset.UTC).minusDays(400)));
+    }
+}
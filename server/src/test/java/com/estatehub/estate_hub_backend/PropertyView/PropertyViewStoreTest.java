@@ -0,0 +1,94 @@
+package com.estatehub.estate_hub_backend.PropertyView;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * property_views: flushed deltas add up per hourly bucket, and the query API sums them back.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PropertyViewStoreTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private static JdbcTemplate jdbcTemplate;
+    private PropertyViewStore store;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @BeforeEach
+    void emptyBuckets() {
+        jdbcTemplate.execute("TRUNCATE property_views");
+        store = new PropertyViewStore(jdbcTemplate);
+    }
+
+    @Test
+    void flushesIntoTheSameBucketAddUp() {
+        store.addViews(MONDAY_9AM, List.of(1L, 2L), List.of(5L, 1L));
+        store.addViews(MONDAY_9AM, List.of(1L), List.of(3L));
+
+        assertEquals(List.of(8L, 1L), jdbcTemplate.queryForList(
+                "SELECT views FROM property_views WHERE bucket_start = ? ORDER BY property_id", Long.class,
+                MONDAY_9AM));
+    }
+
+    @Test
+    void viewsAreSummedPerPeriodWithinTheRange() {
+        store.addViews(MONDAY_9AM, List.of(1L), List.of(5L));
+        store.addViews(MONDAY_9AM.plusHours(3), List.of(1L), List.of(2L));
+        store.addViews(MONDAY_9AM.plusDays(1), List.of(1L, 2L), List.of(4L, 9L));
+        // Outside the range
+        store.addViews(MONDAY_9AM.plusDays(2), List.of(1L), List.of(100L));
+
+        assertEquals(List.of(
+                        new ViewPeriodDto(MONDAY_9AM.toLocalDate().atStartOfDay(), 7),
+                        new ViewPeriodDto(MONDAY_9AM.toLocalDate().plusDays(1).atStartOfDay(), 4)),
+                store.findViewsPerPeriod(1L, "day", MONDAY_9AM, MONDAY_9AM.plusDays(2)));
+        assertEquals(List.of(new ViewPeriodDto(MONDAY_9AM.toLocalDate().atStartOfDay(), 11)),
+                store.findViewsPerPeriod(1L, "week", MONDAY_9AM, MONDAY_9AM.plusDays(2)));
+    }
+
+    @Test
+    void mostViewedRanksListingsSinceTheCutoff() {
+        store.addViews(MONDAY_9AM.minusDays(10), List.of(3L), List.of(1000L));
+        store.addViews(MONDAY_9AM, List.of(1L, 2L, 3L), List.of(5L, 9L, 1L));
+        store.addViews(MONDAY_9AM.plusHours(1), List.of(1L), List.of(2L));
+
+        assertEquals(List.of(new PropertyViewCountDto(2L, 9), new PropertyViewCountDto(1L, 7)),
+                store.findMostViewed(MONDAY_9AM.minusDays(7), 2));
+    }
+
+    @Test
+    void expiredBucketsAreDeleted() {
+        store.addViews(MONDAY_9AM.minusDays(500), List.of(1L), List.of(5L));
+        store.addViews(MONDAY_9AM, List.of(1L), List.of(2L));
+
+        assertEquals(1, store.deleteOlderThan(MONDAY_9AM.minusDays(400)));
+        assertEquals(List.of(2L), jdbcTemplate.queryForList("SELECT views FROM property_views", Long.class));
+    }
+}
@@ -0,0 +1,68 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.Property.ListingSnapshotStore;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent;
+import com.estatehub.estate_hub_backend.Property.PropertyChangedEvent.ChangeType;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+
+class SimilarityIndexListenerTest {
+
+    private final SimilarityIndex index = new SimilarityIndex();
+    private final ListingSnapshotStore store = mock(ListingSnapshotStore.class);
+    private final SimilarityIndexListener listener = new SimilarityIndexListener(index, store);
+
+    @Test
+    void writesCommittedDuringTheLoadAreAppliedAfterIt() {
+        // The load streams listing 1 as it was, while 1 is repriced, 2 created and 3 withdrawn meanwhile
+        doAnswer(invocation -> {
+            Consumer<ListingSnapshot> consumer = invocation.getArgument(0);
+            consumer.accept(listing(1, "1000.00"));
+            listener.onPropertyChanged(new PropertyChangedEvent(1L, 7L, ChangeType.UPDATED));
+            listener.onPropertyChanged(new PropertyChangedEvent(2L, 7L, ChangeType.CREATED));
+            consumer.accept(listing(3, "900.00"));
+            listener.onPropertyChanged(new PropertyChangedEvent(3L, 7L, ChangeType.UNAVAILABLE));
+            return null;
+        }).when(store).forEachAvailable(any());
+        when(store.findById(1L)).thenReturn(Optional.of(listing(1, "1100.00")));
+        when(store.findById(2L)).thenReturn(Optional.of(listing(2, "1500.00")));
+        when(store.findById(3L)).thenReturn(Optional.empty());
+
+        listener.load();
+
+        assertEquals(2, index.size());
+        assertArrayEquals(ListingFeatures.of(listing(1, "1100.00")), index.vectorOf(1L));
+        assertArrayEquals(ListingFeatures.of(listing(2, "1500.00")), index.vectorOf(2L));
+        assertNull(index.vectorOf(3L));
+    }
+
+    @Test
+    void writesAfterTheLoadApplyDirectly() {
+        listener.load();
+        when(store.findById(4L)).thenReturn(Optional.of(listing(4, "800.00")));
+
+        listener.onPropertyChanged(new PropertyChangedEvent(4L, 7L, ChangeType.CREATED));
+
+        assertArrayEquals(ListingFeatures.of(listing(4, "800.00")), index.vectorOf(4L));
+    }
+
+    private static ListingSnapshot listing(long id, String price) {
+        return new ListingSnapshot(id, 7L, new BigDecimal(price), 2, 1f, 800, PropertyType.APARTMENT, true,
+                45.5, -73.6, "Montreal", List.of());
+    }
+}
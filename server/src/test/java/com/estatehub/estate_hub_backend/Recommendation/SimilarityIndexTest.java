@@ -0,0 +1,69 @@
+package com.estatehub.estate_hub_backend.Recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SimilarityIndexTest {
+
+    private static final int DIMENSIONS = 5;
+
+    @Test
+    void nearestMatchesBruteForceAcrossIncrementalWrites() {
+        Random random = new Random(42);
+        Map<Long, float[]> vectors = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            vectors.put(id, randomVector(random));
+        }
+        SimilarityIndex index = new SimilarityIndex();
+        index.load(vectors);
+
+        for (long id = 1; id <= 150; id++) {
+            if (id % 3 == 0) {
+                index.remove(id);
+                vectors.remove(id);
+            } else {
+                float[] vector = randomVector(random);
+                index.upsert(id + (id % 2 == 0 ? 5000 : 0), vector);
+                vectors.put(id + (id % 2 == 0 ? 5000 : 0), vector);
+            }
+        }
+
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomVector(random);
+            List<Long> expected = vectors.entrySet().stream()
+                    .sorted(Comparator.comparingDouble(e -> KdTree.distanceSquared(e.getValue(), query)))
+                    .limit(10)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            List<Long> actual = index.nearest(query, 10, null).stream().map(KdTree.Neighbour::id).toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void nearestExcludesTheQueriedListing() {
+        SimilarityIndex index = new SimilarityIndex();
+        index.load(Map.of(1L, new float[] {0, 0}, 2L, new float[] {1, 1}, 3L, new float[] {5, 5}));
+
+        List<KdTree.Neighbour> neighbours = index.nearest(index.vectorOf(1L), 2, 1L);
+
+        assertEquals(List.of(2L, 3L), neighbours.stream().map(KdTree.Neighbour::id).toList());
+        assertFalse(neighbours.stream().anyMatch(n -> n.id() == 1L));
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = random.nextFloat() * 10;
+        }
+        return vector;
+    }
+}
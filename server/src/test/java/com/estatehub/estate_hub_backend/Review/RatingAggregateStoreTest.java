@@ -0,0 +1,169 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Delta flushes and the full recompute against the migrated schema, including a recompute
+ * racing a flush of the same property.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RatingAggregateStoreTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SEED = """
+            INSERT INTO managers (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'manager_1', 'Manager', 'manager@example.com', '555-0100', now());
+            INSERT INTO tenants (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'tenant_1', 'Tenant', 'tenant@example.com', '555-0101', now());
+            INSERT INTO locations (id, address, city, state, country, postal_code, coordinates, address_key, created_at)
+            VALUES (1, '1 Main Street', 'Montreal', 'QC', 'Canada', 'H2X 1Y1',
+                    ST_MakePoint(-73.57, 45.50)::geography, 'seed', now());
+            INSERT INTO properties (id, name, description, price_per_month, beds, baths, property_type, posted_date,
+                                    is_available, location_id, manager_id, created_at)
+            VALUES (1, 'Loft', 'Seeded listing', 1200, 1, 1, 0, now(), true, 1, 1, now());
+            """;
+
+    // What a flush of one 5-star review does to property 1, as in RatingAggregateStore.APPLY_DELTA
+    private static final String ADD_FIVE_STARS = """
+            UPDATE properties SET
+                rating_sum        = rating_sum + 5,
+                number_of_reviews = number_of_reviews + 1,
+                average_rating    = ROUND((rating_sum + 5)::numeric / (number_of_reviews + 1), 2)
+            WHERE id = 1
+            """;
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private final RatingAggregateStore store = new RatingAggregateStore(jdbcTemplate);
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute(SEED);
+    }
+
+    @BeforeEach
+    void noReviews() {
+        jdbcTemplate.update("DELETE FROM property_reviews");
+        jdbcTemplate.update("UPDATE properties SET rating_sum = 0, number_of_reviews = 0, average_rating = 0");
+    }
+
+    @Test
+    void countsEachReviewOnce() {
+        long first = review(4);
+        long second = review(5);
+
+        assertEquals(2, store.applyDeltas(Map.of(1L, Map.of(first, 4, second, 5))));
+        // A second node flushing the same reviews finds them already claimed
+        assertEquals(0, store.applyDeltas(Map.of(1L, Map.of(first, 4))));
+
+        assertAggregate(9, 2, "4.50");
+    }
+
+    @Test
+    void recomputeRepairsDrift() {
+        long first = review(4);
+        store.applyDeltas(Map.of(1L, Map.of(first, 4)));
+        jdbcTemplate.update("UPDATE properties SET rating_sum = 40, number_of_reviews = 7");
+
+        assertTrue(recompute(1L));
+
+        assertAggregate(4, 1, "4.00");
+        assertFalse(recompute(99L));
+    }
+
+    @Test
+    void recomputeWaitsForAFlushHoldingTheProperty() throws Exception {
+        long flushed = review(2);
+        long later = review(5);
+        store.applyDeltas(Map.of(1L, Map.of(flushed, 2)));
+
+        try (Connection flush = dataSource.getConnection(); Statement statement = flush.createStatement()) {
+            // A flush of review "later" has claimed it and updated the property, but not committed
+            flush.setAutoCommit(false);
+            statement.executeUpdate("UPDATE property_reviews SET aggregated = TRUE WHERE id = " + later);
+            statement.executeUpdate(ADD_FIVE_STARS);
+
+            CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> recompute(1L));
+            Thread.sleep(300);
+            assertFalse(waiting.isDone());
+
+            flush.commit();
+            assertTrue(waiting.get(10, TimeUnit.SECONDS));
+        }
+
+        assertAggregate(7, 2, "3.50");
+    }
+
+    @Test
+    void aFlushAfterTheRecomputeAddsOnTop() throws SQLException {
+        long later = review(5);
+
+        try (Connection flush = dataSource.getConnection(); Statement statement = flush.createStatement()) {
+            // Claimed but the property row not reached yet: the recompute must not count it...
+            flush.setAutoCommit(false);
+            statement.executeUpdate("UPDATE property_reviews SET aggregated = TRUE WHERE id = " + later);
+
+            assertTrue(recompute(1L));
+
+            // ...because the flush adds it once it gets there
+            statement.executeUpdate(ADD_FIVE_STARS);
+            flush.commit();
+        }
+
+        assertAggregate(5, 1, "5.00");
+    }
+
+    // Outside Spring there is no proxy, so open the transaction recompute() is declared to run in
+    private boolean recompute(long propertyId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> store.recompute(propertyId)));
+    }
+
+    private static long review(int rating) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO property_reviews (rating, property_id, tenant_id, created_at)
+                VALUES (?, 1, 1, now()) RETURNING id
+                """, Long.class, rating);
+    }
+
+    private static void assertAggregate(long ratingSum, int reviews, String average) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT rating_sum, number_of_reviews, average_rating FROM properties WHERE id = 1");
+        assertEquals(ratingSum, ((Number) row.get("rating_sum")).longValue());
+        assertEquals(reviews, ((Number) row.get("number_of_reviews")).intValue());
+        assertEquals(0, new BigDecimal(average).compareTo((BigDecimal) row.get("average_rating")));
+    }
+}
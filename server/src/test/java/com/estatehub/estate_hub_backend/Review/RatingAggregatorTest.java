@@ -0,0 +1,75 @@
+package com.estatehub.estate_hub_backend.Review;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RatingAggregatorTest {
+
+    private final RatingAggregateStore store = mock(RatingAggregateStore.class);
+    private final RatingAggregator aggregator = new RatingAggregator(store, 100);
+
+    @Test
+    void flushesBufferedRatingsInOneBatchInPropertyOrder() {
+        List<Map<Long, Map<Long, Integer>>> flushed = recordFlushes();
+        aggregator.onReviewSubmitted(new ReviewSubmittedEvent(1L, 9L, 4));
+        aggregator.onReviewSubmitted(new ReviewSubmittedEvent(2L, 3L, 5));
+        aggregator.onReviewSubmitted(new ReviewSubmittedEvent(3L, 9L, 2));
+
+        aggregator.flush();
+        aggregator.flush();
+
+        assertEquals(1, flushed.size());
+        assertEquals(List.of(3L, 9L), List.copyOf(flushed.get(0).keySet()));
+        assertEquals(Map.of(1L, 4, 3L, 2), flushed.get(0).get(9L));
+    }
+
+    @Test
+    void requeuesAFailedFlush() {
+        when(store.applyDeltas(any())).thenThrow(new IllegalStateException("database down")).thenReturn(1);
+        aggregator.onReviewSubmitted(new ReviewSubmittedEvent(1L, 9L, 4));
+
+        aggregator.flush();
+        aggregator.flush();
+
+        verify(store, times(2)).applyDeltas(Map.of(9L, Map.of(1L, 4)));
+    }
+
+    @Test
+    void recoversReviewsThatWereNeverAggregated() {
+        List<Map<Long, Map<Long, Integer>>> flushed = recordFlushes();
+        when(store.findUnaggregated(100)).thenReturn(List.of(new ReviewSubmittedEvent(7L, 5L, 3)));
+
+        aggregator.recover();
+        aggregator.flush();
+
+        assertEquals(List.of(Map.of(5L, Map.of(7L, 3))), flushed);
+    }
+
+    @Test
+    void skipsTheStoreWhenNothingIsBuffered() {
+        aggregator.flush();
+
+        verify(store, never()).applyDeltas(any());
+    }
+
+    private List<Map<Long, Map<Long, Integer>>> recordFlushes() {
+        List<Map<Long, Map<Long, Integer>>> flushed = new ArrayList<>();
+        when(store.applyDeltas(any())).thenAnswer(invocation -> {
+            Map<Long, Map<Long, Integer>> batch = invocation.getArgument(0);
+            flushed.add(batch);
+            return batch.values().stream().mapToInt(Map::size).sum();
+        });
+        return flushed;
+    }
+}
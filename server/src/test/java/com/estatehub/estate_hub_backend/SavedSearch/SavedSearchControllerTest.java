@@ -0,0 +1,79 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.estatehub.estate_hub_backend.Tenant.TenantIdCache;
+import com.estatehub.estate_hub_backend.Tenant.TenantRepository;
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Request handling of SavedSearchController, through the real service's criteria checks;
+ * access rules are covered by SecurityConfigTest
+ */
+@WebMvcTest(SavedSearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({ SavedSearchServiceImpl.class, SavedSearchControllerTest.Metrics.class })
+class SavedSearchControllerTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SavedSearchRepository savedSearchRepository;
+    @MockitoBean
+    private TenantRepository tenantRepository;
+    @MockitoBean
+    private TenantIdCache tenantIdCache;
+    @MockitoBean
+    private SavedSearchStore savedSearchStore;
+    @MockitoBean
+    private ClerkAuthenticationConverter authenticationConverter;
+
+    @Test
+    void answersBadRequestWhenTheMinimumPriceExceedsTheMaximum() throws Exception {
+        create("{\"name\": \"Cheap\", \"minPrice\": 2000, \"maxPrice\": 1000}");
+    }
+
+    @Test
+    void answersBadRequestWhenTheMinimumBedsExceedTheMaximum() throws Exception {
+        create("{\"name\": \"Roomy\", \"minBeds\": 3, \"maxBeds\": 1}");
+    }
+
+    @Test
+    void answersBadRequestForARadiusWithoutAPoint() throws Exception {
+        create("{\"name\": \"Nearby\", \"latitude\": 45.5, \"radiusKm\": 5}");
+    }
+
+    private void create(String body) throws Exception {
+        mockMvc.perform(post("/api/tenants/user_tenant/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(savedSearchRepository);
+    }
+}
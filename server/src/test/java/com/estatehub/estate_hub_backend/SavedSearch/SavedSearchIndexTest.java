@@ -0,0 +1,112 @@
+package com.estatehub.estate_hub_backend.SavedSearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.estatehub.estate_hub_backend.Property.ListingSnapshot;
+import com.estatehub.estate_hub_backend.enums.PropertyType;
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+
+class SavedSearchIndexTest {
+
+    private static final String[] CITIES = {"Montreal", "Laval", "Quebec", "Gatineau"};
+
+    @Test
+    void matchAgreesWithScanningEverySearch() {
+        Random random = new Random(7);
+        SavedSearchIndex index = new SavedSearchIndex();
+        List<SavedSearchCriteria> active = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            SavedSearchCriteria criteria = randomCriteria(id, random);
+            index.put(criteria);
+            active.add(criteria);
+        }
+        // Deactivate a slice so both the tree tombstones and the rebuild path are exercised
+        for (int i = 0; i < 400; i++) {
+            SavedSearchCriteria removed = active.remove(random.nextInt(active.size()));
+            index.remove(removed.id());
+        }
+
+        for (int i = 0; i < 300; i++) {
+            ListingSnapshot listing = randomListing(random);
+            Set<Long> expected = new TreeSet<>();
+            for (SavedSearchCriteria criteria : active) {
+                if (criteria.matches(listing)) {
+                    expected.add(criteria.id());
+                }
+            }
+            assertEquals(expected, new TreeSet<>(index.match(listing)));
+        }
+    }
+
+    @Test
+    void citiesMatchWhateverTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            SavedSearch search = new SavedSearch();
+            search.setId(1L);
+            search.setCity(" ISTANBUL ");
+            SavedSearchIndex index = new SavedSearchIndex();
+            index.put(SavedSearchCriteria.of(search));
+
+            ListingSnapshot listing = new ListingSnapshot(5L, 1L, BigDecimal.valueOf(1200), 2, 1f, 800,
+                    PropertyType.APARTMENT, true, 41.0, 29.0, "istanbul", List.of());
+
+            assertEquals(Set.of(1L), index.match(listing));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void coveringCellsIncludeEveryPointOfTheArea() {
+        Random random = new Random(11);
+        Set<String> cells = SavedSearchIndex.coveringCells(45.5, -73.6, 30.0);
+        for (int i = 0; i < 2000; i++) {
+            double lat = 45.5 + (random.nextDouble() - 0.5) * 0.6;
+            double lng = -73.6 + (random.nextDouble() - 0.5) * 0.9;
+            if (GeoHash.distanceKm(45.5, -73.6, lat, lng) <= 30.0) {
+                String cell = GeoHash.encode(lat, lng, SavedSearchIndex.CELL_PRECISION);
+                assertTrue(cells.contains(cell), "missing cell " + cell);
+            }
+        }
+    }
+
+    private static SavedSearchCriteria randomCriteria(long id, Random random) {
+        double minPrice = random.nextInt(4) == 0 ? Double.NEGATIVE_INFINITY : 500 + random.nextInt(2000);
+        double maxPrice = random.nextInt(4) == 0 ? Double.POSITIVE_INFINITY : Math.max(minPrice, 0) + random.nextInt(2000);
+        double minBeds = random.nextBoolean() ? Double.NEGATIVE_INFINITY : random.nextInt(3);
+        double maxBeds = random.nextBoolean() ? Double.POSITIVE_INFINITY : Math.max(minBeds, 0) + random.nextInt(3);
+        boolean area = random.nextInt(3) == 0;
+        String city = !area && random.nextBoolean() ? CITIES[random.nextInt(CITIES.length)].toLowerCase(Locale.ROOT) : null;
+        PropertyType type = random.nextInt(3) == 0 ? PropertyType.values()[random.nextInt(3)] : null;
+        return new SavedSearchCriteria(id, minPrice, maxPrice, minBeds, maxBeds, city, type,
+                area ? 45.3 + random.nextDouble() : null,
+                area ? -74.0 + random.nextDouble() : null,
+                area ? 1.0 + random.nextInt(40) : null);
+    }
+
+    private static ListingSnapshot randomListing(Random random) {
+        return new ListingSnapshot(
+                (long) random.nextInt(100_000), 1L,
+                BigDecimal.valueOf(400 + random.nextInt(4000)),
+                random.nextInt(5), 1f, 800,
+                PropertyType.values()[random.nextInt(3)],
+                true,
+                45.3 + random.nextDouble(),
+                -74.0 + random.nextDouble(),
+                CITIES[random.nextInt(CITIES.length)],
+                List.of());
+    }
+}
@@ -0,0 +1,79 @@
+package com.estatehub.estate_hub_backend.Trending;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.estatehub.estate_hub_backend.geo.GeoHash;
+
+class RegionTrendingSketchTest {
+
+    @Test
+    void topKKeepsHeavyHittersAmongNoise() {
+        RegionTrendingSketch region = new RegionTrendingSketch(4, 512, 3);
+        for (long noise = 1000; noise < 1500; noise++) {
+            region.record(noise, 1);
+        }
+        for (int i = 0; i < 100; i++) {
+            region.record(1, 3);
+            region.record(2, 2);
+            region.record(3, 1);
+        }
+
+        List<TopKHeap.Entry> top = region.top();
+
+        assertEquals(List.of(1L, 2L, 3L), top.stream().map(TopKHeap.Entry::key).toList());
+        assertTrue(top.get(0).score() >= 300);
+    }
+
+    @Test
+    void decayHalvesScoresAndEmptiesIdleRegions() {
+        RegionTrendingSketch region = new RegionTrendingSketch(4, 64, 5);
+        region.record(7, 4);
+
+        assertFalse(region.decay());
+        assertEquals(List.of(new TopKHeap.Entry(7, 2)), region.top());
+        assertFalse(region.decay());
+        assertTrue(region.decay());
+        assertTrue(region.top().isEmpty());
+    }
+
+    @Test
+    void aRetiredRegionRefusesRecords() {
+        RegionTrendingSketch region = new RegionTrendingSketch(4, 64, 5);
+
+        assertTrue(region.decay());
+
+        assertFalse(region.record(7, 4));
+        assertTrue(region.top().isEmpty());
+    }
+
+    @Test
+    void recordsAfterARegionDecayedAwayStartAFreshOne() {
+        TrendingServiceImpl trending = new TrendingServiceImpl(5, 4, 64, 5, 1, 10);
+        trending.recordView(7L, 45.50, -73.57);
+        trending.decay();
+        trending.decay();
+
+        trending.recordApplication(8L, 45.50, -73.57);
+
+        assertEquals(List.of(new TrendingPropertyDto(8L, 10)), trending.getTrending(45.50, -73.57, 10));
+    }
+
+    @Test
+    void geohashMatchesReferenceEncodingAndNeighbours() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+
+        List<String> cells = GeoHash.withNeighbours("u4pru");
+
+        assertEquals(9, cells.size());
+        assertEquals("u4pru", cells.get(0));
+        assertEquals(9, new HashSet<>(cells).size());
+        assertTrue(cells.stream().allMatch(cell -> cell.length() == 5));
+    }
+}
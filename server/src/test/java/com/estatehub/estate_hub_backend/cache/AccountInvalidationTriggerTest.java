@@ -0,0 +1,77 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.estatehub.estate_hub_backend.security.ClerkPrincipalCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The V17 triggers: creating a manager or tenant evicts that Clerk ID's cached principal on every node.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AccountInvalidationTriggerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @Test
+    void newManagersAndTenantsEvictTheirPrincipalEverywhere() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+            }
+            PGConnection listener = connection.unwrap(PGConnection.class);
+
+            jdbcTemplate.update("""
+                    INSERT INTO tenants (clerk_id, name, email, phone_number, created_at)
+                    VALUES ('user_1', 'Tenant', 'tenant@example.com', '555-0101', now())
+                    """);
+            jdbcTemplate.update("""
+                    INSERT INTO managers (clerk_id, name, email, phone_number, created_at)
+                    VALUES ('user_1', 'Manager', 'manager@example.com', '555-0100', now())
+                    """);
+            PGNotification[] notifications = listener.getNotifications(5000);
+
+            assertEquals(2, notifications.length);
+            for (PGNotification notification : notifications) {
+                CacheInvalidationMessage message = new ObjectMapper()
+                        .readValue(notification.getParameter(), CacheInvalidationMessage.class);
+                assertEquals("database", message.node());
+                assertEquals(Map.of(ClerkPrincipalCache.NAME, List.of("user_1")), message.keys());
+                assertEquals(List.of(), message.flush());
+            }
+        }
+    }
+}
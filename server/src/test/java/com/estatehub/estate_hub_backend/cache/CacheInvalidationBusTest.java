@@ -0,0 +1,171 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheInvalidationBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final RecordingCache properties = new RecordingCache("property");
+    private final RecordingCache managers = new RecordingCache("manager-id");
+    private final CacheInvalidationBus bus = new CacheInvalidationBus(jdbcTemplate, objectMapper,
+            caches(properties, managers), new SimpleMeterRegistry());
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidatesLocallyOnlyAfterCommitAndSendsOneMessageBeforeIt() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.invalidate("property", 1L);
+        bus.invalidate("property", 2L);
+        bus.invalidate("manager-id", "user_1");
+
+        assertTrue(properties.invalidated.isEmpty());
+        verify(jdbcTemplate, never()).query(anyString(), any(ResultSetExtractor.class), any(), any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        CacheInvalidationMessage sent = objectMapper.readValue(sentPayloads().get(0), CacheInvalidationMessage.class);
+        assertEquals(Set.of("1", "2"), Set.copyOf(sent.keys().get("property")));
+        assertEquals(List.of("user_1"), sent.keys().get("manager-id"));
+        assertTrue(properties.invalidated.isEmpty());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(Set.of("1", "2"), Set.copyOf(properties.invalidated));
+        assertEquals(List.of("user_1"), managers.invalidated);
+    }
+
+    @Test
+    void aRolledBackTransactionInvalidatesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+        bus.invalidate("property", 1L);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(properties.invalidated.isEmpty());
+        verify(jdbcTemplate, never()).query(anyString(), any(ResultSetExtractor.class), any(), any());
+    }
+
+    @Test
+    void tooManyKeysForOneNotifyFlushTheLargestCache() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        for (long id = 1; id <= 2000; id++) {
+            bus.invalidate("property", id);
+        }
+        bus.invalidate("manager-id", "user_1");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        String payload = sentPayloads().get(0);
+        assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= 8000);
+        CacheInvalidationMessage sent = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+        assertEquals(List.of("property"), sent.flush());
+        assertEquals(Map.of("manager-id", List.of("user_1")), sent.keys());
+
+        bus.onNotifications(List.of(payload.replace(sent.node(), "other-node")));
+        assertEquals(1, properties.flushes);
+        assertTrue(properties.invalidated.isEmpty());
+        assertEquals(List.of("user_1"), managers.invalidated);
+    }
+
+    @Test
+    void skipsItsOwnMessagesAndAppliesOtherNodesInOnePass() throws Exception {
+        bus.invalidate("property", 1L);
+        String own = sentPayloads().get(0);
+        properties.invalidated.clear();
+
+        String fromOtherNode = objectMapper.writeValueAsString(new CacheInvalidationMessage(
+                "other-node", System.currentTimeMillis(), Map.of("property", List.of("7")), List.of()));
+        String fromDatabase = """
+                {"node": "database", "sentAt": 0, "keys": {"property": ["7", "8"]}, "flush": []}
+                """;
+        bus.onNotifications(List.of(own, fromOtherNode, fromDatabase, "not json"));
+
+        assertEquals(Set.of("7", "8"), Set.copyOf(properties.invalidated));
+        assertEquals(2, properties.invalidated.size());
+    }
+
+    @Test
+    void flushAllEmptiesEveryCache() {
+        bus.flushAll();
+
+        assertEquals(1, properties.flushes);
+        assertEquals(1, managers.flushes);
+    }
+
+    private List<String> sentPayloads() {
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq(CacheInvalidationBus.CHANNEL), payloads.capture());
+        return payloads.getAllValues().stream().map(String.class::cast).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<InvalidatableCache> caches(InvalidatableCache... caches) {
+        ObjectProvider<InvalidatableCache> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(caches));
+        return provider;
+    }
+
+    private static final class RecordingCache implements InvalidatableCache {
+
+        private final String name;
+        private final List<String> invalidated = new ArrayList<>();
+        private int flushes;
+
+        RecordingCache(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void invalidate(String key) {
+            invalidated.add(key);
+        }
+
+        @Override
+        public void invalidateAll() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+class CacheInvalidationListenerTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+    private final CacheInvalidationListener listener = new CacheInvalidationListener(
+            dataSource, bus, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+    @AfterEach
+    void stop() {
+        listener.stop();
+    }
+
+    @Test
+    void flushesOnEveryConnectBecauseMissedNotificationsAreLost() throws Exception {
+        PGNotification notification = notification("{\"node\": \"a\"}");
+        PGConnection first = mock(PGConnection.class);
+        when(first.getNotifications(anyInt()))
+                .thenReturn(new PGNotification[] { notification })
+                .thenThrow(new SQLException("connection reset"));
+        PGConnection second = mock(PGConnection.class);
+        when(second.getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+        Connection firstConnection = connectionFor(first);
+        Connection secondConnection = connectionFor(second);
+        when(dataSource.getConnection()).thenReturn(firstConnection, secondConnection);
+
+        listener.start();
+
+        verify(bus, timeout(2000)).onNotifications(List.of("{\"node\": \"a\"}"));
+        verify(bus, timeout(3000).times(2)).flushAll();
+        verify(firstConnection, timeout(2000)).close();
+    }
+
+    @Test
+    void unlistensBeforeReturningTheConnectionToThePool() throws Exception {
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getNotifications(anyInt())).thenThrow(new SQLException("connection reset"));
+        Statement statement = mock(Statement.class);
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        Connection reconnected = connectionFor(mock(PGConnection.class));
+        when(dataSource.getConnection()).thenReturn(connection, reconnected);
+
+        listener.start();
+
+        verify(connection, timeout(2000)).close();
+        InOrder inOrder = inOrder(statement, connection);
+        inOrder.verify(statement).execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+        inOrder.verify(statement).execute("UNLISTEN *");
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    void abortsAConnectionThatCannotUnlisten() throws Exception {
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getNotifications(anyInt())).thenThrow(new SQLException("connection reset"));
+        Statement statement = mock(Statement.class);
+        when(statement.execute("UNLISTEN *")).thenThrow(new SQLException("connection reset"));
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        Connection reconnected = connectionFor(mock(PGConnection.class));
+        when(dataSource.getConnection()).thenReturn(connection, reconnected);
+
+        listener.start();
+
+        verify(connection, timeout(2000)).close();
+        verify(connection).abort(any());
+    }
+
+    private static Connection connectionFor(PGConnection pgConnection) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        return connection;
+    }
+
+    private static PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+}
@@ -0,0 +1,87 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LocalCacheTest {
+
+    private final LocalCache<Long, String> cache = new LocalCache<>(
+            "test", 100, Duration.ofMinutes(1), Long::valueOf, new SimpleMeterRegistry()) {};
+
+    @Test
+    void loadsOnlyMissingKeysAndCachesThem() {
+        cache.put(1L, "cached 1");
+
+        Map<Long, String> found = cache.getAll(List.of(1L, 2L, 3L), missing -> {
+            assertEquals(Set.of(2L, 3L), missing);
+            return Map.of(2L, "loaded 2");
+        });
+
+        assertEquals(Map.of(1L, "cached 1", 2L, "loaded 2"), found);
+        assertEquals("loaded 2", cache.getIfPresent(2L));
+        assertNull(cache.getIfPresent(3L));
+    }
+
+    @Test
+    void anInvalidationDuringALoadDropsOnlyTheKeyItConcerns() {
+        Map<Long, String> found = cache.getAll(List.of(1L, 2L, 3L), missing -> {
+            Map<Long, String> loaded = load(missing);
+            // Another writer commits while the rows are in flight
+            cache.invalidate("2");
+            cache.invalidate("9");
+            return loaded;
+        });
+
+        assertEquals(load(Set.of(1L, 2L, 3L)), found);
+        assertEquals("loaded 1", cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertEquals("loaded 3", cache.getIfPresent(3L));
+    }
+
+    @Test
+    void unrelatedInvalidationsKeepTheWholeBatch() {
+        cache.getAll(List.of(1L, 2L), missing -> {
+            cache.evict(5L);
+            return load(missing);
+        });
+
+        assertEquals("loaded 1", cache.getIfPresent(1L));
+        assertEquals("loaded 2", cache.getIfPresent(2L));
+    }
+
+    @Test
+    void aFullFlushDuringALoadDropsTheBatch() {
+        cache.getAll(List.of(1L, 2L), missing -> {
+            cache.invalidateAll();
+            return load(missing);
+        });
+
+        assertNull(cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+    }
+
+    @Test
+    void anInvalidationAfterTheLoadDoesNotLingerIntoTheNext() {
+        cache.getAll(List.of(1L), missing -> load(missing));
+        cache.invalidate("1");
+
+        cache.getAll(List.of(1L), missing -> load(missing));
+
+        assertEquals("loaded 1", cache.getIfPresent(1L));
+    }
+
+    private static Map<Long, String> load(Set<Long> keys) {
+        return keys.stream().collect(Collectors.toMap(Function.identity(), key -> "loaded " + key));
+    }
+}
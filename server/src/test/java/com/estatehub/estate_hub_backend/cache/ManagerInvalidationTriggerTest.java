@@ -0,0 +1,87 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.estatehub.estate_hub_backend.Property.PropertyCache;
+import com.estatehub.estate_hub_backend.Property.PropertyRadiusSearchCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The V16 trigger: a change to a manager's details invalidates their cached listings on every node.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ManagerInvalidationTriggerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    private static final String SEED = """
+            INSERT INTO managers (id, clerk_id, name, email, phone_number, created_at)
+            VALUES (1, 'manager_1', 'Manager', 'manager@example.com', '555-0100', now());
+            INSERT INTO locations (id, address, city, state, country, postal_code, address_key, created_at)
+            VALUES (1, '1 Main Street', 'Montreal', 'QC', 'Canada', 'H2X 1Y1', 'seed', now());
+            INSERT INTO properties (id, name, price_per_month, beds, baths, property_type, posted_date,
+                                    is_available, location_id, manager_id, created_at)
+            VALUES (3, 'Loft', 1200, 1, 1, 0, now(), true, 1, 1, now()),
+                   (4, 'Studio', 900, 0, 1, 0, now(), true, 1, 1, now());
+            """;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute(SEED);
+    }
+
+    @Test
+    void contactChangesInvalidateTheManagersListingsEverywhere() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+            }
+            PGConnection listener = connection.unwrap(PGConnection.class);
+
+            // Unrelated column: no message
+            jdbcTemplate.update("UPDATE managers SET updated_at = now() WHERE id = 1");
+            assertNull(listener.getNotifications(500));
+
+            jdbcTemplate.update("UPDATE managers SET phone_number = '555-0199' WHERE id = 1");
+            PGNotification[] notifications = listener.getNotifications(5000);
+
+            assertEquals(1, notifications.length);
+            CacheInvalidationMessage message = new ObjectMapper()
+                    .readValue(notifications[0].getParameter(), CacheInvalidationMessage.class);
+            assertEquals("database", message.node());
+            assertEquals(Map.of(PropertyCache.NAME, List.of("3", "4"), PropertyRadiusSearchCache.NAME, List.of("3", "4")),
+                    message.keys());
+            assertEquals(List.of(), message.flush());
+        }
+    }
+}
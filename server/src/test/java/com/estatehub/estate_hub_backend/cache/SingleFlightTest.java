@@ -0,0 +1,95 @@
+package com.estatehub.estate_hub_backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    @Test
+    void concurrentCallsForOneKeyShareASingleLoad() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(singleFlight, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "listing-7";
+        }, release, registry);
+
+        for (Future<String> result : results) {
+            assertSame(results.get(0).get(), result.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, registry.counter("estatehub.single-flight.calls", "name", "test", "result", "coalesced").count());
+        assertEquals(1, registry.counter("estatehub.single-flight.calls", "name", "test", "result", "load").count());
+    }
+
+    @Test
+    void aFailureReachesOnlyTheCallsThatSharedIt() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(singleFlight, () -> {
+            await(release);
+            throw new IllegalStateException("database unavailable");
+        }, release, registry);
+
+        for (Future<String> result : results) {
+            Exception failure = assertThrows(Exception.class, result::get);
+            assertEquals(IllegalStateException.class, failure.getCause().getClass());
+        }
+        assertEquals("recovered", singleFlight.execute(7L, () -> "recovered"));
+    }
+
+    // Starts every caller on key 7, lets the load finish once all but the loader are waiting on it
+    private static List<Future<String>> callConcurrently(SingleFlight<Long, String> singleFlight,
+                                                         Supplier<String> loader,
+                                                         CountDownLatch release, SimpleMeterRegistry registry)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(7L, loader)));
+            }
+            while (registry.counter("estatehub.single-flight.calls", "name", "test", "result", "coalesced").count()
+                    < CALLERS - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
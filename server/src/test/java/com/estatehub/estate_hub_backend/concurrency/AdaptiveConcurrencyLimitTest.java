@@ -0,0 +1,78 @@
+package com.estatehub.estate_hub_backend.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void rejectsBeyondTheLimitUntilASlotIsReleased() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 2, 10);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        limit.release(5 * MILLIS, false);
+        assertTrue(limit.tryAcquire());
+        assertEquals(2, limit.inFlight());
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAndRecoversWhenItFalls() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 2, 40, 10);
+        runWindows(limit, 30, 10 * MILLIS);
+        int steady = limit.limit();
+
+        runWindows(limit, 10, 80 * MILLIS);
+        int slowed = limit.limit();
+        assertTrue(slowed < steady, () -> "limit " + slowed + " should drop below " + steady);
+
+        runWindows(limit, 60, 10 * MILLIS);
+        assertTrue(limit.limit() > slowed, () -> "limit " + limit.limit() + " should recover above " + slowed);
+    }
+
+    @Test
+    void backsOffOnFailuresAndStaysWithinBounds() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 3, 20, 5);
+        for (int window = 0; window < 100; window++) {
+            for (int i = 0; i < 5; i++) {
+                assertTrue(limit.tryAcquire());
+                limit.release(10 * MILLIS, true);
+            }
+        }
+        assertEquals(3, limit.limit());
+    }
+
+    @Test
+    void doesNotGrowWhileRequestsLeaveItUnused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 10);
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(10 * MILLIS, false);
+        }
+        assertEquals(10, limit.limit());
+    }
+
+    // Each window keeps as many requests in flight as the limit allows, all with the same latency
+    private static void runWindows(AdaptiveConcurrencyLimit limit, int windows, long latencyNanos) {
+        for (int window = 0; window < windows; window++) {
+            int completed = 0;
+            while (completed < 10) {
+                int acquired = 0;
+                while (acquired < 10 - completed && limit.tryAcquire()) {
+                    acquired++;
+                }
+                for (int i = 0; i < acquired; i++) {
+                    limit.release(latencyNanos, false);
+                }
+                completed += acquired;
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.estatehub.estate_hub_backend.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.estatehub.estate_hub_backend.Application.ApplicationService;
+import com.estatehub.estate_hub_backend.Property.PropertyCache;
+import com.estatehub.estate_hub_backend.Property.Property;
+import com.estatehub.estate_hub_backend.Property.PropertyController;
+import com.estatehub.estate_hub_backend.Property.PropertyMapper;
+import com.estatehub.estate_hub_backend.Property.PropertyRadiusSearchCache;
+import com.estatehub.estate_hub_backend.Property.PropertyRepository;
+import com.estatehub.estate_hub_backend.Property.PropertyService;
+import com.estatehub.estate_hub_backend.PropertyView.PropertyViewCounter;
+import com.estatehub.estate_hub_backend.Trending.TrendingService;
+import com.estatehub.estate_hub_backend.security.ClerkAuthentication;
+import com.estatehub.estate_hub_backend.security.ClerkAuthenticationConverter;
+import com.estatehub.estate_hub_backend.security.ClerkPrincipal;
+import com.estatehub.estate_hub_backend.security.PropertyOwnerAuthorizationManager;
+import com.estatehub.estate_hub_backend.security.VerifiedJwtCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+
+@WebMvcTest(PropertyController.class)
+@Import({SecurityConfig.class, VerifiedJwtCache.class, PropertyOwnerAuthorizationManager.class, SecurityConfigTest.Metrics.class})
+class SecurityConfigTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static final String OWNER_CLERK_ID = "user_owner";
+    private static final Long OWNER_ID = 7L;
+    private static final Long OTHER_MANAGER_ID = 8L;
+
+    private static final String LISTING = """
+            {"name": "Loft", "pricePerMonth": 1500, "propertyType": "APARTMENT", "manager": {"id": %d}}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PropertyService propertyService;
+    @MockitoBean
+    private PropertyMapper propertyMapper;
+    @MockitoBean
+    private PropertyCache propertyCache;
+    @MockitoBean
+    private PropertyRadiusSearchCache radiusSearchCache;
+    @MockitoBean
+    private ApplicationService applicationService;
+    @MockitoBean
+    private PropertyViewCounter propertyViewCounter;
+    @MockitoBean
+    private TrendingService trendingService;
+    @MockitoBean
+    private ClerkAuthenticationConverter authenticationConverter;
+    @MockitoBean
+    private PropertyRepository propertyRepository;
+
+    @Test
+    void publicListingsNeedNoToken() throws Exception {
+        when(propertyService.findProperties(any(), anyBoolean(), any())).thenReturn(Page.empty());
+        when(propertyMapper.toDtoPage(any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/properties")).andExpect(status().isOk());
+    }
+
+    @Test
+    void anonymousErrorsKeepTheirStatus() throws Exception {
+        mockMvc.perform(get("/error").with(errorDispatch(404, "/api/properties/999")))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+        mockMvc.perform(get("/error").with(errorDispatch(429, "/api/properties")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    void onlyTheOwningManagerChangesAListing() throws Exception {
+        when(propertyRepository.findManagerIdById(5L)).thenReturn(Optional.of(OWNER_ID));
+
+        mockMvc.perform(delete("/api/properties/5").with(signedIn(OWNER_ID, null)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/properties/5/mark-unavailable").with(signedIn(OWNER_ID, null)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/properties/5").with(signedIn(OTHER_MANAGER_ID, null)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/properties/5").with(signedIn(OTHER_MANAGER_ID, null))
+                        .contentType(MediaType.APPLICATION_JSON).content(LISTING.formatted(OWNER_ID)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/api/properties/5/mark-unavailable").with(signedIn(OTHER_MANAGER_ID, null)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/properties/6").with(signedIn(OWNER_ID, null)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/properties/5").with(signedIn(null, 3L)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/properties/5"))
+                .andExpect(status().isUnauthorized());
+        verify(propertyService, times(1)).deleteProperty(5L);
+    }
+
+    @Test
+    void onlyTheOwningManagerReadsAListingsApplications() throws Exception {
+        when(propertyRepository.findManagerIdById(5L)).thenReturn(Optional.of(OWNER_ID));
+
+        mockMvc.perform(get("/api/properties/5/applications").with(signedIn(OTHER_MANAGER_ID, null)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/properties/5/applications"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void managersOnlyCreateListingsForThemselves() throws Exception {
+        when(propertyMapper.toNewEntity(any())).thenAnswer(invocation -> new Property());
+        when(propertyService.createProperty(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/api/properties").with(signedIn(OWNER_ID, null))
+                        .contentType(MediaType.APPLICATION_JSON).content(LISTING.formatted(OTHER_MANAGER_ID)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/properties").with(signedIn(null, 3L))
+                        .contentType(MediaType.APPLICATION_JSON).content(LISTING.formatted(OWNER_ID)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/properties").with(signedIn(OWNER_ID, null))
+                        .contentType(MediaType.APPLICATION_JSON).content(LISTING.formatted(OWNER_ID)))
+                .andExpect(status().isCreated());
+        ArgumentCaptor<Property> created = ArgumentCaptor.forClass(Property.class);
+        verify(propertyService).createProperty(created.capture());
+        assertEquals(OWNER_ID, created.getValue().getManager().getId());
+    }
+
+    @Test
+    void managerRoutesAreReservedToTheNamedManager() throws Exception {
+        mockMvc.perform(get("/api/properties/manager/user_other/portfolio").with(signedIn(OWNER_ID, null)))
+                .andExpect(status().isForbidden());
+    }
+
+    private static RequestPostProcessor signedIn(Long managerId, Long tenantId) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject(OWNER_CLERK_ID).build();
+        return authentication(new ClerkAuthentication(new ClerkPrincipal(OWNER_CLERK_ID, managerId, tenantId), jwt));
+    }
+
+    // What the container does after sendError: forward to /error with the original status
+    private static RequestPostProcessor errorDispatch(int status, String requestUri) {
+        return request -> {
+            request.setDispatcherType(DispatcherType.ERROR);
+            request.setAttribute(RequestDispatcher.ERROR_STATUS_CODE, status);
+            request.setAttribute(RequestDispatcher.ERROR_REQUEST_URI, requestUri);
+            return request;
+        };
+    }
+}
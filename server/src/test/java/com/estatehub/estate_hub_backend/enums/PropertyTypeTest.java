@@ -0,0 +1,35 @@
+package com.estatehub.estate_hub_backend.enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyTypeTest {
+
+    @Test
+    void parsesNamesIgnoringCaseAndSpaces() {
+        assertEquals(PropertyType.TOWNHOUSE, PropertyType.parse(" townHouse "));
+    }
+
+    @Test
+    void foldsCaseIndependentlyOfTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // "villa".toUpperCase() is "VİLLA" in Turkish
+            assertEquals(PropertyType.VILLA, PropertyType.parse("villa"));
+            assertEquals(PropertyType.OFFICE, PropertyType.parse("office"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void rejectsUnknownTypes() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PropertyType.parse("castle"));
+        assertEquals("Unknown property type: castle", e.getMessage());
+    }
+}
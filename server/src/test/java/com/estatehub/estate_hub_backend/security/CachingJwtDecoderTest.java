@@ -0,0 +1,212 @@
+package com.estatehub.estate_hub_backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies Clerk-style tokens end to end against a local JWKS endpoint standing in for Clerk
+ */
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    private final AtomicReference<JWKSet> publishedKeys = new AtomicReference<>();
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicReference<CountDownLatch> jwksGate = new AtomicReference<>(new CountDownLatch(0));
+    private final TestClock clock = new TestClock();
+    private HttpServer jwksServer;
+    private JwksKeySource keySource;
+    private JwtDecoder decoder;
+    private RSAKey signingKey;
+
+    @BeforeEach
+    void startJwksStandIn() throws IOException, JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        publishedKeys.set(new JWKSet(signingKey.toPublicJWK()));
+
+        jwksServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        jwksServer.createContext("/.well-known/jwks.json", exchange -> {
+            jwksRequests.incrementAndGet();
+            try {
+                jwksGate.get().await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = publishedKeys.get().toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        jwksServer.start();
+
+        URI jwksUri = URI.create("http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/.well-known/jwks.json");
+        keySource = new JwksKeySource(jwksUri, Duration.ZERO, Clock.systemUTC());
+        keySource.refresh();
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keySource));
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+        JwtTimestampValidator timestampValidator = new JwtTimestampValidator(Duration.ZERO);
+        timestampValidator.setClock(clock);
+        NimbusJwtDecoder verifying = new NimbusJwtDecoder(processor);
+        verifying.setJwtValidator(timestampValidator);
+
+        decoder = new CachingJwtDecoder(verifying,
+                new VerifiedJwtCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)), clock);
+    }
+
+    @AfterEach
+    void stopJwksStandIn() {
+        jwksGate.get().countDown();
+        jwksServer.stop(0);
+    }
+
+    @Test
+    void verifiesATokenOnceAndServesRepeatsFromTheCache() throws JOSEException {
+        String token = sign(signingKey, "user_2abc", NOW.plusSeconds(60));
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertEquals("user_2abc", first.getSubject());
+        assertSame(first, second);
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnUnpublishedKey() throws JOSEException {
+        RSAKey forged = new RSAKeyGenerator(2048).keyID("key-1").generate();
+
+        assertThrows(JwtException.class, () -> decoder.decode(sign(forged, "user_2abc", NOW.plusSeconds(60))));
+    }
+
+    @Test
+    void picksUpRotatedKeysOnFirstSightOfTheirKeyId() throws JOSEException {
+        RSAKey rotated = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        publishedKeys.set(new JWKSet(rotated.toPublicJWK()));
+
+        Jwt jwt = decoder.decode(sign(rotated, "user_2def", NOW.plusSeconds(60)));
+
+        assertEquals("user_2def", jwt.getSubject());
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    void requestsDoNotWaitForARefreshAlreadyInFlight() throws Exception {
+        RSAKey rotated = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        publishedKeys.set(new JWKSet(rotated.toPublicJWK()));
+        CountDownLatch gate = new CountDownLatch(1);
+        jwksGate.set(gate);
+        String token = sign(rotated, "user_2def", NOW.plusSeconds(60));
+
+        CompletableFuture<Boolean> scheduled = CompletableFuture.supplyAsync(keySource::refresh);
+        while (jwksRequests.get() < 2) {
+            Thread.onSpinWait();
+        }
+
+        // Clerk is slow to answer: the request fails fast on the keys held instead of queueing
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertThrows(JwtException.class, () -> decoder.decode(token));
+        });
+        assertEquals(2, jwksRequests.get());
+
+        gate.countDown();
+        assertTrue(scheduled.get(10, TimeUnit.SECONDS));
+        assertEquals("user_2def", decoder.decode(token).getSubject());
+    }
+
+    @Test
+    void neverServesACachedTokenPastItsExpiry() throws JOSEException {
+        String token = sign(signingKey, "user_2abc", NOW.plusSeconds(60));
+        decoder.decode(token);
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThrows(JwtValidationException.class, () -> decoder.decode(token));
+    }
+
+    // A clock the test moves forward by hand
+    private static final class TestClock extends Clock {
+
+        private Instant now = NOW;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static String sign(RSAKey key, String subject, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(subject)
+                .issuer("https://clerk.example.test")
+                .issueTime(Date.from(expiresAt.minusSeconds(60)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,110 @@
+package com.estatehub.estate_hub_backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.estatehub.estate_hub_backend.Manager.ManagerIdCache;
+import com.estatehub.estate_hub_backend.Manager.ManagerRepository;
+import com.estatehub.estate_hub_backend.Tenant.TenantIdCache;
+import com.estatehub.estate_hub_backend.Tenant.TenantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Resolution of a token's Clerk ID to a principal, including users who have no account yet
+ */
+class ClerkAuthenticationConverterTest {
+
+    private static final String CLERK_ID = "user_new";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ManagerRepository managerRepository = mock(ManagerRepository.class);
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+
+    @Test
+    void aUserWithoutAnAccountIsCachedToo() {
+        ClerkPrincipalCache principalCache = principalCache(Duration.ofMinutes(5));
+        ClerkAuthenticationConverter converter = converter(principalCache);
+        when(managerRepository.findIdByClerkId(CLERK_ID)).thenReturn(Optional.empty());
+        when(tenantRepository.findIdByClerkId(CLERK_ID)).thenReturn(Optional.empty());
+
+        ClerkPrincipal first = principal(converter);
+        ClerkPrincipal second = principal(converter);
+
+        assertEquals(new ClerkPrincipal(CLERK_ID, null, null), first);
+        assertEquals(first, second);
+        assertTrue(converter.convert(jwt()).getAuthorities().isEmpty());
+        verify(managerRepository, times(1)).findIdByClerkId(CLERK_ID);
+        verify(tenantRepository, times(1)).findIdByClerkId(CLERK_ID);
+    }
+
+    @Test
+    void creatingTheAccountTakesEffectOnEviction() {
+        ClerkPrincipalCache principalCache = principalCache(Duration.ofMinutes(5));
+        ClerkAuthenticationConverter converter = converter(principalCache);
+        when(managerRepository.findIdByClerkId(CLERK_ID)).thenReturn(Optional.empty());
+        when(tenantRepository.findIdByClerkId(CLERK_ID)).thenReturn(Optional.empty(), Optional.of(7L));
+        principal(converter);
+
+        // What the V17 trigger's notification does on every node
+        principalCache.invalidate(CLERK_ID);
+
+        assertEquals(new ClerkPrincipal(CLERK_ID, null, 7L), principal(converter));
+        assertEquals(List.of(ClerkPrincipal.ROLE_TENANT), converter.convert(jwt()).getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+    }
+
+    @Test
+    void onlyUsersWithoutAnAccountUseTheShortTimeToLive() {
+        ClerkPrincipalCache principalCache = principalCache(Duration.ZERO);
+        ClerkAuthenticationConverter converter = converter(principalCache);
+        when(managerRepository.findIdByClerkId(CLERK_ID)).thenReturn(Optional.empty());
+        when(tenantRepository.findIdByClerkId(CLERK_ID)).thenReturn(Optional.empty());
+        when(managerRepository.findIdByClerkId("user_manager")).thenReturn(Optional.of(3L));
+        when(tenantRepository.findIdByClerkId("user_manager")).thenReturn(Optional.empty());
+
+        principal(converter);
+        principal(converter);
+        converter.convert(jwt("user_manager"));
+        converter.convert(jwt("user_manager"));
+
+        verify(tenantRepository, times(2)).findIdByClerkId(CLERK_ID);
+        verify(tenantRepository, times(1)).findIdByClerkId("user_manager");
+    }
+
+    private ClerkPrincipalCache principalCache(Duration noAccountTimeToLive) {
+        return new ClerkPrincipalCache(meterRegistry, 1000, Duration.ofMinutes(5), noAccountTimeToLive);
+    }
+
+    private ClerkAuthenticationConverter converter(ClerkPrincipalCache principalCache) {
+        return new ClerkAuthenticationConverter(principalCache,
+                new ManagerIdCache(meterRegistry, 1000, Duration.ofHours(1)),
+                new TenantIdCache(meterRegistry, 1000, Duration.ofHours(1)),
+                managerRepository, tenantRepository);
+    }
+
+    private static ClerkPrincipal principal(ClerkAuthenticationConverter converter) {
+        return (ClerkPrincipal) converter.convert(jwt()).getPrincipal();
+    }
+
+    private static Jwt jwt() {
+        return jwt(CLERK_ID);
+    }
+
+    private static Jwt jwt(String clerkId) {
+        return Jwt.withTokenValue("token").header("alg", "RS256").subject(clerkId).build();
+    }
+}